@@ -54,6 +54,12 @@ object Config {
         // https://mvnrepository.com/artifact/com.caoccao.javet.buddy/javet-buddy
         const val JAVET_BUDDY = "com.caoccao.javet.buddy:javet-buddy:${Versions.JAVET_BUDDY}"
 
+        // https://mvnrepository.com/artifact/org.openjdk.jmh/jmh-core
+        const val JMH_CORE = "org.openjdk.jmh:jmh-core:${Versions.JMH}"
+
+        // https://mvnrepository.com/artifact/org.openjdk.jmh/jmh-generator-annprocess
+        const val JMH_GENERATOR_ANNPROCESS = "org.openjdk.jmh:jmh-generator-annprocess:${Versions.JMH}"
+
         // https://mvnrepository.com/artifact/org.eclipse.jetty.websocket/javax-websocket-server-impl
         const val JETTY_JAVAX_WEBSOCKET_SERVER_IMPL =
             "org.eclipse.jetty.websocket:javax-websocket-server-impl:${Versions.JETTY_WEBSOCKET}"
@@ -69,6 +75,7 @@ object Config {
         const val JAVET = "5.0.10"
         const val JAVET_BUDDY = "0.4.0"
         const val JETTY_WEBSOCKET = "9.4.53.v20231009"
+        const val JMH = "1.37"
         const val JUNIT = "5.11.3"
     }
 }
@@ -95,7 +102,17 @@ java {
     withJavadocJar()
 }
 
+sourceSets {
+    // The JMH benchmarks are kept in a separate source set so that they are not shipped or run as tests.
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
 dependencies {
+    "jmhImplementation"(Config.Projects.JMH_CORE)
+    "jmhAnnotationProcessor"(Config.Projects.JMH_GENERATOR_ANNPROCESS)
     testImplementation(Config.Projects.BYTE_BUDDY)
     testImplementation(Config.Projects.JACKSON_DATABIND)
     testImplementation(Config.Projects.JAVET_BUDDY)
@@ -151,6 +168,17 @@ tasks.test {
     }
 }
 
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks. Pass JMH arguments via -PjmhArgs=\"...\"."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val jmhArgs = project.findProperty("jmhArgs")?.toString()
+    if (!jmhArgs.isNullOrBlank()) {
+        args(jmhArgs.trim().split(Regex("\\s+")))
+    }
+}
+
 tasks.register<Test>("performanceTest") {
     useJUnitPlatform {
         includeTags("performance")
@@ -31,6 +31,14 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCre
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCreate__JLjava_nio_ByteBuffer_2
   (JNIEnv *, jobject, jlong, jobject);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    arrayBufferCreate
+ * Signature: (JLjava/nio/ByteBuffer;ZLjava/lang/Object;)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCreate__JLjava_nio_ByteBuffer_2ZLjava_lang_Object_2
+  (JNIEnv *, jobject, jlong, jobject, jboolean, jobject);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    arrayCreate
@@ -39,6 +47,22 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCre
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayCreate
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    arrayCreateFromBooleans
+ * Signature: (J[Z)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayCreateFromBooleans
+  (JNIEnv *, jobject, jlong, jbooleanArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    arrayCreateFromChars
+ * Signature: (J[C)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayCreateFromChars
+  (JNIEnv *, jobject, jlong, jcharArray);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    arrayGetLength
@@ -191,6 +215,14 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_doubleObjectCr
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_doubleObjectValueOf
   (JNIEnv *, jobject, jlong, jlong, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    deserialize
+ * Signature: (JLjava/lang/Object;II)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_deserialize
+  (JNIEnv *, jobject, jlong, jobject, jint, jint);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    equals
@@ -383,6 +415,22 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_functionSetSo
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_getGlobalObject
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getInternalizedStringCacheCapacity
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getInternalizedStringCacheCapacity
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getInternalizedStringCacheSize
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getInternalizedStringCacheSize
+  (JNIEnv *, jobject, jlong);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    getInternalStatistic
@@ -471,6 +519,14 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_integerObjectC
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_integerObjectValueOf
   (JNIEnv *, jobject, jlong, jlong, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    internalizeString
+ * Signature: (JLjava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_internalizeString
+  (JNIEnv *, jobject, jlong, jstring);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    isBatterySaverModeEnabled
@@ -479,6 +535,14 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_integerObjectV
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_isBatterySaverModeEnabled
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    isCodeCacheRejected
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_isCodeCacheRejected
+  (JNIEnv *, jobject, jlong);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    isDead
@@ -730,10 +794,10 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_mapSetUndefin
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    moduleCompile
- * Signature: (JLjava/lang/String;[BZLjava/lang/String;IIIZZ)Ljava/lang/Object;
+ * Signature: (JLjava/lang/Object;[BZLjava/lang/String;IIIZZ)Ljava/lang/Object;
  */
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_moduleCompile
-  (JNIEnv *, jobject, jlong, jstring, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean, jboolean);
+  (JNIEnv *, jobject, jlong, jobject, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean, jboolean);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
@@ -754,10 +818,10 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_moduleEvaluate
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    moduleExecute
- * Signature: (JLjava/lang/String;[BZLjava/lang/String;IIIZ)Ljava/lang/Object;
+ * Signature: (JLjava/lang/Object;[BZLjava/lang/String;IIIZ)Ljava/lang/Object;
  */
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_moduleExecute
-  (JNIEnv *, jobject, jlong, jstring, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean);
+  (JNIEnv *, jobject, jlong, jobject, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
@@ -847,6 +911,22 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_moduleIsSynth
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_objectCreate
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    objectCreateFromEntries
+ * Signature: (J[Ljava/lang/String;[I[J[D[Ljava/lang/Object;)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_objectCreateFromEntries
+  (JNIEnv *, jobject, jlong, jobjectArray, jintArray, jlongArray, jdoubleArray, jobjectArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    objectDeepRead
+ * Signature: (JJIIZ)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_caoccao_javet_interop_V8Native_objectDeepRead
+  (JNIEnv *, jobject, jlong, jlong, jint, jint, jboolean);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    objectDelete
@@ -1287,6 +1367,14 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeRawPointer
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHandle
   (JNIEnv *, jobject, jlong, jlong, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    removeReferenceHandles
+ * Signature: (J[J[I)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHandles
+  (JNIEnv *, jobject, jlong, jlongArray, jintArray);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    reportPendingMessages
@@ -1330,18 +1418,18 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_sameValue
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    scriptCompile
- * Signature: (JLjava/lang/String;[BZLjava/lang/String;IIIZZ)Ljava/lang/Object;
+ * Signature: (JLjava/lang/Object;[BZLjava/lang/String;IIIZZ)Ljava/lang/Object;
  */
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptCompile
-  (JNIEnv *, jobject, jlong, jstring, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean, jboolean);
+  (JNIEnv *, jobject, jlong, jobject, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean, jboolean);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    scriptExecute
- * Signature: (JLjava/lang/String;[BZLjava/lang/String;IIIZ)Ljava/lang/Object;
+ * Signature: (JLjava/lang/Object;[BZLjava/lang/String;IIIZ)Ljava/lang/Object;
  */
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptExecute
-  (JNIEnv *, jobject, jlong, jstring, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean);
+  (JNIEnv *, jobject, jlong, jobject, jbyteArray, jboolean, jstring, jint, jint, jint, jboolean);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
@@ -1367,6 +1455,38 @@ JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_scriptGetResou
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptRun
   (JNIEnv *, jobject, jlong, jlong, jint, jboolean);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    scriptStreamingCreate
+ * Signature: (JLjava/lang/Object;)J
+ */
+JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingCreate
+  (JNIEnv *, jobject, jlong, jobject);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    scriptStreamingFinish
+ * Signature: (JJZLjava/lang/String;IIIZ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingFinish
+  (JNIEnv *, jobject, jlong, jlong, jboolean, jstring, jint, jint, jint, jboolean);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    scriptStreamingRelease
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingRelease
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    scriptStreamingRun
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingRun
+  (JNIEnv *, jobject, jlong);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    setAdd
@@ -1383,6 +1503,14 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setAdd
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_setAsArray
   (JNIEnv *, jobject, jlong, jlong, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    serialize
+ * Signature: (JLjava/lang/Object;I)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_com_caoccao_javet_interop_V8Native_serialize
+  (JNIEnv *, jobject, jlong, jobject, jint);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    setBatterySaverModeEnabled
@@ -1431,6 +1559,14 @@ JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_setGetSize
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setHas
   (JNIEnv *, jobject, jlong, jlong, jint, jobject, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    setInternalizedStringCacheCapacity
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setInternalizedStringCacheCapacity
+  (JNIEnv *, jobject, jlong, jint);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    setMemorySaverModeEnabled
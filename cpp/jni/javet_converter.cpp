@@ -24,11 +24,54 @@
 #include "javet_exceptions.h"
 #include "javet_logging.h"
 
+namespace {
+    /*
+     * The external string resource keeps the direct byte buffer alive
+     * until V8 disposes the external string.
+     */
+    class ExternalByteBufferStringResource final : public v8::String::ExternalOneByteStringResource {
+    public:
+        ExternalByteBufferStringResource(
+            JavaVM* javaVM,
+            jobject globalByteBuffer,
+            const char* data,
+            size_t length) noexcept
+            : javaVM(javaVM), globalByteBuffer(globalByteBuffer), dataPointer(data), dataLength(length) {
+        }
+
+        const char* data() const override {
+            return dataPointer;
+        }
+
+        void Dispose() override {
+            if (globalByteBuffer != nullptr && javaVM != nullptr) {
+                auto jniEnvScope = Javet::JNIEnvScope::Acquire(javaVM);
+                if (jniEnvScope) {
+                    jniEnvScope.Get()->DeleteGlobalRef(globalByteBuffer);
+                    INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
+                }
+            }
+            delete this;
+        }
+
+        size_t length() const override {
+            return dataLength;
+        }
+
+    private:
+        JavaVM* javaVM;
+        jobject globalByteBuffer;
+        const char* dataPointer;
+        size_t dataLength;
+    };
+}
+
 namespace Javet {
     namespace Converter {
         // JDK
 
         jclass jclassByteBuffer;
+        jclass jclassObject;
         jclass jclassString;
 
         // Runtime
@@ -175,6 +218,9 @@ namespace Javet {
         jclass jclassJavetScriptingError;
         jmethodID jmethodIDJavetScriptingErrorConstructor;
 
+        jclass jclassIJavetArrayBufferReleaseCallback;
+        jmethodID jmethodIDIJavetArrayBufferReleaseCallbackRelease;
+
         jclass jclassIV8ValueFunctionScriptSource;
         jmethodID jmethodIDIV8ValueFunctionScriptSourceConstructor;
         jmethodID jmethodIDIV8ValueFunctionScriptGetCode;
@@ -569,11 +615,15 @@ namespace Javet {
 
             // Misc
             jniInitializer.FindGlobalClass(jclassByteBuffer, "java/nio/ByteBuffer");
+            jniInitializer.FindGlobalClass(jclassObject, "java/lang/Object");
             jniInitializer.FindGlobalClass(jclassString, "java/lang/String");
 
             jniInitializer.FindGlobalClass(jclassJavetScriptingError, "com/caoccao/javet/exceptions/JavetScriptingError");
             jniInitializer.GetMethodID(jmethodIDJavetScriptingErrorConstructor, jclassJavetScriptingError, "<init>", "(Lcom/caoccao/javet/values/V8Value;Ljava/lang/String;Ljava/lang/String;IIIII)V");
 
+            jniInitializer.FindGlobalClass(jclassIJavetArrayBufferReleaseCallback, "com/caoccao/javet/interop/callback/IJavetArrayBufferReleaseCallback");
+            jniInitializer.GetMethodID(jmethodIDIJavetArrayBufferReleaseCallbackRelease, jclassIJavetArrayBufferReleaseCallback, "release", "(Ljava/nio/ByteBuffer;)V");
+
             jniInitializer.FindGlobalClass(jclassIV8ValueFunctionScriptSource, "com/caoccao/javet/values/reference/IV8ValueFunction$ScriptSource");
             jniInitializer.GetMethodID(jmethodIDIV8ValueFunctionScriptSourceConstructor, jclassIV8ValueFunctionScriptSource, "<init>", "(Ljava/lang/String;II)V");
             jniInitializer.GetMethodID(jmethodIDIV8ValueFunctionScriptGetCode, jclassIV8ValueFunctionScriptSource, "getCode", "()Ljava/lang/String;");
@@ -1306,6 +1356,46 @@ namespace Javet {
                 V8LocalPrimitiveArray());
         }
 
+        V8LocalString ToV8ScriptSource(
+            JNIEnv* jniEnv,
+            V8Isolate* v8Isolate,
+            const jobject mScript) noexcept {
+            if (mScript == nullptr || !IsJavaByteBuffer(jniEnv, mScript)) {
+                return ToV8String(jniEnv, v8Isolate, static_cast<jstring>(mScript));
+            }
+            auto data = static_cast<const char*>(jniEnv->GetDirectBufferAddress(mScript));
+            const jlong capacity = jniEnv->GetDirectBufferCapacity(mScript);
+            if (data == nullptr || capacity < 0) {
+                return V8LocalString();
+            }
+            if (capacity == 0) {
+                return v8::String::Empty(v8Isolate);
+            }
+            JavaVM* javaVM = nullptr;
+            if (jniEnv->GetJavaVM(&javaVM) != JNI_OK || javaVM == nullptr) {
+                return V8LocalString();
+            }
+            jobject globalByteBuffer = jniEnv->NewGlobalRef(mScript);
+            if (globalByteBuffer == nullptr) {
+                return V8LocalString();
+            }
+            INCREASE_COUNTER(Javet::Monitor::CounterType::NewGlobalRef);
+            auto resource = new (std::nothrow) ExternalByteBufferStringResource(
+                javaVM, globalByteBuffer, data, static_cast<size_t>(capacity));
+            if (resource == nullptr) {
+                jniEnv->DeleteGlobalRef(globalByteBuffer);
+                INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
+                return V8LocalString();
+            }
+            V8LocalString v8LocalString;
+            if (!v8::String::NewExternalOneByte(v8Isolate, resource).ToLocal(&v8LocalString)) {
+                // V8 doesn't take the ownership of the resource if the string cannot be created.
+                resource->Dispose();
+                return V8LocalString();
+            }
+            return v8LocalString;
+        }
+
         V8LocalString ToV8String(
             JNIEnv* jniEnv,
             V8Isolate* v8Isolate,
@@ -1484,6 +1574,21 @@ namespace Javet {
             return objects;
         }
 
+        V8LocalValue ToV8PropertyKey(
+            JNIEnv* jniEnv,
+            V8Runtime* v8Runtime,
+            const V8LocalContext& v8Context,
+            const jobject key,
+            const jint keyType) noexcept {
+            if (key != nullptr && keyType == static_cast<jint>(Javet::Enums::V8ValueType::String)) {
+                jstring stringKey = ToJavaStringFromV8ValueString(jniEnv, key);
+                auto v8LocalStringKey = v8Runtime->internalizedStringCache.Get(jniEnv, v8Runtime->v8Isolate, stringKey);
+                DELETE_LOCAL_REF(jniEnv, stringKey);
+                return v8LocalStringKey;
+            }
+            return ToV8Value(jniEnv, v8Runtime->v8Isolate, v8Context, key, keyType);
+        }
+
         std::vector<V8LocalString> ToV8Strings(
             JNIEnv* jniEnv,
             V8Isolate* v8Isolate,
@@ -56,8 +56,12 @@ namespace Javet {
         extern jmethodID jmethodIDV8ValueStringToPrimitive;
 
         extern jclass jclassByteBuffer;
+        extern jclass jclassObject;
         extern jclass jclassString;
 
+        extern jclass jclassIJavetArrayBufferReleaseCallback;
+        extern jmethodID jmethodIDIJavetArrayBufferReleaseCallbackRelease;
+
         extern jclass jclassIV8ValueFunctionScriptSource;
         extern jmethodID jmethodIDIV8ValueFunctionScriptSourceConstructor;
         extern jmethodID jmethodIDIV8ValueFunctionScriptGetCode;
@@ -342,6 +346,17 @@ namespace Javet {
             return v8::String::NewFromUtf8(v8Isolate, str).ToLocalChecked();
         }
 
+        /*
+         * The script is either a Java string or a direct byte buffer of one-byte characters.
+         * The byte buffer is referenced by V8 as an external string without being copied.
+         * The whole capacity of the byte buffer is used regardless of its position and limit,
+         * so the Java side passes a slice of the remaining bytes.
+         */
+        V8LocalString ToV8ScriptSource(
+            JNIEnv* jniEnv,
+            V8Isolate* v8Isolate,
+            const jobject mScript) noexcept;
+
         V8LocalString ToV8String(
             JNIEnv* jniEnv,
             V8Isolate* v8Isolate,
@@ -367,6 +382,16 @@ namespace Javet {
             const jobjectArray mObjects,
             const jintArray mObjectTypes) noexcept;
 
+        /*
+         * String keys are served from the internalized string cache of the V8 runtime.
+         */
+        V8LocalValue ToV8PropertyKey(
+            JNIEnv* jniEnv,
+            V8Runtime* v8Runtime,
+            const V8LocalContext& v8Context,
+            const jobject key,
+            const jint keyType) noexcept;
+
         std::vector<V8LocalString> ToV8Strings(
             JNIEnv* jniEnv,
             V8Isolate* v8Isolate,
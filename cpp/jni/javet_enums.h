@@ -21,6 +21,29 @@
 
 namespace Javet {
     namespace Enums {
+        enum class DeepReadTag : jbyte {
+            Null = 0,
+            False = 1,
+            True = 2,
+            Integer = 3,
+            Double = 4,
+            Long = 5,
+            OneByteString = 6,
+            TwoByteString = 7,
+            ZonedDateTime = 8,
+            Array = 9,
+            Object = 10,
+            Map = 11,
+            Set = 12,
+            Bytes = 13,
+            Shorts = 14,
+            Integers = 15,
+            Floats = 16,
+            Doubles = 17,
+            Longs = 18,
+            Reference = 19,
+        };
+
         namespace NodeScriptMode {
             enum NodeScriptMode {
                 String = 0,
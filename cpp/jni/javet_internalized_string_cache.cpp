@@ -0,0 +1,86 @@
+/*
+ *   Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *   All rights reserved.
+
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+
+ *   http://www.apache.org/licenses/LICENSE-2.0
+
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+#include "javet_converter.h"
+#include "javet_internalized_string_cache.h"
+
+namespace Javet {
+    InternalizedStringCache::InternalizedStringCache() noexcept
+        : capacity(DEFAULT_CAPACITY), lruKeys(), entries() {
+    }
+
+    void InternalizedStringCache::Clear() noexcept {
+        lruKeys.clear();
+        entries.clear();
+    }
+
+    void InternalizedStringCache::EvictLeastRecentlyUsed() noexcept {
+        if (!lruKeys.empty()) {
+            auto entryIterator = entries.find(*lruKeys.back());
+            lruKeys.pop_back();
+            if (entryIterator != entries.end()) {
+                entries.erase(entryIterator);
+            }
+        }
+    }
+
+    V8LocalString InternalizedStringCache::Get(
+        JNIEnv* jniEnv,
+        V8Isolate* v8Isolate,
+        const jstring mString) noexcept {
+        if (mString == nullptr) {
+            return V8LocalString();
+        }
+        const jsize length = jniEnv->GetStringLength(mString);
+        if (capacity == 0 || length > MAX_STRING_LENGTH) {
+            return Javet::Converter::ToV8String(jniEnv, v8Isolate, mString);
+        }
+        std::u16string key(static_cast<size_t>(length), u'\0');
+        if (length > 0) {
+            jniEnv->GetStringRegion(mString, 0, length, reinterpret_cast<jchar*>(key.data()));
+        }
+        auto entryIterator = entries.find(key);
+        if (entryIterator != entries.end()) {
+            lruKeys.splice(lruKeys.begin(), lruKeys, entryIterator->second.lruIterator);
+            return entryIterator->second.v8GlobalString.Get(v8Isolate);
+        }
+        V8LocalString v8LocalString;
+        if (!v8::String::NewFromTwoByte(
+            v8Isolate,
+            reinterpret_cast<const uint16_t*>(key.data()),
+            v8::NewStringType::kInternalized,
+            length).ToLocal(&v8LocalString)) {
+            return V8LocalString();
+        }
+        if (entries.size() >= capacity) {
+            EvictLeastRecentlyUsed();
+        }
+        auto emplaceResult = entries.emplace(std::move(key), Entry());
+        auto& entry = emplaceResult.first->second;
+        entry.v8GlobalString.Reset(v8Isolate, v8LocalString);
+        lruKeys.push_front(&emplaceResult.first->first);
+        entry.lruIterator = lruKeys.begin();
+        return v8LocalString;
+    }
+
+    void InternalizedStringCache::SetCapacity(const size_t capacity) noexcept {
+        this->capacity = capacity;
+        while (entries.size() > capacity) {
+            EvictLeastRecentlyUsed();
+        }
+    }
+}
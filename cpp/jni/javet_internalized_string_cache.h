@@ -0,0 +1,69 @@
+/*
+ *   Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *   All rights reserved.
+
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+
+ *   http://www.apache.org/licenses/LICENSE-2.0
+
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+#pragma once
+
+#include <list>
+#include <string>
+#include <unordered_map>
+#include "javet_native.h"
+
+namespace Javet {
+    /*
+     * The internalized string cache maps Java strings to internalized V8 strings
+     * so that the property keys frequently crossing the JNI boundary are neither
+     * re-allocated in the V8 heap nor looked up in the V8 string table again.
+     * It is bounded by the LRU policy and must be accessed with the V8 locker held.
+     */
+    class InternalizedStringCache {
+    public:
+        static constexpr size_t DEFAULT_CAPACITY = 1024;
+        static constexpr jsize MAX_STRING_LENGTH = 256;
+
+        InternalizedStringCache() noexcept;
+
+        void Clear() noexcept;
+
+        [[nodiscard]] V8LocalString Get(
+            JNIEnv* jniEnv,
+            V8Isolate* v8Isolate,
+            const jstring mString) noexcept;
+
+        [[nodiscard]] inline size_t GetCapacity() const noexcept {
+            return capacity;
+        }
+
+        [[nodiscard]] inline size_t GetSize() const noexcept {
+            return entries.size();
+        }
+
+        void SetCapacity(const size_t capacity) noexcept;
+
+    private:
+        struct Entry {
+            v8::Global<v8::String> v8GlobalString;
+            std::list<const std::u16string*>::iterator lruIterator;
+        };
+
+        size_t capacity;
+        // The most recently used key is at the front.
+        std::list<const std::u16string*> lruKeys;
+        std::unordered_map<std::u16string, Entry> entries;
+
+        void EvictLeastRecentlyUsed() noexcept;
+    };
+}
@@ -15,6 +15,9 @@
  *   limitations under the License.
  */
 
+#include <memory>
+#include <vector>
+
 #include "javet_jni.h"
 
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayCreate
@@ -27,6 +30,59 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayCreate
     return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
 }
 
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayCreateFromBooleans
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jbooleanArray mBooleans) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    const jsize length = jniEnv->GetArrayLength(mBooleans);
+    std::vector<v8::Local<v8::Value>> v8LocalValues;
+    if (length > 0) {
+        auto booleans = std::make_unique<jboolean[]>(length);
+        jniEnv->GetBooleanArrayRegion(mBooleans, 0, length, booleans.get());
+        v8::Local<v8::Value> v8LocalTrue = v8::True(v8Isolate);
+        v8::Local<v8::Value> v8LocalFalse = v8::False(v8Isolate);
+        v8LocalValues.reserve(length);
+        for (jsize i = 0; i < length; ++i) {
+            v8LocalValues.push_back(booleans[i] ? v8LocalTrue : v8LocalFalse);
+        }
+    }
+    auto v8LocalArray = v8::Array::New(v8Isolate, v8LocalValues.data(), v8LocalValues.size());
+    if (!v8LocalArray.IsEmpty()) {
+        return v8Runtime->SafeToExternalV8Value(jniEnv, v8Isolate, v8Context, v8LocalArray);
+    }
+    return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+}
+
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayCreateFromChars
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jcharArray mChars) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    const jsize length = jniEnv->GetArrayLength(mChars);
+    std::vector<v8::Local<v8::Value>> v8LocalValues;
+    if (length > 0) {
+        auto chars = std::make_unique<jchar[]>(length);
+        jniEnv->GetCharArrayRegion(mChars, 0, length, chars.get());
+        v8LocalValues.reserve(length);
+        for (jsize i = 0; i < length; ++i) {
+            // One-byte chars are served from the single character string table of V8.
+            v8::Local<v8::String> v8LocalString;
+            if (!v8::String::NewFromTwoByte(
+                v8Isolate,
+                reinterpret_cast<const uint16_t*>(chars.get() + i),
+                v8::NewStringType::kNormal,
+                1).ToLocal(&v8LocalString)) {
+                return Javet::Exceptions::ThrowJavetConverterException(
+                    jniEnv,
+                    "Failed to create the string from the char.");
+            }
+            v8LocalValues.push_back(v8LocalString);
+        }
+    }
+    auto v8LocalArray = v8::Array::New(v8Isolate, v8LocalValues.data(), v8LocalValues.size());
+    if (!v8LocalArray.IsEmpty()) {
+        return v8Runtime->SafeToExternalV8Value(jniEnv, v8Isolate, v8Context, v8LocalArray);
+    }
+    return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+}
+
 JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_arrayGetLength
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType) {
     RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
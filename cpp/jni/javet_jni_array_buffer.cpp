@@ -23,10 +23,20 @@
 
 #include "javet_jni.h"
 
-#ifndef V8_ENABLE_SANDBOX
 namespace {
+    void InvokeReleaseCallback(JNIEnv* jniEnv, jobject releaseCallback, jobject byteBuffer) {
+        if (releaseCallback != nullptr) {
+            jniEnv->CallVoidMethod(
+                releaseCallback,
+                Javet::Converter::jmethodIDIJavetArrayBufferReleaseCallbackRelease,
+                byteBuffer);
+        }
+    }
+
+#ifndef V8_ENABLE_SANDBOX
     struct DirectByteBufferReference {
         jobject byteBuffer;
+        jobject releaseCallback;
         JavaVM* javaVM;
     };
 
@@ -42,13 +52,149 @@ namespace {
         auto jniEnvScope = Javet::JNIEnvScope::Acquire(directByteBufferReference->javaVM);
         if (jniEnvScope) {
             JNIEnv* jniEnv = jniEnvScope.Get();
+            if (directByteBufferReference->releaseCallback != nullptr) {
+                // The deleter may run on any thread, so there is no caller to receive the exception.
+                // V8Runtime logs the exceptions thrown by the caller's callback before they reach here.
+                InvokeReleaseCallback(
+                    jniEnv,
+                    directByteBufferReference->releaseCallback,
+                    directByteBufferReference->byteBuffer);
+                if (jniEnv->ExceptionCheck()) {
+                    jniEnv->ExceptionClear();
+                    LOG_ERROR("DeleteDirectByteBufferReference: Exception occurred in the release callback.");
+                }
+                jniEnv->DeleteGlobalRef(directByteBufferReference->releaseCallback);
+                INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
+            }
             jniEnv->DeleteGlobalRef(directByteBufferReference->byteBuffer);
             INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
         }
     }
-}
 #endif
 
+    jobject CreateArrayBuffer(
+        JNIEnv* jniEnv,
+        jlong v8RuntimeHandle,
+        jobject mByteBuffer,
+        bool shared,
+        jobject mReleaseCallback) {
+        RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+        void* sourceData = jniEnv->GetDirectBufferAddress(mByteBuffer);
+        const jlong sourceCapacity = jniEnv->GetDirectBufferCapacity(mByteBuffer);
+        if (sourceData == nullptr || sourceCapacity < 0) {
+            return Javet::Exceptions::ThrowJavetConverterException(
+                jniEnv,
+                "Byte buffer must be direct.");
+        }
+        if (static_cast<std::uintmax_t>(sourceCapacity) >
+            static_cast<std::uintmax_t>(std::numeric_limits<size_t>::max())) {
+            return Javet::Exceptions::ThrowJavetConverterException(
+                jniEnv,
+                "Byte buffer capacity is too large.");
+        }
+        const auto sourceLength = static_cast<size_t>(sourceCapacity);
+        v8::Local<v8::Value> v8LocalValue;
+#ifdef V8_ENABLE_SANDBOX
+        // V8's sandbox requires backing stores to live inside the sandbox address
+        // space. The JVM direct buffer is on the regular process heap and cannot
+        // be wrapped — allocate inside the sandbox via the isolate's allocator
+        // and copy. This loses zero-copy sharing with the Java buffer; callers
+        // running with sandbox enabled must treat the result as a snapshot.
+        // As V8 never references the Java buffer, it is released right away.
+        if (shared) {
+            auto v8LocalSharedArrayBuffer = v8::SharedArrayBuffer::New(v8Isolate, sourceLength);
+            if (!v8LocalSharedArrayBuffer.IsEmpty() && sourceLength > 0) {
+                std::memcpy(v8LocalSharedArrayBuffer->GetBackingStore()->Data(), sourceData, sourceLength);
+            }
+            v8LocalValue = v8LocalSharedArrayBuffer;
+        }
+        else {
+            auto v8LocalArrayBuffer = v8::ArrayBuffer::New(v8Isolate, sourceLength);
+            if (!v8LocalArrayBuffer.IsEmpty() && sourceLength > 0) {
+                std::memcpy(v8LocalArrayBuffer->GetBackingStore()->Data(), sourceData, sourceLength);
+            }
+            v8LocalValue = v8LocalArrayBuffer;
+        }
+        InvokeReleaseCallback(jniEnv, mReleaseCallback, mByteBuffer);
+        if (jniEnv->ExceptionCheck()) {
+            return nullptr;
+        }
+#else
+        JavaVM* javaVM = nullptr;
+        if (jniEnv->GetJavaVM(&javaVM) != JNI_OK || javaVM == nullptr) {
+            return Javet::Exceptions::ThrowJavetConverterException(
+                jniEnv,
+                "Failed to access the Java VM.");
+        }
+        auto directByteBufferReference = std::unique_ptr<DirectByteBufferReference>(
+            new (std::nothrow) DirectByteBufferReference{nullptr, nullptr, javaVM});
+        if (directByteBufferReference == nullptr) {
+            return Javet::Exceptions::ThrowJavetConverterException(
+                jniEnv,
+                "Failed to retain the direct byte buffer.");
+        }
+        jobject globalByteBuffer = jniEnv->NewGlobalRef(mByteBuffer);
+        if (globalByteBuffer == nullptr) {
+            if (!jniEnv->ExceptionCheck()) {
+                return Javet::Exceptions::ThrowJavetConverterException(
+                    jniEnv,
+                    "Failed to retain the direct byte buffer.");
+            }
+            return nullptr;
+        }
+        INCREASE_COUNTER(Javet::Monitor::CounterType::NewGlobalRef);
+        directByteBufferReference->byteBuffer = globalByteBuffer;
+        if (mReleaseCallback != nullptr) {
+            jobject globalReleaseCallback = jniEnv->NewGlobalRef(mReleaseCallback);
+            if (globalReleaseCallback == nullptr) {
+                jniEnv->DeleteGlobalRef(globalByteBuffer);
+                INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
+                if (!jniEnv->ExceptionCheck()) {
+                    return Javet::Exceptions::ThrowJavetConverterException(
+                        jniEnv,
+                        "Failed to retain the release callback.");
+                }
+                return nullptr;
+            }
+            INCREASE_COUNTER(Javet::Monitor::CounterType::NewGlobalRef);
+            directByteBufferReference->releaseCallback = globalReleaseCallback;
+        }
+        std::unique_ptr<v8::BackingStore> v8BackingStorePointer = shared
+            ? v8::SharedArrayBuffer::NewBackingStore(
+                sourceData,
+                sourceLength,
+                DeleteDirectByteBufferReference,
+                directByteBufferReference.get())
+            : v8::ArrayBuffer::NewBackingStore(
+                sourceData,
+                sourceLength,
+                DeleteDirectByteBufferReference,
+                directByteBufferReference.get());
+        if (v8BackingStorePointer == nullptr) {
+            if (directByteBufferReference->releaseCallback != nullptr) {
+                jniEnv->DeleteGlobalRef(directByteBufferReference->releaseCallback);
+                INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
+            }
+            jniEnv->DeleteGlobalRef(globalByteBuffer);
+            INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
+            return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+        }
+        // From now on the backing store owns the reference and releases it in the deleter.
+        directByteBufferReference.release();
+        if (shared) {
+            v8LocalValue = v8::SharedArrayBuffer::New(v8Isolate, std::move(v8BackingStorePointer));
+        }
+        else {
+            v8LocalValue = v8::ArrayBuffer::New(v8Isolate, std::move(v8BackingStorePointer));
+        }
+#endif
+        if (!v8LocalValue.IsEmpty()) {
+            return v8Runtime->SafeToExternalV8Value(jniEnv, v8Isolate, v8Context, v8LocalValue);
+        }
+        return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+    }
+}
+
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCreate__JI
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jint length) {
     RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
@@ -63,71 +209,10 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCre
 
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCreate__JLjava_nio_ByteBuffer_2
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject mByteBuffer) {
-    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
-    void* sourceData = jniEnv->GetDirectBufferAddress(mByteBuffer);
-    const jlong sourceCapacity = jniEnv->GetDirectBufferCapacity(mByteBuffer);
-    if (sourceData == nullptr || sourceCapacity < 0) {
-        return Javet::Exceptions::ThrowJavetConverterException(
-            jniEnv,
-            "Byte buffer must be direct.");
-    }
-    if (static_cast<std::uintmax_t>(sourceCapacity) >
-        static_cast<std::uintmax_t>(std::numeric_limits<size_t>::max())) {
-        return Javet::Exceptions::ThrowJavetConverterException(
-            jniEnv,
-            "Byte buffer capacity is too large.");
-    }
-    const auto sourceLength = static_cast<size_t>(sourceCapacity);
-#ifdef V8_ENABLE_SANDBOX
-    // V8's sandbox requires backing stores to live inside the sandbox address
-    // space. The JVM direct buffer is on the regular process heap and cannot
-    // be wrapped — allocate inside the sandbox via the isolate's allocator
-    // and copy. This loses zero-copy sharing with the Java buffer; callers
-    // running with sandbox enabled must treat the result as a snapshot.
-    auto v8LocalArrayBuffer = v8::ArrayBuffer::New(v8Isolate, sourceLength);
-    if (!v8LocalArrayBuffer.IsEmpty() && sourceData != nullptr && sourceLength > 0) {
-        std::memcpy(v8LocalArrayBuffer->GetBackingStore()->Data(), sourceData, sourceLength);
-    }
-#else
-    JavaVM* javaVM = nullptr;
-    if (jniEnv->GetJavaVM(&javaVM) != JNI_OK || javaVM == nullptr) {
-        return Javet::Exceptions::ThrowJavetConverterException(
-            jniEnv,
-            "Failed to access the Java VM.");
-    }
-    auto directByteBufferReference = std::unique_ptr<DirectByteBufferReference>(
-        new (std::nothrow) DirectByteBufferReference{nullptr, javaVM});
-    if (directByteBufferReference == nullptr) {
-        return Javet::Exceptions::ThrowJavetConverterException(
-            jniEnv,
-            "Failed to retain the direct byte buffer.");
-    }
-    jobject globalByteBuffer = jniEnv->NewGlobalRef(mByteBuffer);
-    if (globalByteBuffer == nullptr) {
-        if (!jniEnv->ExceptionCheck()) {
-            return Javet::Exceptions::ThrowJavetConverterException(
-                jniEnv,
-                "Failed to retain the direct byte buffer.");
-        }
-        return nullptr;
-    }
-    INCREASE_COUNTER(Javet::Monitor::CounterType::NewGlobalRef);
-    directByteBufferReference->byteBuffer = globalByteBuffer;
-    std::unique_ptr<v8::BackingStore> v8BackingStorePointer = v8::ArrayBuffer::NewBackingStore(
-        sourceData,
-        sourceLength,
-        DeleteDirectByteBufferReference,
-        directByteBufferReference.get());
-    if (v8BackingStorePointer == nullptr) {
-        jniEnv->DeleteGlobalRef(globalByteBuffer);
-        INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteGlobalRef);
-        return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
-    }
-    directByteBufferReference.release();
-    auto v8LocalArrayBuffer = v8::ArrayBuffer::New(v8Isolate, std::move(v8BackingStorePointer));
-#endif
-    if (!v8LocalArrayBuffer.IsEmpty()) {
-        return v8Runtime->SafeToExternalV8Value(jniEnv, v8Isolate, v8Context, v8LocalArrayBuffer);
-    }
-    return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+    return CreateArrayBuffer(jniEnv, v8RuntimeHandle, mByteBuffer, false, nullptr);
+}
+
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_arrayBufferCreate__JLjava_nio_ByteBuffer_2ZLjava_lang_Object_2
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject mByteBuffer, jboolean shared, jobject mReleaseCallback) {
+    return CreateArrayBuffer(jniEnv, v8RuntimeHandle, mByteBuffer, shared, mReleaseCallback);
 }
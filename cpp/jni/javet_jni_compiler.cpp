@@ -15,7 +15,9 @@
  *   limitations under the License.
  */
 
+#include <cstring>
 #include <memory>
+#include <new>
 #include <optional>
 #include <utility>
 #include <vector>
@@ -26,13 +28,39 @@
 namespace Javet {
     namespace Compiler {
         namespace {
+            /*
+             * The source stream hands the whole script to V8 as a single chunk
+             * that is prepared on the isolate thread, so that the background thread
+             * never calls into JNI.
+             */
+            class ScriptSourceStream final : public v8::ScriptCompiler::ExternalSourceStream {
+            public:
+                ScriptSourceStream(std::unique_ptr<uint8_t[]> data, size_t length) noexcept
+                    : data(std::move(data)), length(length) {
+                }
+
+                size_t GetMoreData(const uint8_t** src) override {
+                    if (!data) {
+                        *src = nullptr;
+                        return 0;
+                    }
+                    // V8 takes the ownership of the chunk.
+                    *src = data.release();
+                    return length;
+                }
+
+            private:
+                std::unique_ptr<uint8_t[]> data;
+                size_t length;
+            };
+
             class CompileRequest final {
             public:
                 CompileRequest(
                     JNIEnv* jniEnv,
                     V8Runtime* v8Runtime,
                     const V8LocalContext& v8Context,
-                    jstring script,
+                    jobject script,
                     jstring resourceName,
                     jint resourceLineOffset,
                     jint resourceColumnOffset,
@@ -43,7 +71,7 @@ namespace Javet {
                     v8Runtime(v8Runtime),
                     v8Context(v8Context),
                     v8TryCatch(v8Runtime->v8Isolate),
-                    v8LocalSource(Javet::Converter::ToV8String(
+                    v8LocalSource(Javet::Converter::ToV8ScriptSource(
                         jniEnv,
                         v8Runtime->v8Isolate,
                         script)),
@@ -128,11 +156,13 @@ namespace Javet {
                     compileResult.failed = true;
                     return compileResult;
                 }
+                compileRequest.v8Runtime->codeCacheRejected = false;
                 compileResult.compiledValue = std::forward<Compile>(compile)(
                     compileRequest.getCompilerSource(),
                     compileRequest.getCompileOptions());
                 if (compileRequest.usesCachedData()) {
                     compileResult.cacheRejected = compileRequest.isCacheRejected();
+                    compileRequest.v8Runtime->codeCacheRejected = compileResult.cacheRejected;
                     LOG_DEBUG(cacheType << " cache is "
                         << (compileResult.cacheRejected ? "rejected" : "accepted") << ".");
                 }
@@ -172,6 +202,16 @@ namespace Javet {
             }
         }
 
+        ScriptStreaming::ScriptStreaming(
+            V8Isolate* v8Isolate,
+            const V8LocalString& v8LocalSource,
+            std::unique_ptr<v8::ScriptCompiler::ExternalSourceStream> sourceStream,
+            v8::ScriptCompiler::StreamedSource::Encoding encoding) noexcept
+            : v8GlobalSource(v8Isolate, v8LocalSource),
+            streamedSource(std::move(sourceStream), encoding),
+            streamingTask(v8::ScriptCompiler::StartStreaming(v8Isolate, &streamedSource)) {
+        }
+
         FunctionCompileResult compileFunction(
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
@@ -242,7 +282,7 @@ namespace Javet {
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
             const V8LocalContext& v8Context,
-            jstring script,
+            jobject script,
             jbyteArray cachedData,
             jstring resourceName,
             jint resourceLineOffset,
@@ -278,7 +318,7 @@ namespace Javet {
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
             const V8LocalContext& v8Context,
-            jstring script,
+            jobject script,
             jbyteArray cachedData,
             jstring resourceName,
             jint resourceLineOffset,
@@ -320,6 +360,54 @@ namespace Javet {
                 });
         }
 
+        ScriptCompileResult finishScriptStreaming(
+            JNIEnv* jniEnv,
+            V8Runtime* v8Runtime,
+            const V8LocalContext& v8Context,
+            ScriptStreaming* scriptStreaming,
+            jstring resourceName,
+            jint resourceLineOffset,
+            jint resourceColumnOffset,
+            jint scriptId,
+            jboolean isWASM) noexcept {
+            std::unique_ptr<ScriptStreaming> scriptStreamingPointer(scriptStreaming);
+            V8TryCatch v8TryCatch(v8Runtime->v8Isolate);
+            auto scriptOrigin = Javet::Converter::ToV8ScriptOrigin(
+                jniEnv,
+                v8Runtime->v8Isolate,
+                resourceName,
+                resourceLineOffset,
+                resourceColumnOffset,
+                scriptId,
+                isWASM,
+                false);
+            auto v8LocalSource = scriptStreaming->v8GlobalSource.Get(v8Runtime->v8Isolate);
+            ScriptCompileResult compileResult;
+            v8Runtime->codeCacheRejected = false;
+            if (scriptStreaming->streamingTask) {
+                compileResult.compiledValue = v8::ScriptCompiler::Compile(
+                    v8Context,
+                    &scriptStreaming->streamedSource,
+                    v8LocalSource,
+                    scriptOrigin);
+            }
+            else {
+                // V8 declined to stream the script, so it is compiled on the isolate thread.
+                V8ScriptCompilerSource compilerSource(v8LocalSource, scriptOrigin);
+                compileResult.compiledValue = v8::ScriptCompiler::Compile(v8Context, &compilerSource);
+            }
+            if (v8TryCatch.HasCaught()) {
+                Javet::Exceptions::ThrowJavetCompilationException(
+                    jniEnv,
+                    v8Runtime,
+                    v8Context,
+                    v8TryCatch);
+                compileResult.compiledValue = v8::MaybeLocal<v8::Script>();
+                compileResult.failed = true;
+            }
+            return compileResult;
+        }
+
         jbyteArray getCachedData(
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
@@ -364,6 +452,62 @@ namespace Javet {
                 });
         }
 
+        void releaseScriptStreaming(ScriptStreaming* scriptStreaming) noexcept {
+            delete scriptStreaming;
+        }
+
+        void runScriptStreaming(ScriptStreaming* scriptStreaming) noexcept {
+            if (scriptStreaming != nullptr && scriptStreaming->streamingTask) {
+                scriptStreaming->streamingTask->Run();
+            }
+        }
+
+        ScriptStreaming* startScriptStreaming(
+            JNIEnv* jniEnv,
+            V8Runtime* v8Runtime,
+            jobject script) noexcept {
+            auto v8LocalSource = Javet::Converter::ToV8ScriptSource(
+                jniEnv,
+                v8Runtime->v8Isolate,
+                script);
+            if (v8LocalSource.IsEmpty()) {
+                return nullptr;
+            }
+            std::unique_ptr<uint8_t[]> data;
+            size_t length = 0;
+            auto encoding = v8::ScriptCompiler::StreamedSource::ONE_BYTE;
+            if (Javet::Converter::IsJavaByteBuffer(jniEnv, script)) {
+                auto address = static_cast<const uint8_t*>(jniEnv->GetDirectBufferAddress(script));
+                length = static_cast<size_t>(jniEnv->GetDirectBufferCapacity(script));
+                if (length > 0) {
+                    data.reset(new (std::nothrow) uint8_t[length]);
+                    if (!data) {
+                        return nullptr;
+                    }
+                    std::memcpy(data.get(), address, length);
+                }
+            }
+            else {
+                // The Java string is copied as UTF-16 so that it is not transcoded.
+                auto mString = static_cast<jstring>(script);
+                const jsize stringLength = jniEnv->GetStringLength(mString);
+                encoding = v8::ScriptCompiler::StreamedSource::TWO_BYTE;
+                length = static_cast<size_t>(stringLength) * sizeof(jchar);
+                if (length > 0) {
+                    data.reset(new (std::nothrow) uint8_t[length]);
+                    if (!data) {
+                        return nullptr;
+                    }
+                    jniEnv->GetStringRegion(mString, 0, stringLength, reinterpret_cast<jchar*>(data.get()));
+                }
+            }
+            return new (std::nothrow) ScriptStreaming(
+                v8Runtime->v8Isolate,
+                v8LocalSource,
+                std::make_unique<ScriptSourceStream>(std::move(data), length),
+                encoding);
+        }
+
         jobject toExternal(
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
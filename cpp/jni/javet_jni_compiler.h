@@ -17,6 +17,7 @@
 
 #pragma once
 
+#include <memory>
 #include "javet_v8_runtime.h"
 
 namespace Javet {
@@ -32,6 +33,26 @@ namespace Javet {
         using ModuleCompileResult = CompileResult<v8::Module>;
         using ScriptCompileResult = CompileResult<v8::Script>;
 
+        /*
+         * The script streaming is created on the isolate thread,
+         * parsed and compiled on a background thread without the V8 locker,
+         * and finished or released on the isolate thread.
+         */
+        struct ScriptStreaming final {
+            ScriptStreaming(
+                V8Isolate* v8Isolate,
+                const V8LocalString& v8LocalSource,
+                std::unique_ptr<v8::ScriptCompiler::ExternalSourceStream> sourceStream,
+                v8::ScriptCompiler::StreamedSource::Encoding encoding) noexcept;
+
+            ScriptStreaming(const ScriptStreaming&) = delete;
+            ScriptStreaming& operator=(const ScriptStreaming&) = delete;
+
+            v8::Global<v8::String> v8GlobalSource;
+            v8::ScriptCompiler::StreamedSource streamedSource;
+            std::unique_ptr<v8::ScriptCompiler::ScriptStreamingTask> streamingTask;
+        };
+
         [[nodiscard]] FunctionCompileResult compileFunction(
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
@@ -51,7 +72,7 @@ namespace Javet {
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
             const V8LocalContext& v8Context,
-            jstring script,
+            jobject script,
             jbyteArray cachedData,
             jstring resourceName,
             jint resourceLineOffset,
@@ -64,7 +85,7 @@ namespace Javet {
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
             const V8LocalContext& v8Context,
-            jstring script,
+            jobject script,
             jbyteArray cachedData,
             jstring resourceName,
             jint resourceLineOffset,
@@ -73,6 +94,17 @@ namespace Javet {
             jboolean isWASM,
             jboolean isModule) noexcept;
 
+        [[nodiscard]] ScriptCompileResult finishScriptStreaming(
+            JNIEnv* jniEnv,
+            V8Runtime* v8Runtime,
+            const V8LocalContext& v8Context,
+            ScriptStreaming* scriptStreaming,
+            jstring resourceName,
+            jint resourceLineOffset,
+            jint resourceColumnOffset,
+            jint scriptId,
+            jboolean isWASM) noexcept;
+
         [[nodiscard]] jbyteArray getCachedData(
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
@@ -91,6 +123,15 @@ namespace Javet {
             const V8LocalContext& v8Context,
             const V8LocalScript& v8LocalScript) noexcept;
 
+        void releaseScriptStreaming(ScriptStreaming* scriptStreaming) noexcept;
+
+        void runScriptStreaming(ScriptStreaming* scriptStreaming) noexcept;
+
+        [[nodiscard]] ScriptStreaming* startScriptStreaming(
+            JNIEnv* jniEnv,
+            V8Runtime* v8Runtime,
+            jobject script) noexcept;
+
         [[nodiscard]] jobject toExternal(
             JNIEnv* jniEnv,
             V8Runtime* v8Runtime,
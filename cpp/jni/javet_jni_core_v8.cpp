@@ -134,6 +134,46 @@ JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_createV8Runtime
     return TO_JAVA_LONG(v8Runtime);
 }
 
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_deserialize
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject buffer, jint offset, jint length) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    std::unique_ptr<uint8_t[]> copiedBytes;
+    const uint8_t* data = nullptr;
+    if (Javet::Converter::IsJavaByteBuffer(jniEnv, buffer)) {
+        // The direct byte buffer is read in place.
+        auto address = static_cast<const uint8_t*>(jniEnv->GetDirectBufferAddress(buffer));
+        if (address == nullptr) {
+            return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+        }
+        data = address + offset;
+    }
+    else {
+        copiedBytes.reset(new uint8_t[length > 0 ? length : 1]);
+        jniEnv->GetByteArrayRegion(
+            static_cast<jbyteArray>(buffer), offset, length, reinterpret_cast<jbyte*>(copiedBytes.get()));
+        if (jniEnv->ExceptionCheck()) {
+            return nullptr;
+        }
+        data = copiedBytes.get();
+    }
+    V8TryCatch v8TryCatch(v8Isolate);
+    v8::ValueDeserializer v8ValueDeserializer(v8Isolate, data, static_cast<size_t>(length));
+    V8MaybeLocalValue v8MaybeLocalValue;
+    if (v8ValueDeserializer.ReadHeader(v8Context).FromMaybe(false)) {
+        v8MaybeLocalValue = v8ValueDeserializer.ReadValue(v8Context);
+    }
+    if (v8TryCatch.HasCaught()) {
+        return Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8Runtime, v8Context, v8TryCatch);
+    }
+    if (v8MaybeLocalValue.IsEmpty()) {
+        if (Javet::Exceptions::HandlePendingException(jniEnv, v8Runtime, v8Context)) {
+            return nullptr;
+        }
+        return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+    }
+    return v8Runtime->SafeToExternalV8Value(jniEnv, v8Isolate, v8Context, v8MaybeLocalValue.ToLocalChecked());
+}
+
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_equals
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle,
     jlong v8ValueHandle1, jint v8ValueType1, jlong v8ValueHandle2, jint v8ValueType2) {
@@ -156,6 +196,20 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_getGlobalObjec
     return Javet::Converter::ToExternalV8ValueGlobalObject(jniEnv, v8Runtime);
 }
 
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getInternalizedStringCacheCapacity
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle) {
+    auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
+    auto v8Locker = v8Runtime->GetSharedV8Locker();
+    return static_cast<jint>(v8Runtime->internalizedStringCache.GetCapacity());
+}
+
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getInternalizedStringCacheSize
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle) {
+    auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
+    auto v8Locker = v8Runtime->GetSharedV8Locker();
+    return static_cast<jint>(v8Runtime->internalizedStringCache.GetSize());
+}
+
 JNIEXPORT jlongArray JNICALL Java_com_caoccao_javet_interop_V8Native_getInternalStatistic
 (JNIEnv* jniEnv, jobject caller) {
 #ifdef ENABLE_MONITOR
@@ -262,6 +316,13 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_hasInternalTy
     return false;
 }
 
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_internalizeString
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jstring mString) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    auto v8LocalString = v8Runtime->internalizedStringCache.Get(jniEnv, v8Isolate, mString);
+    return !v8LocalString.IsEmpty();
+}
+
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_isI18nEnabled
 (JNIEnv* jniEnv, jobject caller) {
 #ifdef ENABLE_I18N
@@ -278,6 +339,12 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_isBatterySave
     return v8InternalIsolate->BatterySaverModeEnabled();
 }
 
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_isCodeCacheRejected
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle) {
+    auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
+    return v8Runtime->codeCacheRejected;
+}
+
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_isDead
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle) {
     auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
@@ -396,6 +463,37 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHa
     INCREASE_COUNTER(Javet::Monitor::CounterType::DeletePersistentReference);
 }
 
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHandles
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlongArray referenceHandles, jintArray referenceTypes) {
+    auto length = jniEnv->GetArrayLength(referenceHandles);
+    if (length <= 0) {
+        return;
+    }
+    std::unique_ptr<jlong[]> umReferenceHandles(new jlong[length]);
+    jniEnv->GetLongArrayRegion(referenceHandles, 0, length, umReferenceHandles.get());
+    if (jniEnv->ExceptionCheck()) {
+        return;
+    }
+    auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
+    // The shared locker is acquired once for the whole batch.
+    auto v8Locker = v8Runtime->GetSharedV8Locker();
+    for (jsize i = 0; i < length; ++i) {
+        auto v8PersistentDataPointer = TO_V8_PERSISTENT_DATA_POINTER(umReferenceHandles[i]);
+        if (!v8PersistentDataPointer->IsEmpty() && v8PersistentDataPointer->IsWeak()) {
+            auto v8ValueReference =
+                v8PersistentDataPointer->ClearWeak<Javet::Callback::V8ValueReference>();
+            if (v8ValueReference != nullptr) {
+                v8ValueReference->Clear();
+                delete v8ValueReference;
+                INCREASE_COUNTER(Javet::Monitor::CounterType::DeleteWeakCallbackReference);
+            }
+        }
+        v8PersistentDataPointer->Reset();
+        delete v8PersistentDataPointer;
+        INCREASE_COUNTER(Javet::Monitor::CounterType::DeletePersistentReference);
+    }
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_requestGarbageCollectionForTesting
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jboolean fullGC) {
     RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
@@ -426,6 +524,42 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_sameValue
     return v8LocalValue1->SameValue(v8LocalValue2);
 }
 
+JNIEXPORT jbyteArray JNICALL Java_com_caoccao_javet_interop_V8Native_serialize
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject value, jint valueType) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    auto v8LocalValue = Javet::Converter::ToV8Value(jniEnv, v8Isolate, v8Context, value, valueType);
+    V8TryCatch v8TryCatch(v8Isolate);
+    // Without a delegate the buffer is allocated by realloc() and must be released by free().
+    v8::ValueSerializer v8ValueSerializer(v8Isolate);
+    v8ValueSerializer.WriteHeader();
+    auto v8MaybeBool = v8ValueSerializer.WriteValue(v8Context, v8LocalValue);
+    if (v8TryCatch.HasCaught()) {
+        Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8Runtime, v8Context, v8TryCatch);
+        return nullptr;
+    }
+    if (!v8MaybeBool.FromMaybe(false)) {
+        Javet::Exceptions::HandlePendingException(jniEnv, v8Runtime, v8Context);
+        return nullptr;
+    }
+    auto releasedBuffer = v8ValueSerializer.Release();
+    std::unique_ptr<uint8_t, decltype(&std::free)> serializedBytes(releasedBuffer.first, &std::free);
+    const size_t size = releasedBuffer.second;
+    if (size > static_cast<size_t>(std::numeric_limits<jsize>::max())) {
+        return nullptr;
+    }
+    jbyteArray byteArray = jniEnv->NewByteArray(static_cast<jsize>(size));
+    if (byteArray == nullptr) {
+        return nullptr;
+    }
+    jniEnv->SetByteArrayRegion(
+        byteArray, 0, static_cast<jsize>(size), reinterpret_cast<const jbyte*>(serializedBytes.get()));
+    if (jniEnv->ExceptionCheck()) {
+        DELETE_LOCAL_REF(jniEnv, byteArray);
+        return nullptr;
+    }
+    return byteArray;
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setBatterySaverModeEnabled
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jboolean enabled) {
     auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
@@ -433,6 +567,14 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setBatterySaverMo
     v8InternalIsolate->set_battery_saver_mode_enabled(enabled);
 }
 
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setInternalizedStringCacheCapacity
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jint capacity) {
+    auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
+    auto v8Locker = v8Runtime->GetSharedV8Locker();
+    auto v8IsolateScope = v8Runtime->GetV8IsolateScope();
+    v8Runtime->internalizedStringCache.SetCapacity(static_cast<size_t>(capacity < 0 ? 0 : capacity));
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setMemorySaverModeEnabled
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jboolean enabled) {
     auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
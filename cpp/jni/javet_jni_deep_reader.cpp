@@ -0,0 +1,374 @@
+/*
+ *   Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *   All rights reserved.
+
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+
+ *   http://www.apache.org/licenses/LICENSE-2.0
+
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+#include <cstring>
+#include <string>
+#include "javet_jni_deep_reader.h"
+
+namespace Javet {
+    namespace DeepReader {
+        namespace {
+            using DeepReadTag = Javet::Enums::DeepReadTag;
+
+            class DeepReadWriter final {
+            public:
+                DeepReadWriter(
+                    const V8LocalContext& v8Context,
+                    const int maxDepth,
+                    const bool skipFunctionInObject,
+                    std::vector<uint8_t>& buffer,
+                    std::vector<V8LocalValue>& references) noexcept
+                    : v8Context(v8Context),
+                    v8Isolate(v8Context->GetIsolate()),
+                    maxDepth(maxDepth),
+                    skipFunctionInObject(skipFunctionInObject),
+                    buffer(buffer),
+                    references(references),
+                    constructorString(v8::String::NewFromUtf8Literal(v8Context->GetIsolate(), "constructor")),
+                    maxDepthExceeded(false) {
+                }
+
+                [[nodiscard]] inline bool isMaxDepthExceeded() const noexcept {
+                    return maxDepthExceeded;
+                }
+
+                [[nodiscard]] bool writeValue(const V8LocalValue& v8LocalValue, const int depth) noexcept {
+                    if (depth > maxDepth) {
+                        // The traversal stops at once, otherwise a graph with multiple self links,
+                        // e.g. a.b = a; a.c = a, would be visited exponentially before the Java side
+                        // rejects it. The Java side falls back to the slow path that reports the error.
+                        maxDepthExceeded = true;
+                        return false;
+                    }
+                    if (v8LocalValue.IsEmpty() || v8LocalValue->IsNullOrUndefined()) {
+                        writeTag(DeepReadTag::Null);
+                        return true;
+                    }
+                    if (v8LocalValue->IsBoolean()) {
+                        writeTag(v8LocalValue->IsTrue() ? DeepReadTag::True : DeepReadTag::False);
+                        return true;
+                    }
+                    if (v8LocalValue->IsInt32()) {
+                        writeTag(DeepReadTag::Integer);
+                        writeScalar<int32_t>(v8LocalValue.As<v8::Int32>()->Value());
+                        return true;
+                    }
+                    if (v8LocalValue->IsNumber()) {
+                        writeTag(DeepReadTag::Double);
+                        writeScalar<double>(v8LocalValue.As<v8::Number>()->Value());
+                        return true;
+                    }
+                    if (v8LocalValue->IsString()) {
+                        writeString(v8LocalValue.As<v8::String>());
+                        return true;
+                    }
+                    if (v8LocalValue->IsBigInt()) {
+                        auto v8LocalBigInt = v8LocalValue.As<v8::BigInt>();
+                        if (v8LocalBigInt->WordCount() <= 1) {
+                            writeTag(DeepReadTag::Long);
+                            writeScalar<int64_t>(v8LocalBigInt->Int64Value());
+                            return true;
+                        }
+                        writeReference(v8LocalValue);
+                        return true;
+                    }
+                    if (!v8LocalValue->IsObject()) {
+                        writeReference(v8LocalValue);
+                        return true;
+                    }
+                    if (v8LocalValue->IsArray()) {
+                        return writeArray(v8LocalValue.As<v8::Array>(), depth);
+                    }
+                    if (v8LocalValue->IsTypedArray()) {
+                        writeTypedArray(v8LocalValue);
+                        return true;
+                    }
+                    if (v8LocalValue->IsMap()) {
+                        return writeEntries(DeepReadTag::Map, v8LocalValue.As<v8::Map>()->AsArray(), depth);
+                    }
+                    if (v8LocalValue->IsSet()) {
+                        writeTag(DeepReadTag::Set);
+                        return writeElements(v8LocalValue.As<v8::Set>()->AsArray(), depth);
+                    }
+                    if (v8LocalValue->IsDate()) {
+                        writeTag(DeepReadTag::ZonedDateTime);
+                        writeScalar<int64_t>(static_cast<int64_t>(v8LocalValue.As<v8::Date>()->ValueOf()));
+                        return true;
+                    }
+                    if (IsPlainObject(v8LocalValue)) {
+                        return writeObject(v8LocalValue.As<v8::Object>(), depth);
+                    }
+                    writeReference(v8LocalValue);
+                    return true;
+                }
+
+                [[nodiscard]] static bool IsPlainObject(const V8LocalValue& v8LocalValue) noexcept {
+                    return v8LocalValue->IsObject()
+                        && !v8LocalValue->IsArgumentsObject()
+                        && !v8LocalValue->IsArrayBuffer()
+                        && !v8LocalValue->IsArrayBufferView()
+                        && !v8LocalValue->IsBigIntObject()
+                        && !v8LocalValue->IsBooleanObject()
+                        && !v8LocalValue->IsDate()
+                        && !v8LocalValue->IsFunction()
+                        && !v8LocalValue->IsGeneratorObject()
+                        && !v8LocalValue->IsMapIterator()
+                        && !v8LocalValue->IsModuleNamespaceObject()
+                        && !v8LocalValue->IsNativeError()
+                        && !v8LocalValue->IsNumberObject()
+                        && !v8LocalValue->IsPromise()
+                        && !v8LocalValue->IsProxy()
+                        && !v8LocalValue->IsRegExp()
+                        && !v8LocalValue->IsSetIterator()
+                        && !v8LocalValue->IsSharedArrayBuffer()
+                        && !v8LocalValue->IsStringObject()
+                        && !v8LocalValue->IsSymbolObject()
+                        && !v8LocalValue->IsWasmModuleObject()
+                        && !v8LocalValue->IsWeakMap()
+                        && !v8LocalValue->IsWeakSet();
+                }
+
+            private:
+                const V8LocalContext& v8Context;
+                V8Isolate* v8Isolate;
+                const int maxDepth;
+                const bool skipFunctionInObject;
+                std::vector<uint8_t>& buffer;
+                std::vector<V8LocalValue>& references;
+                V8LocalString constructorString;
+                bool maxDepthExceeded;
+
+                size_t reserveCount() noexcept {
+                    size_t position = buffer.size();
+                    writeScalar<int32_t>(0);
+                    return position;
+                }
+
+                void patchCount(const size_t position, const int32_t count) noexcept {
+                    std::memcpy(buffer.data() + position, &count, sizeof(int32_t));
+                }
+
+                [[nodiscard]] bool writeArray(const V8LocalArray& v8LocalArray, const int depth) noexcept {
+                    writeTag(DeepReadTag::Array);
+                    return writeElements(v8LocalArray, depth);
+                }
+
+                [[nodiscard]] bool writeElements(const V8LocalArray& v8LocalArray, const int depth) noexcept {
+                    const uint32_t length = v8LocalArray->Length();
+                    writeScalar<int32_t>(static_cast<int32_t>(length));
+                    for (uint32_t i = 0; i < length; ++i) {
+                        auto v8MaybeLocalValue = v8LocalArray->Get(v8Context, i);
+                        if (v8MaybeLocalValue.IsEmpty()) {
+                            return false;
+                        }
+                        if (!writeValue(v8MaybeLocalValue.ToLocalChecked(), depth + 1)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+
+                [[nodiscard]] bool writeEntries(
+                    const DeepReadTag tag,
+                    const V8LocalArray& v8LocalArray,
+                    const int depth) noexcept {
+                    writeTag(tag);
+                    const uint32_t length = v8LocalArray->Length();
+                    writeScalar<int32_t>(static_cast<int32_t>(length >> 1));
+                    for (uint32_t i = 0; i + 1 < length; i += 2) {
+                        auto v8MaybeLocalKey = v8LocalArray->Get(v8Context, i);
+                        auto v8MaybeLocalValue = v8LocalArray->Get(v8Context, i + 1);
+                        if (v8MaybeLocalKey.IsEmpty() || v8MaybeLocalValue.IsEmpty()) {
+                            return false;
+                        }
+                        writeKey(v8MaybeLocalKey.ToLocalChecked());
+                        if (!writeValue(v8MaybeLocalValue.ToLocalChecked(), depth + 1)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+
+                void writeKey(const V8LocalValue& v8LocalKey) noexcept {
+                    if (v8LocalKey->IsString()) {
+                        writeString(v8LocalKey.As<v8::String>());
+                    }
+                    else if (v8LocalKey->IsInt32()) {
+                        // The same text as Integer.toString() in Java.
+                        auto keyString = std::to_string(v8LocalKey.As<v8::Int32>()->Value());
+                        writeTag(DeepReadTag::OneByteString);
+                        writeScalar<int32_t>(static_cast<int32_t>(keyString.length()));
+                        writeBytes(keyString.data(), keyString.length());
+                    }
+                    else {
+                        // The Java side applies toString() to the reference.
+                        writeReference(v8LocalKey);
+                    }
+                }
+
+                [[nodiscard]] bool writeObject(const V8LocalObject& v8LocalObject, const int depth) noexcept {
+                    auto v8MaybeLocalArray = v8LocalObject->GetOwnPropertyNames(v8Context);
+                    if (v8MaybeLocalArray.IsEmpty()) {
+                        return false;
+                    }
+                    auto v8LocalArray = v8MaybeLocalArray.ToLocalChecked();
+                    writeTag(DeepReadTag::Object);
+                    const size_t countPosition = reserveCount();
+                    int32_t count = 0;
+                    const uint32_t length = v8LocalArray->Length();
+                    for (uint32_t i = 0; i < length; ++i) {
+                        auto v8MaybeLocalKey = v8LocalArray->Get(v8Context, i);
+                        if (v8MaybeLocalKey.IsEmpty()) {
+                            return false;
+                        }
+                        auto v8LocalKey = v8MaybeLocalKey.ToLocalChecked();
+                        auto v8MaybeLocalValue = v8LocalObject->Get(v8Context, v8LocalKey);
+                        if (v8MaybeLocalValue.IsEmpty()) {
+                            return false;
+                        }
+                        auto v8LocalValue = v8MaybeLocalValue.ToLocalChecked();
+                        if (v8LocalKey->IsString() && v8LocalKey.As<v8::String>()->StringEquals(constructorString)) {
+                            // The Java side reads the name of the constructor from the reference.
+                            writeKey(v8LocalKey);
+                            writeReference(v8LocalValue);
+                        }
+                        else if (v8LocalValue->IsUndefined()
+                            || (skipFunctionInObject && v8LocalValue->IsFunction() && !v8LocalValue->IsProxy())) {
+                            continue;
+                        }
+                        else {
+                            writeKey(v8LocalKey);
+                            if (!writeValue(v8LocalValue, depth + 1)) {
+                                return false;
+                            }
+                        }
+                        ++count;
+                    }
+                    patchCount(countPosition, count);
+                    return true;
+                }
+
+                void writeBytes(const void* data, const size_t length) noexcept {
+                    if (length > 0) {
+                        const size_t position = buffer.size();
+                        buffer.resize(position + length);
+                        std::memcpy(buffer.data() + position, data, length);
+                    }
+                }
+
+                void writeReference(const V8LocalValue& v8LocalValue) noexcept {
+                    references.push_back(v8LocalValue);
+                    writeTag(DeepReadTag::Reference);
+                    writeScalar<int32_t>(static_cast<int32_t>(references.size() - 1));
+                }
+
+                template<typename T>
+                void writeScalar(const T value) noexcept {
+                    writeBytes(&value, sizeof(T));
+                }
+
+                void writeString(const V8LocalString& v8LocalString) noexcept {
+                    const int length = v8LocalString->Length();
+                    const size_t position = buffer.size();
+                    if (v8LocalString->IsOneByte()) {
+                        writeTag(DeepReadTag::OneByteString);
+                        writeScalar<int32_t>(length);
+                        buffer.resize(position + 1 + sizeof(int32_t) + length);
+                        v8LocalString->WriteOneByteV2(
+                            v8Isolate,
+                            0,
+                            length,
+                            buffer.data() + position + 1 + sizeof(int32_t));
+                    }
+                    else {
+                        writeTag(DeepReadTag::TwoByteString);
+                        writeScalar<int32_t>(length);
+                        buffer.resize(position + 1 + sizeof(int32_t) + length * sizeof(uint16_t));
+                        v8LocalString->WriteV2(
+                            v8Isolate,
+                            0,
+                            length,
+                            reinterpret_cast<uint16_t*>(buffer.data() + position + 1 + sizeof(int32_t)));
+                    }
+                }
+
+                void writeTag(const DeepReadTag tag) noexcept {
+                    buffer.push_back(static_cast<uint8_t>(tag));
+                }
+
+                void writeTypedArray(const V8LocalValue& v8LocalValue) noexcept {
+                    DeepReadTag tag;
+                    if (v8LocalValue->IsInt8Array() || v8LocalValue->IsUint8Array() || v8LocalValue->IsUint8ClampedArray()) {
+                        tag = DeepReadTag::Bytes;
+                    }
+                    else if (v8LocalValue->IsInt16Array() || v8LocalValue->IsUint16Array()) {
+                        tag = DeepReadTag::Shorts;
+                    }
+                    else if (v8LocalValue->IsInt32Array() || v8LocalValue->IsUint32Array()) {
+                        tag = DeepReadTag::Integers;
+                    }
+                    else if (v8LocalValue->IsFloat32Array()) {
+                        tag = DeepReadTag::Floats;
+                    }
+                    else if (v8LocalValue->IsFloat64Array()) {
+                        tag = DeepReadTag::Doubles;
+                    }
+                    else if (v8LocalValue->IsBigInt64Array() || v8LocalValue->IsBigUint64Array()) {
+                        tag = DeepReadTag::Longs;
+                    }
+                    else {
+                        writeReference(v8LocalValue);
+                        return;
+                    }
+                    auto v8LocalTypedArray = v8LocalValue.As<v8::TypedArray>();
+                    const size_t byteLength = v8LocalTypedArray->ByteLength();
+                    writeTag(tag);
+                    writeScalar<int32_t>(static_cast<int32_t>(byteLength));
+                    const size_t position = buffer.size();
+                    buffer.resize(position + byteLength);
+                    if (byteLength > 0) {
+                        v8LocalTypedArray->CopyContents(buffer.data() + position, byteLength);
+                    }
+                }
+            };
+        }
+
+        DeepReadResult read(
+            const V8LocalContext& v8Context,
+            const V8LocalValue& v8LocalValue,
+            const int maxDepth,
+            const bool skipFunctionInObject,
+            std::vector<uint8_t>& buffer,
+            std::vector<V8LocalValue>& references) noexcept {
+            if (maxDepth < 0) {
+                return DeepReadResult::Unsupported;
+            }
+            if (!v8LocalValue->IsArray() && !v8LocalValue->IsMap() && !v8LocalValue->IsSet()
+                && !DeepReadWriter::IsPlainObject(v8LocalValue)) {
+                // The root must be a container, otherwise it would be returned as a reference to itself.
+                return DeepReadResult::Unsupported;
+            }
+            DeepReadWriter deepReadWriter(v8Context, maxDepth, skipFunctionInObject, buffer, references);
+            if (deepReadWriter.writeValue(v8LocalValue, 0)) {
+                return DeepReadResult::Success;
+            }
+            return deepReadWriter.isMaxDepthExceeded()
+                ? DeepReadResult::Unsupported
+                : DeepReadResult::Failed;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *   Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *   All rights reserved.
+
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+
+ *   http://www.apache.org/licenses/LICENSE-2.0
+
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+#pragma once
+
+#include <vector>
+#include "javet_v8_runtime.h"
+
+namespace Javet {
+    namespace DeepReader {
+        enum class DeepReadResult {
+            Success,
+            Unsupported,
+            Failed,
+        };
+
+        /*
+         * The deep reader serializes a V8 value graph into a compact binary buffer
+         * in native byte order so that the Java side can rebuild it without
+         * creating a V8 value wrapper per node.
+         * Values that cannot be encoded are collected as references and are
+         * converted by the Java side individually.
+         * If the graph is deeper than the max depth, e.g. a circular structure,
+         * the traversal stops and Unsupported is returned so that the Java side
+         * falls back to the slow path.
+         */
+        [[nodiscard]] DeepReadResult read(
+            const V8LocalContext& v8Context,
+            const V8LocalValue& v8LocalValue,
+            const int maxDepth,
+            const bool skipFunctionInObject,
+            std::vector<uint8_t>& buffer,
+            std::vector<V8LocalValue>& references) noexcept;
+    }
+}
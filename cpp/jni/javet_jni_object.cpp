@@ -16,6 +16,7 @@
  */
 
 #include "javet_jni.h"
+#include "javet_jni_deep_reader.h"
 #include "javet_jni_property_accessor.h"
 
 JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_batchObjectGet
@@ -95,6 +96,142 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_objectCreate
     return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
 }
 
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_objectCreateFromEntries
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobjectArray keys, jintArray valueTypes,
+    jlongArray longValues, jdoubleArray doubleValues, jobjectArray objectValues) {
+    using V8ValueType = Javet::Enums::V8ValueType;
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    auto v8LocalObject = v8::Object::New(v8Isolate);
+    if (v8LocalObject.IsEmpty()) {
+        return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
+    }
+    auto length = jniEnv->GetArrayLength(keys);
+    if (length > 0) {
+        std::unique_ptr<jint[]> umValueTypes(new jint[length]);
+        std::unique_ptr<jlong[]> umLongValues(new jlong[length]);
+        std::unique_ptr<jdouble[]> umDoubleValues(new jdouble[length]);
+        jniEnv->GetIntArrayRegion(valueTypes, 0, length, umValueTypes.get());
+        jniEnv->GetLongArrayRegion(longValues, 0, length, umLongValues.get());
+        jniEnv->GetDoubleArrayRegion(doubleValues, 0, length, umDoubleValues.get());
+        if (jniEnv->ExceptionCheck()) {
+            return nullptr;
+        }
+        // __proto__ is assigned so that it sets the prototype as V8ValueObject.set() does.
+        auto v8LocalStringProto = v8::String::NewFromUtf8Literal(
+            v8Isolate, "__proto__", v8::NewStringType::kInternalized);
+        V8TryCatch v8TryCatch(v8Isolate);
+        for (jsize i = 0; i < length; ++i) {
+            // The primitive values are decoded from the primitive arrays without touching the Java objects.
+            jobject jobjectValue = nullptr;
+            V8LocalValue v8LocalValueValue;
+            switch (static_cast<V8ValueType>(umValueTypes[i])) {
+            case V8ValueType::Null:
+                v8LocalValueValue = Javet::Converter::ToV8Null(v8Isolate);
+                break;
+            case V8ValueType::Undefined:
+                v8LocalValueValue = Javet::Converter::ToV8Undefined(v8Isolate);
+                break;
+            case V8ValueType::Boolean:
+                v8LocalValueValue = Javet::Converter::ToV8Boolean(v8Isolate, umLongValues[i] != 0);
+                break;
+            case V8ValueType::Integer:
+                v8LocalValueValue = Javet::Converter::ToV8Integer(v8Isolate, static_cast<int>(umLongValues[i]));
+                break;
+            case V8ValueType::Long:
+                v8LocalValueValue = Javet::Converter::ToV8Long(v8Isolate, umLongValues[i]);
+                break;
+            case V8ValueType::Double:
+                v8LocalValueValue = Javet::Converter::ToV8Double(v8Isolate, umDoubleValues[i]);
+                break;
+            case V8ValueType::String:
+                jobjectValue = jniEnv->GetObjectArrayElement(objectValues, i);
+                v8LocalValueValue = Javet::Converter::ToV8String(jniEnv, v8Isolate, (jstring)jobjectValue);
+                break;
+            default:
+                jobjectValue = jniEnv->GetObjectArrayElement(objectValues, i);
+                v8LocalValueValue = Javet::Converter::ToV8Value(
+                    jniEnv, v8Isolate, v8Context, jobjectValue, umValueTypes[i]);
+                break;
+            }
+            if (jobjectValue != nullptr) {
+                DELETE_LOCAL_REF(jniEnv, jobjectValue);
+            }
+            if (v8TryCatch.HasCaught()) {
+                Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8Runtime, v8Context, v8TryCatch);
+                return nullptr;
+            }
+            auto jstringKey = (jstring)jniEnv->GetObjectArrayElement(keys, i);
+            auto v8LocalStringKey = v8Runtime->internalizedStringCache.Get(jniEnv, v8Isolate, jstringKey);
+            DELETE_LOCAL_REF(jniEnv, jstringKey);
+            auto v8MaybeBool = v8LocalStringKey->StringEquals(v8LocalStringProto)
+                ? v8LocalObject->Set(v8Context, v8LocalStringKey, v8LocalValueValue)
+                : v8LocalObject->CreateDataProperty(v8Context, v8LocalStringKey, v8LocalValueValue);
+            if (v8MaybeBool.IsNothing()) {
+                if (v8TryCatch.HasCaught()) {
+                    Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8Runtime, v8Context, v8TryCatch);
+                }
+                else {
+                    Javet::Exceptions::HandlePendingException(jniEnv, v8Runtime, v8Context);
+                }
+                return nullptr;
+            }
+        }
+    }
+    return v8Runtime->SafeToExternalV8Value(jniEnv, v8Isolate, v8Context, v8LocalObject);
+}
+
+JNIEXPORT jobjectArray JNICALL Java_com_caoccao_javet_interop_V8Native_objectDeepRead
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType,
+    jint maxDepth, jboolean skipFunctionInObject) {
+    using DeepReadResult = Javet::DeepReader::DeepReadResult;
+    RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+    std::vector<uint8_t> buffer;
+    std::vector<V8LocalValue> references;
+    V8TryCatch v8TryCatch(v8Isolate);
+    auto deepReadResult = Javet::DeepReader::read(
+        v8Context, v8LocalValue, maxDepth, skipFunctionInObject, buffer, references);
+    if (deepReadResult == DeepReadResult::Unsupported) {
+        return nullptr;
+    }
+    if (deepReadResult == DeepReadResult::Failed) {
+        if (v8TryCatch.HasCaught()) {
+            Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8Runtime, v8Context, v8TryCatch);
+        }
+        else {
+            Javet::Exceptions::HandlePendingException(jniEnv, v8Runtime, v8Context);
+        }
+        return nullptr;
+    }
+    // The first element is the buffer, the rest are the references.
+    const jsize length = static_cast<jsize>(references.size() + 1);
+    jobjectArray results = jniEnv->NewObjectArray(length, Javet::Converter::jclassObject, nullptr);
+    if (results == nullptr) {
+        return nullptr;
+    }
+    jbyteArray jbyteArrayBuffer = jniEnv->NewByteArray(static_cast<jsize>(buffer.size()));
+    if (jbyteArrayBuffer == nullptr) {
+        DELETE_LOCAL_REF(jniEnv, results);
+        return nullptr;
+    }
+    jniEnv->SetByteArrayRegion(
+        jbyteArrayBuffer,
+        0,
+        static_cast<jsize>(buffer.size()),
+        reinterpret_cast<const jbyte*>(buffer.data()));
+    jniEnv->SetObjectArrayElement(results, 0, jbyteArrayBuffer);
+    DELETE_LOCAL_REF(jniEnv, jbyteArrayBuffer);
+    for (jsize i = 1; i < length; ++i) {
+        jobject reference = v8Runtime->SafeToExternalV8Value(jniEnv, v8Isolate, v8Context, references[i - 1]);
+        if (jniEnv->ExceptionCheck()) {
+            DELETE_LOCAL_REF(jniEnv, results);
+            return nullptr;
+        }
+        jniEnv->SetObjectArrayElement(results, i, reference);
+        DELETE_LOCAL_REF(jniEnv, reference);
+    }
+    return results;
+}
+
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_objectDelete
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobject key, jint keyType) {
     RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
@@ -106,7 +243,7 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_objectDelete
             v8MaybeBool = v8LocalObject->Delete(v8Context, integerKey);
         }
         else {
-            auto v8ValueKey = Javet::Converter::ToV8Value(jniEnv, v8Isolate, v8Context, key, keyType);
+            auto v8ValueKey = Javet::Converter::ToV8PropertyKey(jniEnv, v8Runtime, v8Context, key, keyType);
             v8MaybeBool = v8LocalObject->Delete(v8Context, v8ValueKey);
         }
         if (v8MaybeBool.IsNothing()) {
@@ -342,9 +479,9 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_objectHas
             v8MaybeBool = v8LocalObject->Has(v8Context, integerKey);
         }
         else {
-            auto v8LocalValueKey = Javet::Converter::ToV8Value(
+            auto v8LocalValueKey = Javet::Converter::ToV8PropertyKey(
                 jniEnv,
-                v8Isolate,
+                v8Runtime,
                 v8Context,
                 value,
                 valueType);
@@ -393,9 +530,9 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_objectHasOwnP
         else if (
             keyType == static_cast<jint>(Javet::Enums::V8ValueType::String) ||
             keyType == static_cast<jint>(Javet::Enums::V8ValueType::Symbol)) {
-            auto v8LocalValueKey = Javet::Converter::ToV8Value(
+            auto v8LocalValueKey = Javet::Converter::ToV8PropertyKey(
                 jniEnv,
-                v8Isolate,
+                v8Runtime,
                 v8Context,
                 key,
                 keyType);
@@ -452,7 +589,7 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_objectInvoke
     }
     if (v8LocalValue->IsObject()) {
         auto v8LocalObject = v8LocalValue.As<v8::Object>();
-        auto v8MaybeLocalValue = v8LocalObject->Get(v8Context, Javet::Converter::ToV8String(jniEnv, v8Isolate, mFunctionName));
+        auto v8MaybeLocalValue = v8LocalObject->Get(v8Context, v8Runtime->internalizedStringCache.Get(jniEnv, v8Isolate, mFunctionName));
         if (v8MaybeLocalValue.IsEmpty()) {
             if (Javet::Exceptions::HandlePendingException(jniEnv, v8Runtime, v8Context)) {
                 return nullptr;
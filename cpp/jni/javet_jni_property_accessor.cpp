@@ -41,9 +41,9 @@ namespace Javet {
                             Javet::Converter::ToJavaIntegerFromV8ValueInteger(jniEnv, key);
                         return v8LocalObject->Get(v8Context, integerKey);
                     }
-                    auto v8LocalValueKey = Javet::Converter::ToV8Value(
+                    auto v8LocalValueKey = Javet::Converter::ToV8PropertyKey(
                         jniEnv,
-                        v8Runtime->v8Isolate,
+                        v8Runtime,
                         v8Context,
                         key,
                         keyType);
@@ -80,9 +80,9 @@ namespace Javet {
                             Javet::Converter::ToJavaIntegerFromV8ValueInteger(jniEnv, key);
                         return v8LocalObject->Set(v8Context, integerKey, v8LocalValueValue);
                     }
-                    auto v8LocalValueKey = Javet::Converter::ToV8Value(
+                    auto v8LocalValueKey = Javet::Converter::ToV8PropertyKey(
                         jniEnv,
-                        v8Runtime->v8Isolate,
+                        v8Runtime,
                         v8Context,
                         key,
                         keyType);
@@ -103,9 +103,9 @@ namespace Javet {
                     const V8LocalValue& v8LocalValue,
                     jobject key,
                     jint keyType) noexcept {
-                    auto v8LocalValueKey = Javet::Converter::ToV8Value(
+                    auto v8LocalValueKey = Javet::Converter::ToV8PropertyKey(
                         jniEnv,
-                        v8Runtime->v8Isolate,
+                        v8Runtime,
                         v8Context,
                         key,
                         keyType);
@@ -130,9 +130,9 @@ namespace Javet {
                     jobject key,
                     jint keyType,
                     const V8LocalValue& v8LocalValueValue) noexcept {
-                    auto v8LocalValueKey = Javet::Converter::ToV8Value(
+                    auto v8LocalValueKey = Javet::Converter::ToV8PropertyKey(
                         jniEnv,
-                        v8Runtime->v8Isolate,
+                        v8Runtime,
                         v8Context,
                         key,
                         keyType);
@@ -19,7 +19,7 @@
 #include "javet_jni_compiler.h"
 
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptCompile
-(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jstring mScript, jbyteArray mCachedData, jboolean mResultRequired,
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject mScript, jbyteArray mCachedData, jboolean mResultRequired,
     jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId, jboolean mIsWASM, jboolean mIsModule) {
     RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
     if (!mIsModule) {
@@ -47,7 +47,7 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptCompile
 }
 
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptExecute
-(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jstring mScript, jbyteArray mCachedData, jboolean mResultRequired,
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject mScript, jbyteArray mCachedData, jboolean mResultRequired,
     jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId, jboolean mIsWASM) {
     RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
     auto compileResult = Javet::Compiler::compileScript(
@@ -128,3 +128,47 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptRun
     Javet::Exceptions::ClearJNIException(jniEnv);
     return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime);
 }
+
+JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingCreate
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject mScript) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    return TO_JAVA_LONG(Javet::Compiler::startScriptStreaming(jniEnv, v8Runtime, mScript));
+}
+
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingFinish
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong scriptStreamingHandle, jboolean mResultRequired,
+    jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId, jboolean mIsWASM) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    const auto compileResult = Javet::Compiler::finishScriptStreaming(
+        jniEnv,
+        v8Runtime,
+        v8Context,
+        reinterpret_cast<Javet::Compiler::ScriptStreaming*>(scriptStreamingHandle),
+        mResourceName,
+        mResourceLineOffset,
+        mResourceColumnOffset,
+        mScriptId,
+        mIsWASM);
+    if (mResultRequired) {
+        return Javet::Compiler::toExternal(
+            jniEnv,
+            v8Runtime,
+            v8Context,
+            compileResult);
+    }
+    return nullptr;
+}
+
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingRelease
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong scriptStreamingHandle) {
+    RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+    Javet::Compiler::releaseScriptStreaming(
+        reinterpret_cast<Javet::Compiler::ScriptStreaming*>(scriptStreamingHandle));
+}
+
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_scriptStreamingRun
+(JNIEnv* jniEnv, jobject caller, jlong scriptStreamingHandle) {
+    // The V8 locker is not acquired because the streaming task runs on a background thread.
+    Javet::Compiler::runScriptStreaming(
+        reinterpret_cast<Javet::Compiler::ScriptStreaming*>(scriptStreamingHandle));
+}
@@ -146,6 +146,7 @@ namespace Javet {
 #endif
         externalV8Runtime = nullptr;
         externalException = nullptr;
+        codeCacheRejected = false;
         v8Isolate = nullptr;
         this->v8PlatformPointer = v8PlatformPointer;
     }
@@ -294,6 +295,7 @@ namespace Javet {
             auto internalV8Locker = GetSharedV8Locker();
             v8Inspector.reset();
         }
+        internalizedStringCache.Clear();
         v8GlobalObject.Reset();
         v8GlobalContext.Reset();
         v8Locker.reset();
@@ -427,6 +429,7 @@ namespace Javet {
             // handle it doesn't know about (like our JSGlobalProxy).
             v8GlobalContext.Reset();
             v8GlobalObject.Reset();
+            internalizedStringCache.Clear();
             // Drain the event loop before creating the snapshot.
             node::SpinEventLoop(nodeCommonSetup->env());
             auto snapshot = nodeCommonSetup->CreateSnapshot();
@@ -454,6 +457,7 @@ namespace Javet {
             auto v8LocalContext = GetV8LocalContext();
             v8GlobalContext.Reset();
             v8GlobalObject.Reset();
+            internalizedStringCache.Clear();
             v8SnapshotCreator->SetDefaultContext(v8LocalContext);
             v8::StartupData newV8StartupData = v8SnapshotCreator->CreateBlob(v8::SnapshotCreator::FunctionCodeHandling::kKeep);
             if (newV8StartupData.IsValid()) {
@@ -22,6 +22,7 @@
 #include <optional>
 #include <unordered_set>
 #include "javet_enums.h"
+#include "javet_internalized_string_cache.h"
 #include "javet_logging.h"
 #include "javet_native.h"
 
@@ -70,8 +71,10 @@ namespace Javet {
         v8::Isolate* v8Isolate;
         jobject externalV8Runtime;
         jthrowable externalException;
+        bool codeCacheRejected;
         V8GlobalObject v8GlobalObject;
         std::unique_ptr<Javet::Inspector::JavetInspector> v8Inspector;
+        InternalizedStringCache internalizedStringCache;
 
 #ifdef ENABLE_NODE
         V8Runtime(
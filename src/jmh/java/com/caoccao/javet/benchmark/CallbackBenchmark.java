@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.benchmark;
+
+import com.caoccao.javet.annotations.V8Function;
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Host;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.callback.IJavetDirectCallable;
+import com.caoccao.javet.interop.callback.JavetCallbackContext;
+import com.caoccao.javet.interop.callback.JavetCallbackType;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.primitive.V8ValueInteger;
+import com.caoccao.javet.values.reference.V8ValueFunction;
+import com.caoccao.javet.values.reference.V8ValueObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of calling Java from JavaScript via reflection callbacks and direct call callbacks.
+ * <p>
+ * The loop runs in JavaScript so that the cost measured is dominated by the JNI boundary.
+ *
+ * @since 5.0.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackBenchmark {
+    private static final int CALL_COUNT = 1000;
+    private V8ValueFunction directCallLoop;
+    private V8ValueFunction reflectionLoop;
+    private V8Runtime v8Runtime;
+
+    private static V8ValueFunction createLoop(V8Runtime v8Runtime, String name) throws JavetException {
+        return v8Runtime.createV8ValueFunction(
+                "(() => { let sum = 0; for (let i = 0; i < " + CALL_COUNT + "; ++i) { sum = " +
+                        name + ".add(sum, 1); } return sum; })");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_COUNT)
+    public Integer directCall() throws JavetException {
+        return directCallLoop.callInteger(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_COUNT)
+    public Integer reflection() throws JavetException {
+        return reflectionLoop.callInteger(null);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws JavetException {
+        v8Runtime = V8Host.getV8Instance().createV8Runtime();
+        try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject()) {
+            v8ValueObject.bind(new ReflectionCallbackReceiver());
+            v8Runtime.getGlobalObject().set("reflection", v8ValueObject);
+        }
+        try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject()) {
+            IJavetDirectCallable.NoThisAndResult<Exception> add = (V8Value... v8Values) -> {
+                int a = ((V8ValueInteger) v8Values[0]).getValue();
+                int b = ((V8ValueInteger) v8Values[1]).getValue();
+                return v8Runtime.createV8ValueInteger(a + b);
+            };
+            try (V8ValueFunction v8ValueFunction = v8Runtime.createV8ValueFunction(
+                    new JavetCallbackContext("add", JavetCallbackType.DirectCallNoThisAndResult, add))) {
+                v8ValueObject.set("add", v8ValueFunction);
+            }
+            v8Runtime.getGlobalObject().set("directCall", v8ValueObject);
+        }
+        reflectionLoop = createLoop(v8Runtime, "reflection");
+        directCallLoop = createLoop(v8Runtime, "directCall");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JavetException {
+        directCallLoop.close();
+        reflectionLoop.close();
+        v8Runtime.close();
+    }
+
+    public static class ReflectionCallbackReceiver {
+        @V8Function
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.benchmark;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Host;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.converters.JavetObjectConverter;
+import com.caoccao.javet.values.V8Value;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of the round trips of maps, lists and arrays via {@link JavetObjectConverter}.
+ *
+ * @since 5.0.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+    private JavetObjectConverter converter;
+    private int[] intArray;
+    private List<Object> list;
+    private Map<String, Object> map;
+    @Param({"16", "256"})
+    private int size;
+    private V8Runtime v8Runtime;
+
+    @Benchmark
+    public Object intArrayRoundTrip() throws JavetException {
+        return roundTrip(intArray);
+    }
+
+    @Benchmark
+    public Object listRoundTrip() throws JavetException {
+        return roundTrip(list);
+    }
+
+    @Benchmark
+    public Object mapRoundTrip() throws JavetException {
+        return roundTrip(map);
+    }
+
+    private Object roundTrip(Object object) throws JavetException {
+        try (V8Value v8Value = converter.toV8Value(v8Runtime, object)) {
+            return converter.toObject(v8Value);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws JavetException {
+        v8Runtime = V8Host.getV8Instance().createV8Runtime();
+        converter = new JavetObjectConverter();
+        intArray = new int[size];
+        list = new ArrayList<>(size);
+        map = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; ++i) {
+            intArray[i] = i;
+            list.add(i % 2 == 0 ? Integer.valueOf(i) : "value" + i);
+            Map<String, Object> child = new HashMap<>();
+            child.put("index", i);
+            child.put("name", "name" + i);
+            map.put("key" + i, child);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JavetException {
+        v8Runtime.close();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.benchmark;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.engine.IJavetEngine;
+import com.caoccao.javet.interop.engine.JavetEngineConfig;
+import com.caoccao.javet.interop.engine.JavetEnginePool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of checking out and releasing engines from {@link JavetEnginePool}.
+ * <p>
+ * Run it with multiple threads (e.g. {@code -t 8}) to measure the contention.
+ *
+ * @since 5.0.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnginePoolBenchmark {
+    @Param({"false", "true"})
+    private boolean fair;
+    private JavetEnginePool<V8Runtime> javetEnginePool;
+
+    @Benchmark
+    public void checkout() throws JavetException {
+        try (IJavetEngine<V8Runtime> iJavetEngine = javetEnginePool.getEngine()) {
+            iJavetEngine.getV8Runtime();
+        }
+    }
+
+    @Benchmark
+    public Integer checkoutAndExecute() throws JavetException {
+        try (IJavetEngine<V8Runtime> iJavetEngine = javetEnginePool.getEngine()) {
+            return iJavetEngine.getV8Runtime().getExecutor("1 + 1").executeInteger();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JavetEngineConfig javetEngineConfig = new JavetEngineConfig();
+        javetEngineConfig.setWaitForEngineFair(fair);
+        javetEnginePool = new JavetEnginePool<>(javetEngineConfig);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JavetException {
+        javetEnginePool.close();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.benchmark;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Host;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.converters.JavetProxyConverter;
+import com.caoccao.javet.values.reference.V8ValueFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of the property get / set and method calls on Java objects
+ * proxied by {@link JavetProxyConverter}.
+ *
+ * @since 5.0.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyBenchmark {
+    private static final int CALL_COUNT = 1000;
+    private V8ValueFunction getLoop;
+    private V8ValueFunction methodLoop;
+    @Param({"false", "true"})
+    private boolean proxyMethodCacheEnabled;
+    private V8ValueFunction setLoop;
+    private V8Runtime v8Runtime;
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_COUNT)
+    public Integer get() throws JavetException {
+        return getLoop.callInteger(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_COUNT)
+    public Integer method() throws JavetException {
+        return methodLoop.callInteger(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALL_COUNT)
+    public Integer set() throws JavetException {
+        return setLoop.callInteger(null);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws JavetException {
+        v8Runtime = V8Host.getV8Instance().createV8Runtime();
+        JavetProxyConverter converter = new JavetProxyConverter();
+        converter.getConfig().setProxyMethodCacheEnabled(proxyMethodCacheEnabled);
+        v8Runtime.setConverter(converter);
+        v8Runtime.getGlobalObject().set("counter", new Counter());
+        getLoop = v8Runtime.createV8ValueFunction(
+                "(() => { let sum = 0; for (let i = 0; i < " + CALL_COUNT + "; ++i) { sum += counter.value; } " +
+                        "return sum; })");
+        setLoop = v8Runtime.createV8ValueFunction(
+                "(() => { for (let i = 0; i < " + CALL_COUNT + "; ++i) { counter.value = i; } " +
+                        "return counter.value; })");
+        methodLoop = v8Runtime.createV8ValueFunction(
+                "(() => { let sum = 0; for (let i = 0; i < " + CALL_COUNT + "; ++i) { sum = counter.add(sum, 1); } " +
+                        "return sum; })");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JavetException {
+        getLoop.close();
+        methodLoop.close();
+        setLoop.close();
+        v8Runtime.getGlobalObject().delete("counter");
+        v8Runtime.lowMemoryNotification();
+        v8Runtime.close();
+    }
+
+    public static class Counter {
+        public int value = 1;
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.benchmark;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Host;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.values.reference.V8Script;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of compiling and executing scripts with and without the code cache.
+ * <p>
+ * Every invocation produces a distinct source so that the V8 in-isolate compilation cache is bypassed.
+ * The counter comment is fixed-width so that the source length stays the same and the cached data
+ * produced in the setup is still accepted by V8.
+ *
+ * @since 5.0.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptExecutionBenchmark {
+    private static final String CODE_TEMPLATE = "/* %010d */\n" +
+            "const fib = (n) => n <= 1 ? n : fib(n - 1) + fib(n - 2);\n" +
+            "const values = [];\n" +
+            "for (let i = 0; i < 20; ++i) { values.push(JSON.stringify({ index: i, fib: fib(i % 10) })); }\n" +
+            "values.length;";
+    private byte[] cachedData;
+    private int counter;
+    private V8Runtime v8Runtime;
+
+    @Benchmark
+    public Integer executeWithCachedData() throws JavetException {
+        return v8Runtime.getExecutor(nextCodeString(), cachedData)
+                .setResourceName("./benchmark.js")
+                .executeInteger();
+    }
+
+    @Benchmark
+    public Integer executeWithoutCachedData() throws JavetException {
+        return v8Runtime.getExecutor(nextCodeString())
+                .setResourceName("./benchmark.js")
+                .executeInteger();
+    }
+
+    private String nextCodeString() {
+        return String.format(CODE_TEMPLATE, ++counter);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws JavetException {
+        v8Runtime = V8Host.getV8Instance().createV8Runtime();
+        try (V8Script v8Script = v8Runtime.getExecutor(String.format(CODE_TEMPLATE, 0))
+                .setResourceName("./benchmark.js")
+                .compileV8Script()) {
+            cachedData = v8Script.getCachedData();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JavetException {
+        v8Runtime.close();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.benchmark;
+
+import com.caoccao.javet.enums.V8ValueType;
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Host;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.values.reference.V8ValueTypedArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of copying Java arrays from and to typed arrays.
+ *
+ * @since 5.0.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypedArrayBenchmark {
+    private byte[] bytes;
+    private int[] integers;
+    @Param({"1024", "1048576"})
+    private int length;
+    private V8ValueTypedArray v8ValueInt32Array;
+    private V8ValueTypedArray v8ValueInt8Array;
+    private V8Runtime v8Runtime;
+
+    @Benchmark
+    public boolean fromBytes() throws JavetException {
+        return v8ValueInt8Array.fromBytes(bytes);
+    }
+
+    @Benchmark
+    public boolean fromIntegers() throws JavetException {
+        return v8ValueInt32Array.fromIntegers(integers);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws JavetException {
+        v8Runtime = V8Host.getV8Instance().createV8Runtime();
+        bytes = new byte[length];
+        integers = new int[length];
+        for (int i = 0; i < length; ++i) {
+            bytes[i] = (byte) i;
+            integers[i] = i;
+        }
+        v8ValueInt8Array = v8Runtime.createV8ValueTypedArray(V8ValueType.Int8Array, length);
+        v8ValueInt32Array = v8Runtime.createV8ValueTypedArray(V8ValueType.Int32Array, length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JavetException {
+        v8ValueInt32Array.close();
+        v8ValueInt8Array.close();
+        v8Runtime.close();
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws JavetException {
+        return v8ValueInt8Array.toBytes();
+    }
+
+    @Benchmark
+    public int[] toIntegers() throws JavetException {
+        return v8ValueInt32Array.toIntegers();
+    }
+}
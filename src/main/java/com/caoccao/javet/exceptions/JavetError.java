@@ -129,6 +129,12 @@ public class JavetError {
      * @since 0.8.5
      */
     public static final String PARAMETER_METHOD_NAME = "methodName";
+    /**
+     * The constant PARAMETER_MODULE_NAME.
+     *
+     * @since 5.0.10
+     */
+    public static final String PARAMETER_MODULE_NAME = "moduleName";
     /**
      * The constant PARAMETER_V8_MODULE_COUNT.
      *
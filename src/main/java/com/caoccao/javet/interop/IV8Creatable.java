@@ -20,6 +20,7 @@ import com.caoccao.javet.annotations.CheckReturnValue;
 import com.caoccao.javet.enums.V8ValueErrorType;
 import com.caoccao.javet.enums.V8ValueType;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.callback.IJavetArrayBufferReleaseCallback;
 import com.caoccao.javet.interop.callback.JavetCallbackContext;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.primitive.*;
@@ -28,6 +29,7 @@ import com.caoccao.javet.values.reference.*;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.time.ZonedDateTime;
+import java.util.Objects;
 
 /**
  * The interface V8 creatable.
@@ -57,6 +59,56 @@ public interface IV8Creatable {
     @CheckReturnValue
     V8ValueArray createV8ValueArray() throws JavetException;
 
+    /**
+     * Create V8 value array of booleans from a boolean array in one JNI call.
+     * <p>
+     * The default implementation creates an empty array and pushes the booleans one by one.
+     *
+     * @param booleans the booleans
+     * @return the V8 value array
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    default V8ValueArray createV8ValueArray(boolean[] booleans) throws JavetException {
+        Objects.requireNonNull(booleans);
+        V8ValueArray v8ValueArray = createV8ValueArray();
+        try {
+            for (boolean booleanValue : booleans) {
+                v8ValueArray.push(booleanValue);
+            }
+        } catch (Throwable t) {
+            v8ValueArray.close();
+            throw t;
+        }
+        return v8ValueArray;
+    }
+
+    /**
+     * Create V8 value array of one-char strings from a char array in one JNI call.
+     * <p>
+     * The default implementation creates an empty array and pushes the one-char strings one by one.
+     *
+     * @param chars the chars
+     * @return the V8 value array
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    default V8ValueArray createV8ValueArray(char[] chars) throws JavetException {
+        Objects.requireNonNull(chars);
+        V8ValueArray v8ValueArray = createV8ValueArray();
+        try {
+            for (char charValue : chars) {
+                v8ValueArray.push(String.valueOf(charValue));
+            }
+        } catch (Throwable t) {
+            v8ValueArray.close();
+            throw t;
+        }
+        return v8ValueArray;
+    }
+
     /**
      * Create V8 value array buffer from a given length.
      *
@@ -70,6 +122,10 @@ public interface IV8Creatable {
 
     /**
      * Create V8 value array buffer from a native byte buffer.
+     * <p>
+     * The array buffer shares the memory of the direct byte buffer without copying
+     * and keeps the byte buffer reachable until V8 releases the backing store.
+     * The caller must not free, unmap or recycle the memory before then.
      *
      * @param byteBuffer the byte buffer
      * @return the V8 value array buffer
@@ -79,6 +135,27 @@ public interface IV8Creatable {
     @CheckReturnValue
     V8ValueArrayBuffer createV8ValueArrayBuffer(ByteBuffer byteBuffer) throws JavetException;
 
+    /**
+     * Create V8 value array buffer from a caller-owned direct byte buffer, e.g. a mapped byte buffer.
+     * <p>
+     * The array buffer shares the memory of the direct byte buffer without copying.
+     * The release callback is called once V8 no longer references the backing store,
+     * e.g. after the array buffer is garbage collected or the V8 runtime is closed.
+     * Only then may the caller free, unmap or recycle the memory.
+     * If the V8 sandbox is enabled, the byte buffer is copied and released immediately.
+     * The byte buffer must be direct and writable, otherwise {@link IllegalArgumentException} is thrown.
+     *
+     * @param byteBuffer      the direct byte buffer
+     * @param releaseCallback the release callback
+     * @return the V8 value array buffer
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    V8ValueArrayBuffer createV8ValueArrayBuffer(
+            ByteBuffer byteBuffer,
+            IJavetArrayBufferReleaseCallback releaseCallback) throws JavetException;
+
     /**
      * Create V8 value big integer.
      *
@@ -252,6 +329,38 @@ public interface IV8Creatable {
     @CheckReturnValue
     V8ValueObject createV8ValueObject() throws JavetException;
 
+    /**
+     * Create V8 value object from the keys and values in one JNI call.
+     * <p>
+     * The properties are defined as own data properties, except that <code>__proto__</code>
+     * sets the prototype as {@link V8ValueObject#set(Object, Object)} does.
+     * The default implementation creates an empty object and sets the properties one by one.
+     *
+     * @param keys   the keys
+     * @param values the values
+     * @return the V8 value object
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    default V8ValueObject createV8ValueObject(String[] keys, V8Value[] values) throws JavetException {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(values);
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("The length of keys and values must match.");
+        }
+        V8ValueObject v8ValueObject = createV8ValueObject();
+        try {
+            for (int i = 0; i < keys.length; ++i) {
+                v8ValueObject.set(keys[i], values[i]);
+            }
+        } catch (Throwable t) {
+            v8ValueObject.close();
+            throw t;
+        }
+        return v8ValueObject;
+    }
+
     /**
      * Create V8 value promise.
      *
@@ -295,6 +404,22 @@ public interface IV8Creatable {
     @CheckReturnValue
     V8ValueSet createV8ValueSet() throws JavetException;
 
+    /**
+     * Create V8 value shared array buffer from a caller-owned direct byte buffer, e.g. a mapped byte buffer.
+     * <p>
+     * The lifetime contract is the same as {@link #createV8ValueArrayBuffer(ByteBuffer, IJavetArrayBufferReleaseCallback)}.
+     *
+     * @param byteBuffer      the direct byte buffer
+     * @param releaseCallback the release callback
+     * @return the V8 value shared array buffer
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    V8ValueSharedArrayBuffer createV8ValueSharedArrayBuffer(
+            ByteBuffer byteBuffer,
+            IJavetArrayBufferReleaseCallback releaseCallback) throws JavetException;
+
     /**
      * Create V8 value string.
      *
@@ -51,6 +51,18 @@ public interface IV8Native {
      */
     Object arrayBufferCreate(long v8RuntimeHandle, ByteBuffer byteBuffer);
 
+    /**
+     * Create a new ArrayBuffer or SharedArrayBuffer backed by the given ByteBuffer
+     * with a release callback which is called once V8 no longer references the ByteBuffer.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param byteBuffer      the byte buffer
+     * @param shared          true: SharedArrayBuffer, false: ArrayBuffer
+     * @param releaseCallback the release callback, nullable
+     * @return the result
+     */
+    Object arrayBufferCreate(long v8RuntimeHandle, ByteBuffer byteBuffer, boolean shared, Object releaseCallback);
+
     /**
      * Create a new empty Array.
      *
@@ -59,6 +71,24 @@ public interface IV8Native {
      */
     Object arrayCreate(long v8RuntimeHandle);
 
+    /**
+     * Create a new Array of booleans from a boolean array in one JNI call.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param booleans        the booleans
+     * @return the result
+     */
+    Object arrayCreateFromBooleans(long v8RuntimeHandle, boolean[] booleans);
+
+    /**
+     * Create a new Array of one-char strings from a char array in one JNI call.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param chars           the chars
+     * @return the result
+     */
+    Object arrayCreateFromChars(long v8RuntimeHandle, char[] chars);
+
     /**
      * Get the length of an Array.
      *
@@ -230,6 +260,17 @@ public interface IV8Native {
      */
     long createV8Runtime(Object runtimeOptions);
 
+    /**
+     * Deserialize a value with the V8 value deserializer.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param buffer          the direct byte buffer or the byte array
+     * @param offset          the offset
+     * @param length          the length
+     * @return the result
+     */
+    Object deserialize(long v8RuntimeHandle, Object buffer, int offset, int length);
+
     /**
      * Create a Number object wrapper from a double.
      *
@@ -532,6 +573,22 @@ public interface IV8Native {
      */
     Object getGlobalObject(long v8RuntimeHandle);
 
+    /**
+     * Get the capacity of the internalized string cache of the V8 runtime.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @return the capacity
+     */
+    int getInternalizedStringCacheCapacity(long v8RuntimeHandle);
+
+    /**
+     * Get the size of the internalized string cache of the V8 runtime.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @return the size
+     */
+    int getInternalizedStringCacheSize(long v8RuntimeHandle);
+
     /**
      * Get internal statistics.
      *
@@ -626,6 +683,15 @@ public interface IV8Native {
      */
     Object integerObjectValueOf(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
+    /**
+     * Internalize a string and put it in the internalized string cache of the V8 runtime.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param str             the string
+     * @return true if the string is internalized
+     */
+    boolean internalizeString(long v8RuntimeHandle, String str);
+
     /**
      * Check if battery saver mode is enabled for the V8 runtime.
      *
@@ -634,6 +700,14 @@ public interface IV8Native {
      */
     boolean isBatterySaverModeEnabled(long v8RuntimeHandle);
 
+    /**
+     * Check if the code cache is rejected in the last compilation of the V8 runtime.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @return true if the code cache is rejected
+     */
+    boolean isCodeCacheRejected(long v8RuntimeHandle);
+
     /**
      * Check if the V8 runtime is dead.
      *
@@ -987,7 +1061,7 @@ public interface IV8Native {
      * Compile a Module from source code with optional cached data.
      *
      * @param v8RuntimeHandle      the V8 runtime handle
-     * @param script               the script source code
+     * @param script               the script source code or the direct byte buffer of one-byte characters
      * @param cachedData           the cached data
      * @param returnResult         whether to return the result
      * @param resourceName         the resource name
@@ -999,7 +1073,7 @@ public interface IV8Native {
      * @return the result
      */
     Object moduleCompile(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM, boolean isModule);
 
@@ -1029,7 +1103,7 @@ public interface IV8Native {
      * Compile and execute a Module from source code.
      *
      * @param v8RuntimeHandle      the V8 runtime handle
-     * @param script               the script source code
+     * @param script               the script source code or the direct byte buffer of one-byte characters
      * @param cachedData           the cached data
      * @param returnResult         whether to return the result
      * @param resourceName         the resource name
@@ -1040,7 +1114,7 @@ public interface IV8Native {
      * @return the result
      */
     Object moduleExecute(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM);
 
@@ -1152,6 +1226,41 @@ public interface IV8Native {
      */
     Object objectCreate(long v8RuntimeHandle);
 
+    /**
+     * Create a new Object from the entries in one JNI call.
+     * <p>
+     * The values are encoded by the value types. Null and undefined take no value.
+     * Boolean (0 or 1), integer and long take the long values. Double takes the double values.
+     * String takes the Java string in the object values. The rest take the V8 values in the object values.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param keys            the keys
+     * @param valueTypes      the value types
+     * @param longValues      the long values
+     * @param doubleValues    the double values
+     * @param objectValues    the object values
+     * @return the result
+     */
+    Object objectCreateFromEntries(
+            long v8RuntimeHandle, String[] keys, int[] valueTypes,
+            long[] longValues, double[] doubleValues, Object[] objectValues);
+
+    /**
+     * Deep read an Object graph into a binary buffer.
+     * The first element of the result is the buffer and the rest are the references
+     * to the values that cannot be encoded in the buffer.
+     *
+     * @param v8RuntimeHandle      the V8 runtime handle
+     * @param v8ValueHandle        the V8 value handle
+     * @param v8ValueType          the V8 value type
+     * @param maxDepth             the max depth
+     * @param skipFunctionInObject whether functions in objects are skipped
+     * @return the result or null if the value is not supported
+     */
+    Object[] objectDeepRead(
+            long v8RuntimeHandle, long v8ValueHandle, int v8ValueType,
+            int maxDepth, boolean skipFunctionInObject);
+
     /**
      * Delete a property from an Object by key.
      *
@@ -1784,6 +1893,15 @@ public interface IV8Native {
      */
     void removeReferenceHandle(long v8RuntimeHandle, long referenceHandle, int referenceType);
 
+    /**
+     * Remove V8 reference handles in a batch.
+     *
+     * @param v8RuntimeHandle  the V8 runtime handle
+     * @param referenceHandles the reference handles
+     * @param referenceTypes   the reference types
+     */
+    void removeReferenceHandles(long v8RuntimeHandle, long[] referenceHandles, int[] referenceTypes);
+
     /**
      * Report pending messages in the V8 runtime.
      *
@@ -1830,7 +1948,7 @@ public interface IV8Native {
      * Compile a Script from source code with optional cached data.
      *
      * @param v8RuntimeHandle      the V8 runtime handle
-     * @param script               the script source code
+     * @param script               the script source code or the direct byte buffer of one-byte characters
      * @param cachedData           the cached data
      * @param returnResult         whether to return the result
      * @param resourceName         the resource name
@@ -1842,7 +1960,7 @@ public interface IV8Native {
      * @return the result
      */
     Object scriptCompile(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM, boolean isModule);
 
@@ -1850,7 +1968,7 @@ public interface IV8Native {
      * Compile and execute a Script from source code.
      *
      * @param v8RuntimeHandle      the V8 runtime handle
-     * @param script               the script source code
+     * @param script               the script source code or the direct byte buffer of one-byte characters
      * @param cachedData           the cached data
      * @param returnResult         whether to return the result
      * @param resourceName         the resource name
@@ -1861,7 +1979,7 @@ public interface IV8Native {
      * @return the result
      */
     Object scriptExecute(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM);
 
@@ -1896,6 +2014,59 @@ public interface IV8Native {
      */
     Object scriptRun(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, boolean resultRequired);
 
+    /**
+     * Start streaming a Script so that it can be parsed and compiled on a background thread.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param script          the script source code or the direct byte buffer of one-byte characters
+     * @return the script streaming handle or 0 if it cannot be created
+     */
+    long scriptStreamingCreate(long v8RuntimeHandle, Object script);
+
+    /**
+     * Finish a streamed Script on the isolate thread and release the script streaming.
+     *
+     * @param v8RuntimeHandle       the V8 runtime handle
+     * @param scriptStreamingHandle the script streaming handle
+     * @param returnResult          whether to return the result
+     * @param resourceName          the resource name
+     * @param resourceLineOffset    the resource line offset
+     * @param resourceColumnOffset  the resource column offset
+     * @param scriptId              the script ID
+     * @param isWASM                whether the script is WebAssembly
+     * @return the result
+     */
+    Object scriptStreamingFinish(
+            long v8RuntimeHandle, long scriptStreamingHandle, boolean returnResult,
+            String resourceName, int resourceLineOffset, int resourceColumnOffset,
+            int scriptId, boolean isWASM);
+
+    /**
+     * Release a script streaming that is not going to be finished.
+     *
+     * @param v8RuntimeHandle       the V8 runtime handle
+     * @param scriptStreamingHandle the script streaming handle
+     */
+    void scriptStreamingRelease(long v8RuntimeHandle, long scriptStreamingHandle);
+
+    /**
+     * Parse and compile a streamed Script without the V8 locker.
+     * It is called on a background thread, and at most once per script streaming.
+     *
+     * @param scriptStreamingHandle the script streaming handle
+     */
+    void scriptStreamingRun(long scriptStreamingHandle);
+
+    /**
+     * Serialize a value with the V8 value serializer.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param value           the value
+     * @param valueType       the value type
+     * @return the serialized bytes
+     */
+    byte[] serialize(long v8RuntimeHandle, Object value, int valueType);
+
     /**
      * Add a value to a Set.
      *
@@ -1976,6 +2147,14 @@ public interface IV8Native {
      */
     boolean setHas(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object value, int valueType);
 
+    /**
+     * Set the capacity of the internalized string cache of the V8 runtime.
+     *
+     * @param v8RuntimeHandle the V8 runtime handle
+     * @param capacity        the capacity, 0 disables the cache
+     */
+    void setInternalizedStringCacheCapacity(long v8RuntimeHandle, int capacity);
+
     /**
      * Enable or disable memory saver mode for the V8 runtime.
      *
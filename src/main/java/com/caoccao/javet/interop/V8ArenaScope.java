@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.utils.JavetResourceUtils;
+import com.caoccao.javet.utils.LongObjectMap;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.IV8ValueReference;
+
+/**
+ * The type V8 arena scope owns all the references created by the current thread during its lifetime.
+ * <p>
+ * The references created within the arena scope are tracked by the arena scope instead of the V8 runtime,
+ * so that neither the creation nor the close of them touches the shared reference registry.
+ * When the arena scope is closed, all the references that are not closed, escaped or weak
+ * are closed and released via a single JNI call.
+ * <p>
+ * If the arena scope is escapable, all the remaining references are handed over to the parent
+ * arena scope or the V8 runtime. A particular reference can be handed over via {@link #escape(V8Value)}.
+ * <p>
+ * The arena scope must be used by try-with-resource on a single thread. The references created
+ * within the arena scope must be closed on the same thread.
+ * <pre>
+ * try (V8ArenaScope v8ArenaScope = v8Runtime.getV8ArenaScope()) {
+ *     V8ValueArray v8ValueArray = v8ArenaScope.createV8ValueArray();
+ *     for (int i = 0; i &lt; 1000; ++i) {
+ *         // The temporary objects are released together with the arena scope.
+ *         V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject();
+ *         v8ValueArray.push(v8ValueObject);
+ *     }
+ *     // v8ValueArray will not be closed.
+ *     return v8ArenaScope.escape(v8ValueArray);
+ * }
+ * </pre>
+ *
+ * @since 5.0.10
+ */
+public class V8ArenaScope extends V8Scope {
+    /**
+     * The Parent arena scope.
+     *
+     * @since 5.0.10
+     */
+    final V8ArenaScope parentArenaScope;
+    /**
+     * The References tracked by this arena scope.
+     *
+     * @since 5.0.10
+     */
+    final LongObjectMap<IV8ValueReference> references;
+
+    /**
+     * Instantiates a new V8 arena scope.
+     *
+     * @param v8Runtime the V8 runtime
+     * @since 5.0.10
+     */
+    V8ArenaScope(V8Runtime v8Runtime) {
+        super(v8Runtime);
+        references = new LongObjectMap<>();
+        parentArenaScope = v8Runtime.pushArenaScope(this);
+    }
+
+    @Override
+    public void close() throws JavetException {
+        if (!closed) {
+            try {
+                if (!escapable) {
+                    final V8ReferenceReleaseQueue batch = v8Runtime.beginReferenceReleaseBatch();
+                    try {
+                        JavetResourceUtils.safeClose(values);
+                        for (IV8ValueReference iV8ValueReference : references.values()) {
+                            // Weak references are managed by V8 GC.
+                            if (!iV8ValueReference.isWeak()) {
+                                JavetResourceUtils.safeClose(iV8ValueReference);
+                            }
+                        }
+                    } finally {
+                        v8Runtime.endReferenceReleaseBatch(batch);
+                    }
+                }
+            } finally {
+                closed = true;
+                // The remaining references are handed over to the parent arena scope or the V8 runtime.
+                v8Runtime.popArenaScope(this);
+            }
+        }
+    }
+
+    /**
+     * Escape a value from this arena scope so that it is not closed when this arena scope is closed.
+     *
+     * @param <T>   the type parameter
+     * @param value the value
+     * @return the value
+     * @since 5.0.10
+     */
+    public <T extends V8Value> T escape(T value) {
+        values.remove(value);
+        if (value instanceof IV8ValueReference) {
+            v8Runtime.escapeArenaReference(this, (IV8ValueReference) value);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the count of the references tracked by this arena scope.
+     *
+     * @return the reference count
+     * @since 5.0.10
+     */
+    public int getReferenceCount() {
+        return references.size();
+    }
+}
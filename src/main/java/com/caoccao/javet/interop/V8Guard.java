@@ -84,9 +84,12 @@ public final class V8Guard implements IJavetClosable {
     public void cancel() {
         if (!isClosed()) {
             closed = true;
-            synchronized (v8Runtime.getCloseLock()) {
+            v8Runtime.getCloseLock().lock();
+            try {
                 PriorityBlockingQueue<V8Guard> v8GuardQueue = v8Runtime.getV8Host().getV8GuardDaemon().getV8GuardQueue();
                 boolean ignored = v8GuardQueue.remove(this);
+            } finally {
+                v8Runtime.getCloseLock().unlock();
             }
         }
     }
@@ -620,23 +620,29 @@ public final class V8Host {
                     if (now > v8Guard.getEndTimeMillis()) {
                         if (!(!v8Guard.isDebugModeEnabled() && IS_IN_DEBUG_MODE)) {
                             V8Runtime v8Runtime = v8Guard.getV8Runtime();
-                            synchronized (v8Runtime.getCloseLock()) {
+                            v8Runtime.getCloseLock().lock();
+                            try {
                                 if (!v8Guard.isClosed() && !v8Runtime.isClosed() && v8Runtime.isInUse()) {
                                     v8Runtime.terminateExecution();
                                     v8Runtime.getLogger().logWarn(
                                             "Execution was terminated after {0}ms.",
                                             now - v8Guard.getStartTimeMillis());
                                 }
+                            } finally {
+                                v8Runtime.getCloseLock().unlock();
                             }
                         }
                     } else {
                         V8Runtime v8Runtime = v8Guard.getV8Runtime();
                         long sleepMillis = 0L;
-                        synchronized (v8Runtime.getCloseLock()) {
+                        v8Runtime.getCloseLock().lock();
+                        try {
                             if (!v8Guard.isClosed() && !v8Runtime.isClosed()) {
                                 v8GuardQueue.add(v8Guard);
                                 sleepMillis = Math.min(v8Guard.getEndTimeMillis() - now, sleepIntervalMillis);
                             }
+                        } finally {
+                            v8Runtime.getCloseLock().unlock();
                         }
                         if (sleepMillis > 0) {
                             TimeUnit.MILLISECONDS.sleep(sleepMillis);
@@ -863,6 +863,21 @@ public final class V8Internal {
         return v8Runtime.moduleIsSyntheticModule(iV8Module);
     }
 
+    /**
+     * Deep reads an object graph in one native traversal.
+     *
+     * @param iV8ValueObject       the V8 value object
+     * @param maxDepth             the max depth
+     * @param skipFunctionInObject whether functions in objects are skipped
+     * @return the buffer followed by the references, or null if not supported or the max depth is exceeded
+     * @throws JavetException if a V8 error occurs
+     * @since 5.0.10
+     */
+    public Object[] objectDeepRead(
+            IV8ValueObject iV8ValueObject, int maxDepth, boolean skipFunctionInObject) throws JavetException {
+        return v8Runtime.objectDeepRead(iV8ValueObject, maxDepth, skipFunctionInObject);
+    }
+
     /**
      * Deletes a property from a V8 object by key.
      *
@@ -43,9 +43,18 @@ class V8Native implements IV8Native {
     @Override
     public native Object arrayBufferCreate(long v8RuntimeHandle, ByteBuffer byteBuffer);
 
+    @Override
+    public native Object arrayBufferCreate(long v8RuntimeHandle, ByteBuffer byteBuffer, boolean shared, Object releaseCallback);
+
     @Override
     public native Object arrayCreate(long v8RuntimeHandle);
 
+    @Override
+    public native Object arrayCreateFromBooleans(long v8RuntimeHandle, boolean[] booleans);
+
+    @Override
+    public native Object arrayCreateFromChars(long v8RuntimeHandle, char[] chars);
+
     @Override
     public native int arrayGetLength(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
@@ -102,6 +111,9 @@ class V8Native implements IV8Native {
     @Override
     public native long createV8Runtime(Object runtimeOptions);
 
+    @Override
+    public native Object deserialize(long v8RuntimeHandle, Object buffer, int offset, int length);
+
     @Override
     public native Object doubleObjectCreate(long v8RuntimeHandle, double doubleValue);
 
@@ -198,6 +210,12 @@ class V8Native implements IV8Native {
     @Override
     public native Object getGlobalObject(long v8RuntimeHandle);
 
+    @Override
+    public native int getInternalizedStringCacheCapacity(long v8RuntimeHandle);
+
+    @Override
+    public native int getInternalizedStringCacheSize(long v8RuntimeHandle);
+
     @Override
     public native long[] getInternalStatistic();
 
@@ -231,9 +249,15 @@ class V8Native implements IV8Native {
     @Override
     public native Object integerObjectValueOf(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
+    @Override
+    public native boolean internalizeString(long v8RuntimeHandle, String str);
+
     @Override
     public native boolean isBatterySaverModeEnabled(long v8RuntimeHandle);
 
+    @Override
+    public native boolean isCodeCacheRejected(long v8RuntimeHandle);
+
     @Override
     public native boolean isDead(long v8RuntimeHandle);
 
@@ -350,7 +374,7 @@ class V8Native implements IV8Native {
 
     @Override
     public native Object moduleCompile(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM, boolean isModule);
 
@@ -362,7 +386,7 @@ class V8Native implements IV8Native {
 
     @Override
     public native Object moduleExecute(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM);
 
@@ -399,6 +423,16 @@ class V8Native implements IV8Native {
     @Override
     public native Object objectCreate(long v8RuntimeHandle);
 
+    @Override
+    public native Object objectCreateFromEntries(
+            long v8RuntimeHandle, String[] keys, int[] valueTypes,
+            long[] longValues, double[] doubleValues, Object[] objectValues);
+
+    @Override
+    public native Object[] objectDeepRead(
+            long v8RuntimeHandle, long v8ValueHandle, int v8ValueType,
+            int maxDepth, boolean skipFunctionInObject);
+
     @Override
     public native boolean objectDelete(
             long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key, int keyType);
@@ -603,6 +637,9 @@ class V8Native implements IV8Native {
     @Override
     public native void removeReferenceHandle(long v8RuntimeHandle, long referenceHandle, int referenceType);
 
+    @Override
+    public native void removeReferenceHandles(long v8RuntimeHandle, long[] referenceHandles, int[] referenceTypes);
+
     @Override
     public native boolean reportPendingMessages(long v8RuntimeHandle);
 
@@ -620,13 +657,13 @@ class V8Native implements IV8Native {
 
     @Override
     public native Object scriptCompile(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM, boolean isModule);
 
     @Override
     public native Object scriptExecute(
-            long v8RuntimeHandle, String script, byte[] cachedData, boolean returnResult,
+            long v8RuntimeHandle, Object script, byte[] cachedData, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
             int scriptId, boolean isWASM);
 
@@ -639,6 +676,24 @@ class V8Native implements IV8Native {
     @Override
     public native Object scriptRun(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, boolean resultRequired);
 
+    @Override
+    public native long scriptStreamingCreate(long v8RuntimeHandle, Object script);
+
+    @Override
+    public native Object scriptStreamingFinish(
+            long v8RuntimeHandle, long scriptStreamingHandle, boolean returnResult,
+            String resourceName, int resourceLineOffset, int resourceColumnOffset,
+            int scriptId, boolean isWASM);
+
+    @Override
+    public native void scriptStreamingRelease(long v8RuntimeHandle, long scriptStreamingHandle);
+
+    @Override
+    public native void scriptStreamingRun(long scriptStreamingHandle);
+
+    @Override
+    public native byte[] serialize(long v8RuntimeHandle, Object value, int valueType);
+
     @Override
     public native void setAdd(
             long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object value, int valueType);
@@ -666,6 +721,9 @@ class V8Native implements IV8Native {
     public native boolean setHas(
             long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object value, int valueType);
 
+    @Override
+    public native void setInternalizedStringCacheCapacity(long v8RuntimeHandle, int capacity);
+
     @Override
     public native void setMemorySaverModeEnabled(long v8RuntimeHandle, boolean enabled);
 
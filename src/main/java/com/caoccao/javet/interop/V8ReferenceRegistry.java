@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.utils.LongObjectMap;
+import com.caoccao.javet.values.reference.IV8ValueReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The type V8 reference registry tracks the live references of a V8 runtime by their handles.
+ * <p>
+ * The handles are kept as primitive longs in lock-striped open addressing maps so that
+ * registering and unregistering a reference neither boxes the handle nor allocates an entry,
+ * and concurrent threads rarely contend on the same lock.
+ * The reference count is kept in an atomic counter so that it can be read without taking the locks.
+ *
+ * @since 5.0.10
+ */
+final class V8ReferenceRegistry {
+    private static final int STRIPE_COUNT = 16;
+    private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+    private final AtomicInteger count;
+    private final ReentrantLock[] locks;
+    private final LongObjectMap<IV8ValueReference>[] maps;
+
+    /**
+     * Instantiates a new V8 reference registry.
+     *
+     * @since 5.0.10
+     */
+    // A generic array cannot be created directly. The raw array is safe because it never escapes
+    // and every element is assigned a LongObjectMap<IV8ValueReference> right away.
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    V8ReferenceRegistry() {
+        count = new AtomicInteger();
+        locks = new ReentrantLock[STRIPE_COUNT];
+        maps = new LongObjectMap[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; ++i) {
+            locks[i] = new ReentrantLock();
+            maps[i] = new LongObjectMap<>();
+        }
+    }
+
+    private static int getStripeIndex(long handle) {
+        // The low bits of the native pointers are always 0 because of the alignment.
+        return (int) ((handle >>> 4) ^ (handle >>> 12)) & STRIPE_MASK;
+    }
+
+    /**
+     * Add a reference.
+     *
+     * @param handle            the handle
+     * @param iV8ValueReference the V8 value reference
+     * @since 5.0.10
+     */
+    void add(long handle, IV8ValueReference iV8ValueReference) {
+        final int index = getStripeIndex(handle);
+        final ReentrantLock lock = locks[index];
+        lock.lock();
+        try {
+            if (maps[index].put(handle, iV8ValueReference) == null) {
+                count.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Clear all references.
+     *
+     * @since 5.0.10
+     */
+    void clear() {
+        for (int i = 0; i < STRIPE_COUNT; ++i) {
+            locks[i].lock();
+            try {
+                count.addAndGet(-maps[i].size());
+                maps[i].clear();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of all references.
+     *
+     * @return the references
+     * @since 5.0.10
+     */
+    List<IV8ValueReference> getReferences() {
+        List<IV8ValueReference> references = new ArrayList<>(size());
+        for (int i = 0; i < STRIPE_COUNT; ++i) {
+            locks[i].lock();
+            try {
+                references.addAll(maps[i].values());
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return references;
+    }
+
+    /**
+     * Is empty.
+     *
+     * @return true : empty, false : not empty
+     * @since 5.0.10
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Remove a reference by handle.
+     *
+     * @param handle the handle
+     * @return the removed V8 value reference or null if not found
+     * @since 5.0.10
+     */
+    IV8ValueReference remove(long handle) {
+        final int index = getStripeIndex(handle);
+        final ReentrantLock lock = locks[index];
+        lock.lock();
+        try {
+            IV8ValueReference iV8ValueReference = maps[index].remove(handle);
+            if (iV8ValueReference != null) {
+                count.decrementAndGet();
+            }
+            return iV8ValueReference;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the reference count.
+     * It is read without taking the locks, so it is approximate while the references
+     * are being added or removed concurrently.
+     *
+     * @return the reference count
+     * @since 5.0.10
+     */
+    int size() {
+        return count.get();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The type V8 reference release queue collects the reference handles to be released
+ * so that they can be released via a single JNI call.
+ * <p>
+ * It backs both the deferred mode of the V8 runtime and the reference release batch of a thread.
+ * The owner is responsible for flushing the queue when the batch ends, when the queue
+ * reaches its capacity and when the V8 runtime is closed or reset.
+ *
+ * @since 5.0.10
+ */
+final class V8ReferenceReleaseQueue {
+    /**
+     * The constant DEFAULT_CAPACITY.
+     *
+     * @since 5.0.10
+     */
+    static final int DEFAULT_CAPACITY = 1024;
+    private static final int INITIAL_LENGTH = 64;
+    private final int capacity;
+    private final ReentrantLock lock;
+    private volatile boolean deferred;
+    private long[] referenceHandles;
+    private int[] referenceTypes;
+    private int size;
+
+    /**
+     * Instantiates a new V8 reference release queue.
+     *
+     * @param capacity the capacity that triggers a flush
+     * @since 5.0.10
+     */
+    V8ReferenceReleaseQueue(int capacity) {
+        this.capacity = capacity;
+        deferred = false;
+        lock = new ReentrantLock();
+        referenceHandles = new long[INITIAL_LENGTH];
+        referenceTypes = new int[INITIAL_LENGTH];
+        size = 0;
+    }
+
+    /**
+     * Gets capacity.
+     *
+     * @return the capacity
+     * @since 5.0.10
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Is deferred.
+     *
+     * @return true : deferred, false : not deferred
+     * @since 5.0.10
+     */
+    boolean isDeferred() {
+        return deferred;
+    }
+
+    /**
+     * Offer a reference handle to the queue.
+     *
+     * @param referenceHandle the reference handle
+     * @param referenceType   the reference type
+     * @return the queue size after the handle is queued
+     * @since 5.0.10
+     */
+    int offer(long referenceHandle, int referenceType) {
+        lock.lock();
+        try {
+            if (size == referenceHandles.length) {
+                referenceHandles = Arrays.copyOf(referenceHandles, size << 1);
+                referenceTypes = Arrays.copyOf(referenceTypes, size << 1);
+            }
+            referenceHandles[size] = referenceHandle;
+            referenceTypes[size] = referenceType;
+            return ++size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Poll all the queued reference handles.
+     *
+     * @return the batch or null if the queue is empty
+     * @since 5.0.10
+     */
+    Batch poll() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                return null;
+            }
+            Batch batch = new Batch(
+                    Arrays.copyOf(referenceHandles, size),
+                    Arrays.copyOf(referenceTypes, size));
+            size = 0;
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets deferred.
+     *
+     * @param deferred the deferred
+     * @since 5.0.10
+     */
+    void setDeferred(boolean deferred) {
+        this.deferred = deferred;
+    }
+
+    /**
+     * Gets the queue size.
+     *
+     * @return the size
+     * @since 5.0.10
+     */
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The type Batch holds the reference handles and types polled from the queue.
+     *
+     * @since 5.0.10
+     */
+    static final class Batch {
+        /**
+         * The Reference handles.
+         *
+         * @since 5.0.10
+         */
+        final long[] referenceHandles;
+        /**
+         * The Reference types.
+         *
+         * @since 5.0.10
+         */
+        final int[] referenceTypes;
+
+        private Batch(long[] referenceHandles, int[] referenceTypes) {
+            this.referenceHandles = referenceHandles;
+            this.referenceTypes = referenceTypes;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.interop.callback.*;
 import com.caoccao.javet.interop.converters.IJavetConverter;
 import com.caoccao.javet.interop.converters.JavetObjectConverter;
+import com.caoccao.javet.interop.executors.IV8CodeCacheStore;
 import com.caoccao.javet.interop.executors.IV8Executor;
 import com.caoccao.javet.interop.executors.V8FileExecutor;
 import com.caoccao.javet.interop.executors.V8PathExecutor;
@@ -50,8 +51,14 @@ import java.text.MessageFormat;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.caoccao.javet.exceptions.JavetError.PARAMETER_FEATURE;
 
@@ -74,12 +81,24 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 2.2.0
      */
     protected static final String ERROR_BYTE_BUFFER_MUST_BE_DIRECT = "Byte buffer must be direct.";
+    /**
+     * The constant ERROR_BYTE_BUFFER_MUST_NOT_BE_READ_ONLY.
+     *
+     * @since 5.0.10
+     */
+    protected static final String ERROR_BYTE_BUFFER_MUST_NOT_BE_READ_ONLY = "Byte buffer must not be read-only.";
     /**
      * The constant ERROR_HANDLE_MUST_BE_VALID.
      *
      * @since 2.2.0
      */
     protected static final String ERROR_HANDLE_MUST_BE_VALID = "Handle must be valid.";
+    /**
+     * The constant ERROR_KEY_VALUE_LENGTH_MUST_MATCH.
+     *
+     * @since 5.0.10
+     */
+    protected static final String ERROR_KEY_VALUE_LENGTH_MUST_MATCH = "The length of keys and values must match.";
     /**
      * The constant ERROR_SYMBOL_DESCRIPTION_CANNOT_BE_EMPTY.
      *
@@ -117,6 +136,12 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 3.0.4
      */
     protected static final String ERROR_VALUE_CANNOT_BE_A_V_8_SCRIPT = "Value cannot be a V8 script.";
+    /**
+     * The constant ERROR_VALUE_MUST_BELONG_TO_THE_V_8_RUNTIME.
+     *
+     * @since 5.0.10
+     */
+    protected static final String ERROR_VALUE_MUST_BELONG_TO_THE_V_8_RUNTIME = "Value must belong to the V8 runtime.";
     /**
      * The Default converter.
      *
@@ -159,12 +184,24 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.7.4
      */
     static final int V8_VALUE_NUMBER_UPPER_BOUND = 128; // Exclusive
+    /**
+     * The Arena scope count.
+     *
+     * @since 5.0.10
+     */
+    final AtomicInteger arenaScopeCount;
+    /**
+     * The Arena scope of the current thread.
+     *
+     * @since 5.0.10
+     */
+    final ThreadLocal<V8ArenaScope> arenaScopeThreadLocal;
     /**
      * The Callback context lock.
      *
      * @since 0.9.12
      */
-    final Object callbackContextLock;
+    final ReentrantLock callbackContextLock;
     /**
      * The Callback context map.
      * <p>
@@ -201,23 +238,43 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      */
     final boolean[] primitiveFlags;
     /**
-     * The Reference lock.
+     * The Reference registry.
      *
-     * @since 0.9.12
+     * @since 5.0.10
      */
-    final Object referenceLock;
+    final V8ReferenceRegistry referenceRegistry;
     /**
-     * The Reference map.
+     * The Reference release batch count.
      *
-     * @since 0.7.0
+     * @since 5.0.10
+     */
+    final AtomicInteger referenceReleaseBatchCount;
+    /**
+     * The Reference release batch of the current thread.
+     *
+     * @since 5.0.10
      */
-    final Map<Long, IV8ValueReference> referenceMap;
+    final ThreadLocal<V8ReferenceReleaseQueue> referenceReleaseBatchThreadLocal;
+    /**
+     * The Reference release queue.
+     *
+     * @since 5.0.10
+     */
+    final V8ReferenceReleaseQueue referenceReleaseQueue;
     /**
      * The Runtime options.
      *
      * @since 1.0.0
      */
     final RuntimeOptions<?> runtimeOptions;
+    /**
+     * The script streaming future map.
+     * The key is the script streaming handle and the value is completed
+     * when the script streaming no longer runs on the background thread.
+     *
+     * @since 5.0.10
+     */
+    final Map<Long, CompletableFuture<Void>> scriptStreamingFutureMap;
     /**
      * The V8 host.
      *
@@ -235,7 +292,7 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      *
      * @since 0.9.12
      */
-    final Object v8ModuleLock;
+    final ReentrantLock v8ModuleLock;
     /**
      * The V8 module map.
      *
@@ -277,7 +334,13 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      *
      * @since 3.1.3
      */
-    Object closeLock;
+    ReentrantLock closeLock;
+    /**
+     * The Code cache store.
+     *
+     * @since 5.0.10
+     */
+    IV8CodeCacheStore codeCacheStore;
     /**
      * The Converter.
      *
@@ -332,6 +395,12 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.7.0
      */
     IV8Native v8Native;
+    /**
+     * The V8 worker.
+     *
+     * @since 5.0.10
+     */
+    volatile V8Worker v8Worker;
 
     /**
      * Instantiates a new V8 runtime.
@@ -352,9 +421,9 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
             JSRuntimeType jsRuntimeType,
             RuntimeOptions<?> runtimeOptions) {
         assert handle != INVALID_HANDLE : ERROR_HANDLE_MUST_BE_VALID;
-        callbackContextLock = new Object();
+        callbackContextLock = new ReentrantLock();
         callbackContextMap = new HashMap<>();
-        closeLock = new Object();
+        closeLock = new ReentrantLock();
         converter = DEFAULT_CONVERTER;
         gcEpilogueCallbacks = new CopyOnWriteArrayList<>();
         gcPrologueCallbacks = new CopyOnWriteArrayList<>();
@@ -365,15 +434,21 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         this.pooled = pooled;
         primitiveFlags = new boolean[1];
         promiseRejectCallback = new JavetPromiseRejectCallback(logger);
-        referenceLock = new Object();
-        referenceMap = new HashMap<>();
+        arenaScopeCount = new AtomicInteger(0);
+        arenaScopeThreadLocal = new ThreadLocal<>();
+        referenceRegistry = new V8ReferenceRegistry();
+        referenceReleaseBatchCount = new AtomicInteger(0);
+        referenceReleaseBatchThreadLocal = new ThreadLocal<>();
+        referenceReleaseQueue = new V8ReferenceReleaseQueue(V8ReferenceReleaseQueue.DEFAULT_CAPACITY);
+        scriptStreamingFutureMap = new ConcurrentHashMap<>();
         this.v8Host = Objects.requireNonNull(v8Host);
         this.v8Native = Objects.requireNonNull(v8Native);
         this.jsRuntimeType = Objects.requireNonNull(jsRuntimeType);
-        v8ModuleLock = new Object();
+        v8ModuleLock = new ReentrantLock();
         v8ModuleMap = new HashMap<>();
         v8ModuleResolver = null;
         v8Internal = new V8Internal(this);
+        v8Worker = null;
         initializeV8ValueCache();
     }
 
@@ -420,9 +495,14 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 1.0.3
      */
     void addReference(IV8ValueReference iV8ValueReference) {
-        synchronized (referenceLock) {
-            referenceMap.put(iV8ValueReference.getHandle(), iV8ValueReference);
+        if (arenaScopeCount.get() > 0) {
+            V8ArenaScope v8ArenaScope = arenaScopeThreadLocal.get();
+            if (v8ArenaScope != null) {
+                v8ArenaScope.references.put(iV8ValueReference.getHandle(), iV8ValueReference);
+                return;
+            }
         }
+        referenceRegistry.add(iV8ValueReference.getHandle(), iV8ValueReference);
     }
 
     /**
@@ -435,11 +515,14 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
     public void addV8Module(IV8Module iV8Module) throws JavetException {
         String resourceName = Objects.requireNonNull(iV8Module.getResourceName());
         if (StringUtils.isNotEmpty(resourceName)) {
-            synchronized (v8ModuleLock) {
+            v8ModuleLock.lock();
+            try {
                 if (containsV8Module(resourceName)) {
                     removeV8Module(resourceName, true);
                 }
                 v8ModuleMap.put(resourceName, iV8Module);
+            } finally {
+                v8ModuleLock.unlock();
             }
         }
     }
@@ -456,6 +539,29 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         }
     }
 
+    private Object arrayBufferCreate(
+            ByteBuffer byteBuffer,
+            boolean shared,
+            IJavetArrayBufferReleaseCallback releaseCallback) {
+        Objects.requireNonNull(byteBuffer);
+        Objects.requireNonNull(releaseCallback);
+        if (!byteBuffer.isDirect()) {
+            throw new IllegalArgumentException(ERROR_BYTE_BUFFER_MUST_BE_DIRECT);
+        }
+        // V8 may write to the backing store, which would crash the JVM if the memory is read-only.
+        if (byteBuffer.isReadOnly()) {
+            throw new IllegalArgumentException(ERROR_BYTE_BUFFER_MUST_NOT_BE_READ_ONLY);
+        }
+        // The release callback may run on any thread where no caller can receive the exception.
+        return v8Native.arrayBufferCreate(handle, byteBuffer, shared, (IJavetArrayBufferReleaseCallback) buffer -> {
+            try {
+                releaseCallback.release(buffer);
+            } catch (Throwable t) {
+                logger.logError(t, "Failed to release the byte buffer of the array buffer.");
+            }
+        });
+    }
+
     /**
      * Gets length from an array.
      *
@@ -549,6 +655,26 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                 v8ValueKeys, V8ValueUtils.getV8ValueTypeIds(v8ValueKeys), v8ValueValues, length);
     }
 
+    /**
+     * Begin a reference release batch on the current thread.
+     * <p>
+     * The references closed by the current thread within the batch are released via a single JNI call
+     * when the batch ends. The references closed by the other threads are not affected.
+     * A nested batch is merged into the batch in progress.
+     *
+     * @return the batch or null if a batch is already in progress on the current thread
+     * @since 5.0.10
+     */
+    V8ReferenceReleaseQueue beginReferenceReleaseBatch() {
+        if (referenceReleaseBatchThreadLocal.get() != null) {
+            return null;
+        }
+        V8ReferenceReleaseQueue batch = new V8ReferenceReleaseQueue(V8ReferenceReleaseQueue.DEFAULT_CAPACITY);
+        referenceReleaseBatchThreadLocal.set(batch);
+        referenceReleaseBatchCount.incrementAndGet();
+        return batch;
+    }
+
     /**
      * From boolean object to boolean.
      *
@@ -621,15 +747,48 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      */
     public void close(boolean forceClose) throws JavetException {
         if (!isClosed() && forceClose) {
+            V8Worker worker = v8Worker;
+            if (worker != null) {
+                worker.close();
+                v8Worker = null;
+            }
             removeAllReferences();
-            synchronized (closeLock) {
+            closeLock.lock();
+            try {
+                releaseScriptStreamings();
                 v8Host.closeV8Runtime(this);
                 handle = INVALID_HANDLE;
                 v8Native = null;
+            } finally {
+                closeLock.unlock();
             }
         }
     }
 
+    /**
+     * Compile a V8 module from a direct byte buffer and add that V8 module to the internal V8 module map.
+     * <p>
+     * The byte buffer must contain one-byte (ASCII or Latin-1) characters only.
+     * Only the bytes between the position and the limit are used, and neither of them is changed.
+     * V8 references it as an external string without copying it,
+     * and the byte buffer is kept alive until V8 no longer references it.
+     * It is typically a memory-mapped script file.
+     *
+     * @param scriptBuffer   the script buffer
+     * @param cachedData     the cached data
+     * @param v8ScriptOrigin the V8 script origin
+     * @param resultRequired the result required
+     * @return the compiled V8 module or null
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    public V8Module compileV8Module(
+            ByteBuffer scriptBuffer, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
+            throws JavetException {
+        return compileV8Module((Object) validateScriptBuffer(scriptBuffer), cachedData, v8ScriptOrigin, resultRequired);
+    }
+
     /**
      * Compile a V8 module and add that V8 module to the internal V8 module map.
      *
@@ -645,6 +804,13 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
     public V8Module compileV8Module(
             String scriptString, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
             throws JavetException {
+        return compileV8Module((Object) scriptString, cachedData, v8ScriptOrigin, resultRequired);
+    }
+
+    @CheckReturnValue
+    V8Module compileV8Module(
+            Object scriptString, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
+            throws JavetException {
         if (!isClosed()) {
             v8ScriptOrigin.setModule(true);
             if (StringUtils.isEmpty(v8ScriptOrigin.getResourceName())) {
@@ -664,6 +830,30 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return null;
     }
 
+    /**
+     * Compile a V8 script from a direct byte buffer.
+     * <p>
+     * The byte buffer must contain one-byte (ASCII or Latin-1) characters only.
+     * Only the bytes between the position and the limit are used, and neither of them is changed.
+     * V8 references it as an external string without copying it,
+     * and the byte buffer is kept alive until V8 no longer references it.
+     * It is typically a memory-mapped script file.
+     *
+     * @param scriptBuffer   the script buffer
+     * @param cachedData     the cached data
+     * @param v8ScriptOrigin the V8 script origin
+     * @param resultRequired the result required
+     * @return the V8 script
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    public V8Script compileV8Script(
+            ByteBuffer scriptBuffer, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
+            throws JavetException {
+        return compileV8Script((Object) validateScriptBuffer(scriptBuffer), cachedData, v8ScriptOrigin, resultRequired);
+    }
+
     /**
      * Compile a V8 script.
      *
@@ -676,10 +866,17 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.9.13
      */
     @CheckReturnValue
-    @SuppressWarnings("RedundantThrows")
     public V8Script compileV8Script(
             String scriptString, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
             throws JavetException {
+        return compileV8Script((Object) scriptString, cachedData, v8ScriptOrigin, resultRequired);
+    }
+
+    @CheckReturnValue
+    @SuppressWarnings("RedundantThrows")
+    V8Script compileV8Script(
+            Object scriptString, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
+            throws JavetException {
         if (!isClosed()) {
             v8ScriptOrigin.setModule(false);
             return (V8Script) v8Native.scriptCompile(
@@ -690,6 +887,159 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return null;
     }
 
+    /**
+     * Compile a V8 script from a direct byte buffer asynchronously in the common fork join pool.
+     *
+     * @param scriptBuffer   the script buffer
+     * @param v8ScriptOrigin the V8 script origin
+     * @return the completable future of the V8 script
+     * @see #compileV8ScriptAsync(String, V8ScriptOrigin, Executor)
+     * @since 5.0.10
+     */
+    public CompletableFuture<V8Script> compileV8ScriptAsync(ByteBuffer scriptBuffer, V8ScriptOrigin v8ScriptOrigin) {
+        return compileV8ScriptAsync(scriptBuffer, v8ScriptOrigin, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compile a V8 script from a direct byte buffer asynchronously.
+     * <p>
+     * The byte buffer must contain one-byte (ASCII or Latin-1) characters only.
+     * Only the bytes between the position and the limit are used, and neither of them is changed.
+     *
+     * @param scriptBuffer   the script buffer
+     * @param v8ScriptOrigin the V8 script origin
+     * @param executor       the executor that parses and compiles the script
+     * @return the completable future of the V8 script
+     * @see #compileV8ScriptAsync(String, V8ScriptOrigin, Executor)
+     * @since 5.0.10
+     */
+    public CompletableFuture<V8Script> compileV8ScriptAsync(
+            ByteBuffer scriptBuffer, V8ScriptOrigin v8ScriptOrigin, Executor executor) {
+        return compileV8ScriptAsync((Object) validateScriptBuffer(scriptBuffer), v8ScriptOrigin, executor);
+    }
+
+    /**
+     * Compile a V8 script asynchronously in the common fork join pool.
+     *
+     * @param scriptString   the script string
+     * @param v8ScriptOrigin the V8 script origin
+     * @return the completable future of the V8 script
+     * @see #compileV8ScriptAsync(String, V8ScriptOrigin, Executor)
+     * @since 5.0.10
+     */
+    public CompletableFuture<V8Script> compileV8ScriptAsync(String scriptString, V8ScriptOrigin v8ScriptOrigin) {
+        return compileV8ScriptAsync(scriptString, v8ScriptOrigin, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Compile a V8 script asynchronously.
+     * <p>
+     * The script is parsed and compiled by V8 script streaming on a thread of the executor
+     * without the V8 locker, so that the V8 runtime keeps serving other calls in the meantime.
+     * The V8 script is then finalized on the V8 worker thread.
+     * The future is completed exceptionally with a {@link com.caoccao.javet.exceptions.JavetCompilationException}
+     * if the script cannot be compiled, or with a {@link JavetException} if the V8 runtime is closed.
+     * Closing the V8 runtime waits for the pending background compilations.
+     * Do not block on the future in the V8 worker thread, otherwise the V8 script can never be finalized.
+     * <p>
+     * The code cache is neither consumed nor produced.
+     *
+     * @param scriptString   the script string
+     * @param v8ScriptOrigin the V8 script origin
+     * @param executor       the executor that parses and compiles the script
+     * @return the completable future of the V8 script
+     * @since 5.0.10
+     */
+    public CompletableFuture<V8Script> compileV8ScriptAsync(
+            String scriptString, V8ScriptOrigin v8ScriptOrigin, Executor executor) {
+        return compileV8ScriptAsync((Object) Objects.requireNonNull(scriptString), v8ScriptOrigin, executor);
+    }
+
+    CompletableFuture<V8Script> compileV8ScriptAsync(
+            Object script, V8ScriptOrigin v8ScriptOrigin, Executor executor) {
+        Objects.requireNonNull(v8ScriptOrigin);
+        Objects.requireNonNull(executor);
+        final CompletableFuture<V8Script> v8ScriptFuture = new CompletableFuture<>();
+        final V8Worker worker;
+        try {
+            worker = getV8Worker();
+        } catch (JavetException e) {
+            v8ScriptFuture.completeExceptionally(e);
+            return v8ScriptFuture;
+        }
+        v8ScriptOrigin.setModule(false);
+        final String resourceName = v8ScriptOrigin.getResourceName();
+        final int resourceLineOffset = v8ScriptOrigin.getResourceLineOffset();
+        final int resourceColumnOffset = v8ScriptOrigin.getResourceColumnOffset();
+        final int scriptId = v8ScriptOrigin.getScriptId();
+        final boolean wasm = v8ScriptOrigin.isWasm();
+        final CompletableFuture<Void> scriptStreamingFuture = new CompletableFuture<>();
+        final IV8Native v8Native;
+        final long scriptStreamingHandle;
+        // The script streaming is registered under the close lock so that close() either
+        // rejects it up front or waits for it in releaseScriptStreamings().
+        closeLock.lock();
+        try {
+            if (isClosed()) {
+                v8ScriptFuture.completeExceptionally(new JavetException(JavetError.RuntimeAlreadyClosed));
+                return v8ScriptFuture;
+            }
+            v8Native = this.v8Native;
+            scriptStreamingHandle = v8Native.scriptStreamingCreate(handle, script);
+            if (scriptStreamingHandle == INVALID_HANDLE) {
+                v8ScriptFuture.completeExceptionally(new JavetException(
+                        JavetError.CompilationFailure,
+                        SimpleMap.of(JavetError.PARAMETER_MESSAGE, "Failed to start the script streaming")));
+                return v8ScriptFuture;
+            }
+            scriptStreamingFutureMap.put(scriptStreamingHandle, scriptStreamingFuture);
+        } finally {
+            closeLock.unlock();
+        }
+        final Runnable runnable = () -> {
+            try {
+                v8Native.scriptStreamingRun(scriptStreamingHandle);
+            } finally {
+                scriptStreamingFuture.complete(null);
+            }
+        };
+        try {
+            executor.execute(runnable);
+        } catch (Throwable t) {
+            // The executor rejected the task, so the script streaming never runs.
+            // The future is completed first because close() waits for it under the close lock.
+            scriptStreamingFuture.complete(null);
+            closeLock.lock();
+            try {
+                if (scriptStreamingFutureMap.remove(scriptStreamingHandle) != null) {
+                    v8Native.scriptStreamingRelease(handle, scriptStreamingHandle);
+                }
+            } finally {
+                closeLock.unlock();
+            }
+            v8ScriptFuture.completeExceptionally(t);
+            return v8ScriptFuture;
+        }
+        scriptStreamingFuture
+                .thenCompose(ignored -> worker.submit(v8Runtime -> {
+                    // The script streaming is owned by whoever removes it from the map.
+                    if (scriptStreamingFutureMap.remove(scriptStreamingHandle) == null) {
+                        throw new JavetException(JavetError.RuntimeAlreadyClosed);
+                    }
+                    return (V8Script) v8Native.scriptStreamingFinish(
+                            handle, scriptStreamingHandle, true, resourceName,
+                            resourceLineOffset, resourceColumnOffset, scriptId, wasm);
+                }))
+                .whenComplete((v8Script, t) -> {
+                    if (t == null) {
+                        v8ScriptFuture.complete(v8Script);
+                    } else {
+                        v8ScriptFuture.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+                    }
+                });
+        return v8ScriptFuture;
+    }
+
     /**
      * Compile V8 value function.
      *
@@ -726,8 +1076,11 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.8.1
      */
     public boolean containsV8Module(String resourceName) {
-        synchronized (v8ModuleLock) {
+        v8ModuleLock.lock();
+        try {
             return v8ModuleMap.containsKey(resourceName);
+        } finally {
+            v8ModuleLock.unlock();
         }
     }
 
@@ -894,6 +1247,28 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return null;
     }
 
+    @SuppressWarnings("RedundantThrows")
+    @CheckReturnValue
+    @Override
+    public V8ValueArray createV8ValueArray(boolean[] booleans) throws JavetException {
+        Objects.requireNonNull(booleans);
+        if (!isClosed()) {
+            return (V8ValueArray) v8Native.arrayCreateFromBooleans(handle, booleans);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("RedundantThrows")
+    @CheckReturnValue
+    @Override
+    public V8ValueArray createV8ValueArray(char[] chars) throws JavetException {
+        Objects.requireNonNull(chars);
+        if (!isClosed()) {
+            return (V8ValueArray) v8Native.arrayCreateFromChars(handle, chars);
+        }
+        return null;
+    }
+
     @SuppressWarnings("RedundantThrows")
     @CheckReturnValue
     @Override
@@ -918,6 +1293,18 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return null;
     }
 
+    @SuppressWarnings("RedundantThrows")
+    @CheckReturnValue
+    @Override
+    public V8ValueArrayBuffer createV8ValueArrayBuffer(
+            ByteBuffer byteBuffer,
+            IJavetArrayBufferReleaseCallback releaseCallback) throws JavetException {
+        if (!isClosed()) {
+            return (V8ValueArrayBuffer) arrayBufferCreate(byteBuffer, false, releaseCallback);
+        }
+        return null;
+    }
+
     @Override
     public V8ValueBigInteger createV8ValueBigInteger(BigInteger bigInteger) throws JavetException {
         return new V8ValueBigInteger(this, bigInteger);
@@ -990,8 +1377,11 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         if (!isClosed()) {
             V8ValueFunction v8ValueFunction = (V8ValueFunction) v8Native.functionCreate(
                     handle, Objects.requireNonNull(javetCallbackContext));
-            synchronized (callbackContextLock) {
+            callbackContextLock.lock();
+            try {
                 callbackContextMap.put(javetCallbackContext.getHandle(), javetCallbackContext);
+            } finally {
+                callbackContextLock.unlock();
             }
             return v8ValueFunction;
         }
@@ -1024,6 +1414,27 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return null;
     }
 
+    /**
+     * Create V8 value string and put the string in the internalized string cache.
+     * <p>
+     * Internalized strings are kept in a per-runtime LRU cache so that the same
+     * property keys do not need to be converted again when crossing the JNI boundary.
+     * It is useful to warm the cache with the property keys that are frequently accessed.
+     *
+     * @param str the string
+     * @return the V8 value string
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @SuppressWarnings("RedundantThrows")
+    @CheckReturnValue
+    public V8ValueString createV8ValueInternalizedString(String str) throws JavetException {
+        if (!isClosed()) {
+            v8Native.internalizeString(handle, Objects.requireNonNull(str));
+        }
+        return createV8ValueString(str);
+    }
+
     @Override
     public V8ValueLong createV8ValueLong(long longValue) throws JavetException {
         if (!isClosed()) {
@@ -1071,6 +1482,53 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return null;
     }
 
+    @CheckReturnValue
+    @Override
+    public V8ValueObject createV8ValueObject(String[] keys, V8Value[] values) throws JavetException {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(values);
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException(ERROR_KEY_VALUE_LENGTH_MUST_MATCH);
+        }
+        if (!isClosed()) {
+            final int length = keys.length;
+            final int[] valueTypes = new int[length];
+            final long[] longValues = new long[length];
+            final double[] doubleValues = new double[length];
+            final Object[] objectValues = new Object[length];
+            for (int i = 0; i < length; ++i) {
+                V8Value value = values[i];
+                // The common primitive values are encoded in primitive arrays to avoid JNI field access.
+                if (value == null || value instanceof V8ValueNull) {
+                    valueTypes[i] = V8ValueType.Null.getId();
+                } else if (value instanceof V8ValueString) {
+                    valueTypes[i] = V8ValueType.String.getId();
+                    objectValues[i] = ((V8ValueString) value).getValue();
+                } else if (value instanceof V8ValueInteger) {
+                    valueTypes[i] = V8ValueType.Integer.getId();
+                    longValues[i] = ((V8ValueInteger) value).toPrimitive();
+                } else if (value instanceof V8ValueBoolean) {
+                    valueTypes[i] = V8ValueType.Boolean.getId();
+                    longValues[i] = ((V8ValueBoolean) value).toPrimitive() ? 1L : 0L;
+                } else if (value instanceof V8ValueDouble) {
+                    valueTypes[i] = V8ValueType.Double.getId();
+                    doubleValues[i] = ((V8ValueDouble) value).toPrimitive();
+                } else if (value instanceof V8ValueLong) {
+                    valueTypes[i] = V8ValueType.Long.getId();
+                    longValues[i] = ((V8ValueLong) value).toPrimitive();
+                } else if (value instanceof V8ValueUndefined) {
+                    valueTypes[i] = V8ValueType.Undefined.getId();
+                } else {
+                    valueTypes[i] = V8ValueUtils.getV8ValueTypeId(value);
+                    objectValues[i] = value;
+                }
+            }
+            return (V8ValueObject) v8Native.objectCreateFromEntries(
+                    handle, keys, valueTypes, longValues, doubleValues, objectValues);
+        }
+        return null;
+    }
+
     @SuppressWarnings("RedundantThrows")
     @CheckReturnValue
     @Override
@@ -1105,6 +1563,18 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return null;
     }
 
+    @SuppressWarnings("RedundantThrows")
+    @CheckReturnValue
+    @Override
+    public V8ValueSharedArrayBuffer createV8ValueSharedArrayBuffer(
+            ByteBuffer byteBuffer,
+            IJavetArrayBufferReleaseCallback releaseCallback) throws JavetException {
+        if (!isClosed()) {
+            return (V8ValueSharedArrayBuffer) arrayBufferCreate(byteBuffer, true, releaseCallback);
+        }
+        return null;
+    }
+
     @Override
     public V8ValueString createV8ValueString(String str) throws JavetException {
         return new V8ValueString(this, str);
@@ -1183,6 +1653,44 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return new V8ValueZonedDateTime(this, zonedDateTime);
     }
 
+    /**
+     * Deserializes a V8 value with the V8 value deserializer (the structured clone algorithm).
+     * <p>
+     * The bytes are read from the current position to the limit of the byte buffer
+     * and may be produced by {@link #serialize(V8Value)} of any V8 runtime.
+     * A direct byte buffer is read in place without being copied.
+     *
+     * @param <T>        the type parameter
+     * @param byteBuffer the byte buffer
+     * @return the V8 value
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @SuppressWarnings("RedundantThrows")
+    @CheckReturnValue
+    public <T extends V8Value> T deserialize(ByteBuffer byteBuffer) throws JavetException {
+        Objects.requireNonNull(byteBuffer);
+        if (!isClosed()) {
+            final int length = byteBuffer.remaining();
+            final Object buffer;
+            final int offset;
+            if (byteBuffer.isDirect()) {
+                buffer = byteBuffer;
+                offset = byteBuffer.position();
+            } else if (byteBuffer.hasArray()) {
+                buffer = byteBuffer.array();
+                offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            } else {
+                byte[] bytes = new byte[length];
+                byteBuffer.duplicate().get(bytes);
+                buffer = bytes;
+                offset = 0;
+            }
+            return (T) v8Native.deserialize(handle, buffer, offset, length);
+        }
+        return null;
+    }
+
     /**
      * From double object to either double or integer.
      *
@@ -1195,6 +1703,38 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                 handle, Objects.requireNonNull(v8ValueDoubleObject).getHandle(), v8ValueDoubleObject.getType().getId());
     }
 
+    /**
+     * End a reference release batch on the current thread and release the references closed within it.
+     *
+     * @param batch the batch returned by {@link #beginReferenceReleaseBatch()}
+     * @since 5.0.10
+     */
+    void endReferenceReleaseBatch(V8ReferenceReleaseQueue batch) {
+        if (batch != null) {
+            referenceReleaseBatchThreadLocal.remove();
+            referenceReleaseBatchCount.decrementAndGet();
+            flushReferenceReleaseQueue(batch);
+        }
+    }
+
+    /**
+     * Escape a reference from a V8 arena scope to its parent V8 arena scope or the V8 runtime.
+     *
+     * @param v8ArenaScope      the V8 arena scope
+     * @param iV8ValueReference the V8 value reference
+     * @since 5.0.10
+     */
+    void escapeArenaReference(V8ArenaScope v8ArenaScope, IV8ValueReference iV8ValueReference) {
+        final long referenceHandle = iV8ValueReference.getHandle();
+        if (v8ArenaScope.references.remove(referenceHandle) != null) {
+            if (v8ArenaScope.parentArenaScope == null) {
+                referenceRegistry.add(referenceHandle, iV8ValueReference);
+            } else {
+                v8ArenaScope.parentArenaScope.references.put(referenceHandle, iV8ValueReference);
+            }
+        }
+    }
+
     /**
      * Equals tells whether 2 references are reference equal or not.
      *
@@ -1212,6 +1752,31 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                 iV8ValueReference2.getHandle(), iV8ValueReference2.getType().getId());
     }
 
+    /**
+     * Execute a script or module from a direct byte buffer.
+     * <p>
+     * The byte buffer must contain one-byte (ASCII or Latin-1) characters only.
+     * Only the bytes between the position and the limit are used, and neither of them is changed.
+     * V8 references it as an external string without copying it,
+     * and the byte buffer is kept alive until V8 no longer references it.
+     * It is typically a memory-mapped script file.
+     *
+     * @param <T>            the type parameter
+     * @param scriptBuffer   the script buffer
+     * @param cachedData     the cached data
+     * @param v8ScriptOrigin the V8 script origin
+     * @param resultRequired the result required
+     * @return the result
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    public <T extends V8Value> T execute(
+            ByteBuffer scriptBuffer, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
+            throws JavetException {
+        return execute((Object) validateScriptBuffer(scriptBuffer), cachedData, v8ScriptOrigin, resultRequired);
+    }
+
     /**
      * Execute a script or module.
      *
@@ -1228,22 +1793,56 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
     public <T extends V8Value> T execute(
             String scriptString, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
             throws JavetException {
+        return execute((Object) scriptString, cachedData, v8ScriptOrigin, resultRequired);
+    }
+
+    @CheckReturnValue
+    <T extends V8Value> T execute(
+            Object scriptString, byte[] cachedData, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired)
+            throws JavetException {
         if (!isClosed()) {
-            if (v8ScriptOrigin.isModule()) {
-                return (T) v8Native.moduleExecute(
-                        handle, scriptString, cachedData, resultRequired, v8ScriptOrigin.getResourceName(),
-                        v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
-                        v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm());
-            } else {
-                return (T) v8Native.scriptExecute(
-                        handle, scriptString, cachedData, resultRequired, v8ScriptOrigin.getResourceName(),
-                        v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
-                        v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm());
+            try {
+                if (v8ScriptOrigin.isModule()) {
+                    return (T) v8Native.moduleExecute(
+                            handle, scriptString, cachedData, resultRequired, v8ScriptOrigin.getResourceName(),
+                            v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
+                            v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm());
+                } else {
+                    return (T) v8Native.scriptExecute(
+                            handle, scriptString, cachedData, resultRequired, v8ScriptOrigin.getResourceName(),
+                            v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
+                            v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm());
+                }
+            } finally {
+                if (referenceReleaseQueue.isDeferred()) {
+                    flushReferenceReleaseQueue();
+                }
             }
         }
         return null;
     }
 
+    /**
+     * Release the queued references via a single JNI call.
+     *
+     * @return the released reference count
+     * @since 5.0.10
+     */
+    public int flushReferenceReleaseQueue() {
+        return flushReferenceReleaseQueue(referenceReleaseQueue);
+    }
+
+    private int flushReferenceReleaseQueue(V8ReferenceReleaseQueue queue) {
+        V8ReferenceReleaseQueue.Batch batch = queue.poll();
+        if (batch == null) {
+            return 0;
+        }
+        if (!isClosed()) {
+            v8Native.removeReferenceHandles(handle, batch.referenceHandles, batch.referenceTypes);
+        }
+        return batch.referenceHandles.length;
+    }
+
     /**
      * Call a function.
      * <p>
@@ -1548,8 +2147,11 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.9.12
      */
     public JavetCallbackContext getCallbackContext(long handle) {
-        synchronized (callbackContextLock) {
+        callbackContextLock.lock();
+        try {
             return callbackContextMap.get(handle);
+        } finally {
+            callbackContextLock.unlock();
         }
     }
 
@@ -1569,10 +2171,22 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @return the close lock
      * @since 3.1.3
      */
-    Object getCloseLock() {
+    ReentrantLock getCloseLock() {
         return closeLock;
     }
 
+    /**
+     * Gets code cache store.
+     * <p>
+     * The executors created by this V8 runtime consult and populate the code cache store.
+     *
+     * @return the code cache store or null if it is not set
+     * @since 5.0.10
+     */
+    public IV8CodeCacheStore getCodeCacheStore() {
+        return codeCacheStore;
+    }
+
     /**
      * Gets converter.
      *
@@ -1690,6 +2304,32 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return handle;
     }
 
+    /**
+     * Gets the capacity of the internalized string cache.
+     *
+     * @return the capacity
+     * @since 5.0.10
+     */
+    public int getInternalizedStringCacheCapacity() {
+        if (!isClosed()) {
+            return v8Native.getInternalizedStringCacheCapacity(handle);
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the size of the internalized string cache.
+     *
+     * @return the size
+     * @since 5.0.10
+     */
+    public int getInternalizedStringCacheSize() {
+        if (!isClosed()) {
+            return v8Native.getInternalizedStringCacheSize(handle);
+        }
+        return 0;
+    }
+
     /**
      * Gets the JS runtime type.
      *
@@ -1752,7 +2392,25 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.7.0
      */
     public int getReferenceCount() {
-        return referenceMap.size();
+        int referenceCount = referenceRegistry.size();
+        if (arenaScopeCount.get() > 0) {
+            for (V8ArenaScope v8ArenaScope = arenaScopeThreadLocal.get();
+                 v8ArenaScope != null;
+                 v8ArenaScope = v8ArenaScope.parentArenaScope) {
+                referenceCount += v8ArenaScope.references.size();
+            }
+        }
+        return referenceCount;
+    }
+
+    /**
+     * Gets the count of the references that are closed but not released yet.
+     *
+     * @return the reference release queue size
+     * @since 5.0.10
+     */
+    public int getReferenceReleaseQueueSize() {
+        return referenceReleaseQueue.size();
     }
 
     /**
@@ -1824,6 +2482,36 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return v8Internal;
     }
 
+    /**
+     * Gets V8 worker.
+     * <p>
+     * The V8 worker is created on demand and is shared by all callers of the V8 runtime.
+     * It is closed when the V8 runtime is closed.
+     *
+     * @return the V8 worker
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public V8Worker getV8Worker() throws JavetException {
+        V8Worker worker = v8Worker;
+        if (worker == null) {
+            closeLock.lock();
+            try {
+                if (isClosed()) {
+                    throw new JavetException(JavetError.RuntimeAlreadyClosed);
+                }
+                worker = v8Worker;
+                if (worker == null) {
+                    worker = new V8Worker(this);
+                    v8Worker = worker;
+                }
+            } finally {
+                closeLock.unlock();
+            }
+        }
+        return worker;
+    }
+
     /**
      * Gets V8 locker.
      * <p>
@@ -1861,8 +2549,11 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                 ? resourceName
                 : v8ModuleResolver.getAbsoluteResourceName(this, resourceName, v8ModuleReferrer);
         if (!StringUtils.isEmpty(absoluteResourceName)) {
-            synchronized (v8ModuleLock) {
+            v8ModuleLock.lock();
+            try {
                 iV8Module = v8ModuleMap.get(absoluteResourceName);
+            } finally {
+                v8ModuleLock.unlock();
             }
             if (iV8Module == null && v8ModuleResolver != null) {
                 iV8Module = v8ModuleResolver.resolve(this, resourceName, v8ModuleReferrer);
@@ -1891,6 +2582,16 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return v8ModuleResolver;
     }
 
+    /**
+     * Gets V8 arena scope.
+     *
+     * @return the V8 arena scope
+     * @since 5.0.10
+     */
+    public V8ArenaScope getV8ArenaScope() {
+        return new V8ArenaScope(this);
+    }
+
     /**
      * Gets V8 scope.
      *
@@ -2037,6 +2738,22 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return handle == INVALID_HANDLE;
     }
 
+    /**
+     * Returns whether the code cache is rejected by V8 in the last compilation.
+     * <p>
+     * V8 rejects the code cache if it was produced by a different V8 version,
+     * with different V8 flags or for a different source.
+     *
+     * @return true : rejected, false : accepted or not used
+     * @since 5.0.10
+     */
+    public boolean isCodeCacheRejected() {
+        if (!isClosed()) {
+            return v8Native.isCodeCacheRejected(handle);
+        }
+        return false;
+    }
+
     /**
      * Returns whether the V8 runtime is dead or not.
      *
@@ -2129,6 +2846,16 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return pooled;
     }
 
+    /**
+     * Returns whether the release of the closed references is deferred or not.
+     *
+     * @return true : deferred, false : not deferred
+     * @since 5.0.10
+     */
+    public boolean isReferenceReleaseDeferred() {
+        return referenceReleaseQueue.isDeferred();
+    }
+
     /**
      * Returns whether the reference is weak or not.
      *
@@ -2638,6 +3365,26 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return v8Native.moduleIsSyntheticModule(handle, iV8Module.getHandle(), iV8Module.getType().getId());
     }
 
+    /**
+     * Deep read an object graph in one native traversal.
+     * The first element of the result is the binary buffer in native byte order
+     * and the rest are the V8 values that cannot be encoded in the buffer.
+     *
+     * @param iV8ValueObject       the V8 value object
+     * @param maxDepth             the max depth
+     * @param skipFunctionInObject whether functions in objects are skipped
+     * @return the result or null if the object is not supported
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @SuppressWarnings("RedundantThrows")
+    Object[] objectDeepRead(
+            IV8ValueObject iV8ValueObject, int maxDepth, boolean skipFunctionInObject) throws JavetException {
+        return v8Native.objectDeepRead(
+                handle, iV8ValueObject.getHandle(), iV8ValueObject.getType().getId(),
+                maxDepth, skipFunctionInObject);
+    }
+
     /**
      * Delete a key from an object.
      *
@@ -3034,13 +3781,16 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                 V8ValueUtils.getV8ValueTypeId(propertyName),
                 javetCallbackContextGetter,
                 javetCallbackContextSetter);
-        synchronized (callbackContextLock) {
+        callbackContextLock.lock();
+        try {
             if (javetCallbackContextGetter != null && javetCallbackContextGetter.isValid()) {
                 callbackContextMap.put(javetCallbackContextGetter.getHandle(), javetCallbackContextGetter);
             }
             if (javetCallbackContextSetter != null && javetCallbackContextSetter.isValid()) {
                 callbackContextMap.put(javetCallbackContextSetter.getHandle(), javetCallbackContextSetter);
             }
+        } finally {
+            callbackContextLock.unlock();
         }
         return isAccessorSet;
     }
@@ -3238,6 +3988,28 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         return v8Native.objectToProtoString(handle, iV8ValueReference.getHandle(), iV8ValueReference.getType().getId());
     }
 
+    /**
+     * Pop a V8 arena scope and hand over its remaining references to its parent V8 arena scope or the V8 runtime.
+     *
+     * @param v8ArenaScope the V8 arena scope
+     * @since 5.0.10
+     */
+    void popArenaScope(V8ArenaScope v8ArenaScope) {
+        if (arenaScopeThreadLocal.get() == v8ArenaScope) {
+            if (v8ArenaScope.parentArenaScope == null) {
+                arenaScopeThreadLocal.remove();
+            } else {
+                arenaScopeThreadLocal.set(v8ArenaScope.parentArenaScope);
+            }
+            arenaScopeCount.decrementAndGet();
+        }
+        if (!v8ArenaScope.references.isEmpty()) {
+            for (IV8ValueReference iV8ValueReference : v8ArenaScope.references.values()) {
+                escapeArenaReference(v8ArenaScope, iV8ValueReference);
+            }
+        }
+    }
+
     /**
      * Call Promise.catch().
      *
@@ -3424,6 +4196,20 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         v8Native.proxyRevoke(handle, iV8ValueProxy.getHandle(), iV8ValueProxy.getType().getId());
     }
 
+    /**
+     * Push a V8 arena scope as the arena scope of the current thread.
+     *
+     * @param v8ArenaScope the V8 arena scope
+     * @return the parent V8 arena scope
+     * @since 5.0.10
+     */
+    V8ArenaScope pushArenaScope(V8ArenaScope v8ArenaScope) {
+        V8ArenaScope parentArenaScope = arenaScopeThreadLocal.get();
+        arenaScopeThreadLocal.set(v8ArenaScope);
+        arenaScopeCount.incrementAndGet();
+        return parentArenaScope;
+    }
+
     /**
      * Receives the GC epilogue callback from JNI.
      *
@@ -3494,6 +4280,23 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         }
     }
 
+    /**
+     * Release the script streamings that are not finished.
+     * It waits for the script streamings running on the background threads
+     * because the V8 isolate must outlive them.
+     *
+     * @since 5.0.10
+     */
+    void releaseScriptStreamings() {
+        for (Long scriptStreamingHandle : new ArrayList<>(scriptStreamingFutureMap.keySet())) {
+            CompletableFuture<Void> scriptStreamingFuture = scriptStreamingFutureMap.remove(scriptStreamingHandle);
+            if (scriptStreamingFuture != null) {
+                scriptStreamingFuture.join();
+                v8Native.scriptStreamingRelease(handle, scriptStreamingHandle);
+            }
+        }
+    }
+
     /**
      * Remove all references.
      *
@@ -3513,8 +4316,11 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.8.3
      */
     public void removeCallbackContext(long handle) {
-        synchronized (callbackContextLock) {
+        callbackContextLock.lock();
+        try {
             callbackContextMap.remove(handle);
+        } finally {
+            callbackContextLock.unlock();
         }
     }
 
@@ -3524,12 +4330,15 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.8.3
      */
     void removeCallbackContexts() {
-        synchronized (callbackContextLock) {
+        callbackContextLock.lock();
+        try {
             if (!callbackContextMap.isEmpty()) {
                 logger.logWarn("{0} V8 callback context object(s) not recycled.",
                         Integer.toString(callbackContextMap.size()));
                 callbackContextMap.clear();
             }
+        } finally {
+            callbackContextLock.unlock();
         }
     }
 
@@ -3589,13 +4398,34 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
     @SuppressWarnings("RedundantThrows")
     void removeReference(IV8ValueReference iV8ValueReference) throws JavetException {
         final long referenceHandle = iV8ValueReference.getHandle();
-        synchronized (referenceLock) {
-            if (referenceMap.remove(referenceHandle) != null) {
-                final int referenceType = iV8ValueReference.getType().getId();
-                if (referenceType == V8ValueType.Module.getId()) {
-                    removeV8Module((IV8Module) iV8ValueReference);
-                }
+        IV8ValueReference removedReference = null;
+        if (arenaScopeCount.get() > 0) {
+            for (V8ArenaScope v8ArenaScope = arenaScopeThreadLocal.get();
+                 v8ArenaScope != null && removedReference == null;
+                 v8ArenaScope = v8ArenaScope.parentArenaScope) {
+                removedReference = v8ArenaScope.references.remove(referenceHandle);
+            }
+        }
+        if (removedReference == null) {
+            removedReference = referenceRegistry.remove(referenceHandle);
+        }
+        // The native release is performed outside the registry lock.
+        if (removedReference != null) {
+            final int referenceType = iV8ValueReference.getType().getId();
+            if (referenceType == V8ValueType.Module.getId()) {
+                removeV8Module((IV8Module) iV8ValueReference);
+            }
+            V8ReferenceReleaseQueue queue = null;
+            if (referenceReleaseBatchCount.get() > 0) {
+                queue = referenceReleaseBatchThreadLocal.get();
+            }
+            if (queue == null && referenceReleaseQueue.isDeferred()) {
+                queue = referenceReleaseQueue;
+            }
+            if (queue == null) {
                 v8Native.removeReferenceHandle(handle, referenceHandle, referenceType);
+            } else if (queue.offer(referenceHandle, referenceType) >= queue.getCapacity()) {
+                flushReferenceReleaseQueue(queue);
             }
         }
         if (gcScheduled) {
@@ -3611,12 +4441,21 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.7.0
      */
     void removeReferences() throws JavetException {
-        synchronized (referenceLock) {
-            if (!referenceMap.isEmpty()) {
-                final int referenceCount = getReferenceCount();
-                final int v8ModuleCount = getV8ModuleCount();
-                int weakReferenceCount = 0;
-                for (IV8ValueReference iV8ValueReference : new ArrayList<>(referenceMap.values())) {
+        final List<IV8ValueReference> references = referenceRegistry.getReferences();
+        if (arenaScopeCount.get() > 0) {
+            for (V8ArenaScope v8ArenaScope = arenaScopeThreadLocal.get();
+                 v8ArenaScope != null;
+                 v8ArenaScope = v8ArenaScope.parentArenaScope) {
+                references.addAll(v8ArenaScope.references.values());
+            }
+        }
+        if (!references.isEmpty()) {
+            final int referenceCount = references.size();
+            final int v8ModuleCount = getV8ModuleCount();
+            int weakReferenceCount = 0;
+            final V8ReferenceReleaseQueue batch = beginReferenceReleaseBatch();
+            try {
+                for (IV8ValueReference iV8ValueReference : references) {
                     if (iV8ValueReference instanceof IV8ValueObject) {
                         IV8ValueObject iV8ValueObject = (IV8ValueObject) iV8ValueReference;
                         if (iV8ValueObject.isWeak()) {
@@ -3625,20 +4464,24 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                     }
                     iV8ValueReference.close(true);
                 }
-                if (v8ModuleCount + weakReferenceCount < referenceCount) {
-                    logger.logWarn("{0} V8 object(s) not recycled, {1} weak, {2} module(s).",
-                            Integer.toString(referenceCount),
-                            Integer.toString(weakReferenceCount),
-                            Integer.toString(v8ModuleCount));
-                } else {
-                    logger.logDebug("{0} V8 object(s) not recycled, {1} weak, {2} module(s).",
-                            Integer.toString(referenceCount),
-                            Integer.toString(weakReferenceCount),
-                            Integer.toString(v8ModuleCount));
-                }
-                referenceMap.clear();
+            } finally {
+                endReferenceReleaseBatch(batch);
             }
+            if (v8ModuleCount + weakReferenceCount < referenceCount) {
+                logger.logWarn("{0} V8 object(s) not recycled, {1} weak, {2} module(s).",
+                        Integer.toString(referenceCount),
+                        Integer.toString(weakReferenceCount),
+                        Integer.toString(v8ModuleCount));
+            } else {
+                logger.logDebug("{0} V8 object(s) not recycled, {1} weak, {2} module(s).",
+                        Integer.toString(referenceCount),
+                        Integer.toString(weakReferenceCount),
+                        Integer.toString(v8ModuleCount));
+            }
+            referenceRegistry.clear();
         }
+        // The deferred references must be released before the context or isolate is gone.
+        flushReferenceReleaseQueue();
     }
 
     /**
@@ -3651,8 +4494,11 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      */
     public void removeV8Module(String resourceName, boolean forceClose) throws JavetException {
         IV8Module iV8Module;
-        synchronized (v8ModuleLock) {
+        v8ModuleLock.lock();
+        try {
             iV8Module = v8ModuleMap.remove(resourceName);
+        } finally {
+            v8ModuleLock.unlock();
         }
         if (forceClose && iV8Module != null) {
             iV8Module.close(true);
@@ -3711,7 +4557,8 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
      * @since 0.8.3
      */
     public void removeV8Modules(boolean forceClose) throws JavetException {
-        synchronized (v8ModuleLock) {
+        v8ModuleLock.lock();
+        try {
             if (!v8ModuleMap.isEmpty()) {
                 logger.logWarn("{0} V8 module(s) not recycled.", Integer.toString(v8ModuleMap.size()));
                 for (IV8Module iV8Module : v8ModuleMap.values()) {
@@ -3722,6 +4569,8 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                 }
                 v8ModuleMap.clear();
             }
+        } finally {
+            v8ModuleLock.unlock();
         }
     }
 
@@ -3836,8 +4685,43 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
     @CheckReturnValue
     <T extends V8Value> T scriptRun(
             IV8Script iV8Script, boolean resultRequired) throws JavetException {
-        return (T) v8Native.scriptRun(
-                handle, iV8Script.getHandle(), iV8Script.getType().getId(), resultRequired);
+        try {
+            return (T) v8Native.scriptRun(
+                    handle, iV8Script.getHandle(), iV8Script.getType().getId(), resultRequired);
+        } finally {
+            if (referenceReleaseQueue.isDeferred()) {
+                flushReferenceReleaseQueue();
+            }
+        }
+    }
+
+    /**
+     * Serializes a V8 value with the V8 value serializer (the structured clone algorithm).
+     * <p>
+     * The result can be deserialized by {@link #deserialize(ByteBuffer)} of any V8 runtime,
+     * so that a value can be passed between V8 runtimes without being converted to Java objects.
+     * The contents of array buffers and typed arrays are copied into the result natively.
+     * Values that cannot be cloned, e.g. functions, symbols and shared array buffers,
+     * cause a <code>DataCloneError</code>.
+     *
+     * @param v8Value the V8 value
+     * @return the serialized bytes
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @SuppressWarnings("RedundantThrows")
+    public ByteBuffer serialize(V8Value v8Value) throws JavetException {
+        Objects.requireNonNull(v8Value);
+        if (v8Value instanceof IV8ValueReference && v8Value.getV8Runtime() != this) {
+            throw new IllegalArgumentException(ERROR_VALUE_MUST_BELONG_TO_THE_V_8_RUNTIME);
+        }
+        if (!isClosed()) {
+            byte[] bytes = v8Native.serialize(handle, v8Value, V8ValueUtils.getV8ValueTypeId(v8Value));
+            if (bytes != null) {
+                return ByteBuffer.wrap(bytes);
+            }
+        }
+        return null;
     }
 
     /**
@@ -3894,6 +4778,18 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         v8Native.setClear(handle, iV8ValueSet.getHandle(), iV8ValueSet.getType().getId());
     }
 
+    /**
+     * Sets code cache store.
+     * <p>
+     * The executors created by this V8 runtime afterwards consult and populate the code cache store.
+     *
+     * @param codeCacheStore the code cache store, null to disable
+     * @since 5.0.10
+     */
+    public void setCodeCacheStore(IV8CodeCacheStore codeCacheStore) {
+        this.codeCacheStore = codeCacheStore;
+    }
+
     /**
      * Sets converter.
      *
@@ -3959,6 +4855,21 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
                 key, V8ValueUtils.getV8ValueTypeId(key));
     }
 
+    /**
+     * Sets the capacity of the internalized string cache.
+     * <p>
+     * The least recently used strings are evicted when the cache is full.
+     * Setting the capacity to 0 clears and disables the cache.
+     *
+     * @param capacity the capacity
+     * @since 5.0.10
+     */
+    public void setInternalizedStringCacheCapacity(int capacity) {
+        if (!isClosed()) {
+            v8Native.setInternalizedStringCacheCapacity(handle, Math.max(0, capacity));
+        }
+    }
+
     /**
      * Sets logger.
      *
@@ -4037,6 +4948,23 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
         this.promiseRejectCallback = Objects.requireNonNull(promiseRejectCallback);
     }
 
+    /**
+     * Sets whether the release of the closed references is deferred or not.
+     * <p>
+     * If it is enabled, the closed references are queued and released via a single JNI call
+     * at the end of each callback, execution and script run, or when the queue is full.
+     * Disabling it releases the queued references immediately.
+     *
+     * @param referenceReleaseDeferred the reference release deferred
+     * @since 5.0.10
+     */
+    public void setReferenceReleaseDeferred(boolean referenceReleaseDeferred) {
+        referenceReleaseQueue.setDeferred(referenceReleaseDeferred);
+        if (!referenceReleaseDeferred) {
+            flushReferenceReleaseQueue();
+        }
+    }
+
     /**
      * Sets V8 module resolver.
      *
@@ -4231,4 +5159,16 @@ public class V8Runtime implements IJavetClosable, IV8Creatable, IV8Convertible {
     public <T, V extends V8Value> V toV8Value(T object) throws JavetException {
         return converter.toV8Value(this, object);
     }
+
+    private ByteBuffer validateScriptBuffer(ByteBuffer scriptBuffer) {
+        Objects.requireNonNull(scriptBuffer);
+        if (!scriptBuffer.isDirect()) {
+            throw new IllegalArgumentException(ERROR_BYTE_BUFFER_MUST_BE_DIRECT);
+        }
+        // The native side reads the whole capacity, so only the remaining bytes are passed.
+        if (scriptBuffer.position() != 0 || scriptBuffer.limit() != scriptBuffer.capacity()) {
+            return scriptBuffer.slice();
+        }
+        return scriptBuffer;
+    }
 }
@@ -20,6 +20,7 @@ import com.caoccao.javet.enums.V8ValueErrorType;
 import com.caoccao.javet.enums.V8ValueType;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetClosable;
+import com.caoccao.javet.interop.callback.IJavetArrayBufferReleaseCallback;
 import com.caoccao.javet.interop.callback.JavetCallbackContext;
 import com.caoccao.javet.utils.JavetResourceUtils;
 import com.caoccao.javet.values.V8Value;
@@ -60,6 +61,9 @@ import java.util.Objects;
  *     return v8ValueObject;
  * }
  * </pre>
+ * <p>
+ * When a V8 scope with V8 runtime is closed, the values it owns are released via a single JNI call.
+ * The references closed elsewhere during its lifetime are not affected.
  *
  * @since 0.9.13
  */
@@ -133,10 +137,22 @@ public class V8Scope implements IV8Creatable, IJavetClosable {
     @Override
     public void close() throws JavetException {
         if (!closed) {
-            if (!escapable) {
-                JavetResourceUtils.safeClose(values);
+            try {
+                if (!escapable) {
+                    // The references owned by this scope are released via a single JNI call.
+                    final V8ReferenceReleaseQueue batch =
+                            v8Runtime == null ? null : v8Runtime.beginReferenceReleaseBatch();
+                    try {
+                        JavetResourceUtils.safeClose(values);
+                    } finally {
+                        if (batch != null) {
+                            v8Runtime.endReferenceReleaseBatch(batch);
+                        }
+                    }
+                }
+            } finally {
+                closed = true;
             }
-            closed = true;
         }
     }
 
@@ -152,6 +168,18 @@ public class V8Scope implements IV8Creatable, IJavetClosable {
         return add(v8Runtime.createV8ValueArray());
     }
 
+    @Override
+    public V8ValueArray createV8ValueArray(boolean[] booleans) throws JavetException {
+        Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
+        return add(v8Runtime.createV8ValueArray(booleans));
+    }
+
+    @Override
+    public V8ValueArray createV8ValueArray(char[] chars) throws JavetException {
+        Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
+        return add(v8Runtime.createV8ValueArray(chars));
+    }
+
     @Override
     public V8ValueArrayBuffer createV8ValueArrayBuffer(int length) throws JavetException {
         Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
@@ -164,6 +192,14 @@ public class V8Scope implements IV8Creatable, IJavetClosable {
         return add(v8Runtime.createV8ValueArrayBuffer(byteBuffer));
     }
 
+    @Override
+    public V8ValueArrayBuffer createV8ValueArrayBuffer(
+            ByteBuffer byteBuffer,
+            IJavetArrayBufferReleaseCallback releaseCallback) throws JavetException {
+        Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
+        return add(v8Runtime.createV8ValueArrayBuffer(byteBuffer, releaseCallback));
+    }
+
     @Override
     public V8ValueBigInteger createV8ValueBigInteger(BigInteger bigInteger) throws JavetException {
         Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
@@ -266,6 +302,12 @@ public class V8Scope implements IV8Creatable, IJavetClosable {
         return add(v8Runtime.createV8ValueObject());
     }
 
+    @Override
+    public V8ValueObject createV8ValueObject(String[] keys, V8Value[] values) throws JavetException {
+        Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
+        return add(v8Runtime.createV8ValueObject(keys, values));
+    }
+
     @Override
     public V8ValuePromise createV8ValuePromise() throws JavetException {
         Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
@@ -284,6 +326,14 @@ public class V8Scope implements IV8Creatable, IJavetClosable {
         return add(v8Runtime.createV8ValueSet());
     }
 
+    @Override
+    public V8ValueSharedArrayBuffer createV8ValueSharedArrayBuffer(
+            ByteBuffer byteBuffer,
+            IJavetArrayBufferReleaseCallback releaseCallback) throws JavetException {
+        Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
+        return add(v8Runtime.createV8ValueSharedArrayBuffer(byteBuffer, releaseCallback));
+    }
+
     @Override
     public V8ValueString createV8ValueString(String str) throws JavetException {
         Objects.requireNonNull(v8Runtime, ERROR_MESSAGE_V8_RUNTIME_CANNOT_BE_EMPTY);
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.exceptions.JavetError;
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interfaces.IJavetClosable;
+import com.caoccao.javet.interfaces.IJavetLogger;
+import com.caoccao.javet.interfaces.IJavetUniFunction;
+import com.caoccao.javet.utils.SimpleMap;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The type V8 worker.
+ * <p>
+ * It owns a dedicated platform thread per V8 runtime. The V8 locker is acquired by that thread
+ * while there are pending tasks, and released when the queue is drained so that other threads
+ * (e.g. the engine pool daemon) may still access the V8 runtime.
+ * <p>
+ * It is designed for virtual threads. Calling into V8 from a virtual thread pins its carrier thread
+ * for the whole duration of the JNI call, and blocks it while another thread holds the V8 lock.
+ * Submitting the work to the V8 worker parks the virtual thread on a future instead.
+ *
+ * @since 5.0.10
+ */
+public final class V8Worker implements IJavetClosable, Runnable {
+    /**
+     * The constant JAVET_V8_WORKER_THREAD_NAME.
+     *
+     * @since 5.0.10
+     */
+    static final String JAVET_V8_WORKER_THREAD_NAME = "Javet V8 Worker";
+    private static final Runnable WAKE_UP_TASK = () -> {
+    };
+    private final LinkedBlockingQueue<Runnable> taskQueue;
+    private final Thread thread;
+    private final V8Runtime v8Runtime;
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new V8 worker.
+     *
+     * @param v8Runtime the V8 runtime
+     * @since 5.0.10
+     */
+    V8Worker(V8Runtime v8Runtime) {
+        this.v8Runtime = Objects.requireNonNull(v8Runtime);
+        closed = false;
+        taskQueue = new LinkedBlockingQueue<>();
+        thread = new Thread(this);
+        thread.setDaemon(true);
+        thread.setName(JAVET_V8_WORKER_THREAD_NAME);
+        thread.start();
+    }
+
+    @Override
+    public void close() throws JavetException {
+        if (!closed) {
+            closed = true;
+            taskQueue.add(WAKE_UP_TASK);
+            if (!isWorkerThread()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    v8Runtime.getLogger().logError(e, "Failed to join the V8 worker thread.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the queued task count.
+     *
+     * @return the queued task count
+     * @since 5.0.10
+     */
+    public int getQueuedTaskCount() {
+        return (int) taskQueue.stream().filter(task -> task != WAKE_UP_TASK).count();
+    }
+
+    /**
+     * Gets V8 runtime.
+     *
+     * @return the V8 runtime
+     * @since 5.0.10
+     */
+    public V8Runtime getV8Runtime() {
+        return v8Runtime;
+    }
+
+    /**
+     * Submit the task and wait for its result.
+     * The calling thread is parked instead of being blocked in JNI,
+     * so that a virtual thread does not pin its carrier thread.
+     * The task is executed directly if it is called from the worker thread.
+     *
+     * @param <T>  the type of the result
+     * @param <E>  the type of the custom exception
+     * @param task the task
+     * @return the result
+     * @throws JavetException the javet exception
+     * @throws E              the custom exception
+     * @since 5.0.10
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T invoke(IJavetUniFunction<V8Runtime, T, E> task) throws JavetException, E {
+        if (isWorkerThread()) {
+            return task.apply(v8Runtime);
+        }
+        try {
+            return submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JavetException(
+                    JavetError.ExecutionFailure,
+                    SimpleMap.of(JavetError.PARAMETER_MESSAGE, "V8 worker task is interrupted"),
+                    e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JavetException) {
+                throw (JavetException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Is the current thread the worker thread.
+     *
+     * @return true : yes, false : no
+     * @since 5.0.10
+     */
+    public boolean isWorkerThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    @Override
+    public void run() {
+        IJavetLogger logger = v8Runtime.getLogger();
+        logger.debug("V8Worker.run() begins.");
+        while (!closed) {
+            Runnable task;
+            try {
+                task = taskQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (task != WAKE_UP_TASK) {
+                if (v8Runtime.isClosed()) {
+                    task.run();
+                } else {
+                    // Hold the V8 locker until the queue is drained.
+                    V8Locker v8Locker = null;
+                    try {
+                        v8Locker = v8Runtime.getV8Locker();
+                        while (task != null) {
+                            task.run();
+                            task = v8Runtime.isClosed() ? null : taskQueue.poll();
+                        }
+                    } catch (Throwable t) {
+                        logger.logError(t, "Failed to acquire the V8 locker.");
+                        if (task != null) {
+                            task.run();
+                        }
+                    } finally {
+                        if (v8Locker != null) {
+                            try {
+                                v8Locker.close();
+                            } catch (Throwable t) {
+                                logger.logError(t, "Failed to release the V8 locker.");
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        Runnable task;
+        while ((task = taskQueue.poll()) != null) {
+            task.run();
+        }
+        logger.debug("V8Worker.run() ends.");
+    }
+
+    /**
+     * Submit the task to the worker thread.
+     * The returned future is completed exceptionally if the worker is closed
+     * before the task is executed.
+     *
+     * @param <T>  the type of the result
+     * @param task the task
+     * @return the completable future of the result
+     * @since 5.0.10
+     */
+    public <T> CompletableFuture<T> submit(IJavetUniFunction<V8Runtime, T, ? extends Exception> task) {
+        Objects.requireNonNull(task);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Runnable runnable = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            if (closed || v8Runtime.isClosed()) {
+                future.completeExceptionally(new JavetException(JavetError.RuntimeAlreadyClosed));
+                return;
+            }
+            try {
+                future.complete(task.apply(v8Runtime));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        if (closed) {
+            future.completeExceptionally(new JavetException(JavetError.RuntimeAlreadyClosed));
+        } else {
+            taskQueue.add(runnable);
+            if (closed && taskQueue.remove(runnable)) {
+                future.completeExceptionally(new JavetException(JavetError.RuntimeAlreadyClosed));
+            }
+        }
+        return future;
+    }
+}
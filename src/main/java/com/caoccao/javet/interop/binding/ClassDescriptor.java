@@ -21,6 +21,7 @@ import com.caoccao.javet.enums.V8ConversionMode;
 import com.caoccao.javet.enums.V8ProxyMode;
 import com.caoccao.javet.utils.SimpleList;
 
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -86,6 +87,13 @@ public class ClassDescriptor {
      * @since 0.9.6
      */
     protected final Map<String, List<Method>> methodsMap;
+    /**
+     * The Overload resolution cache map keyed by the identity of the overload set.
+     * It is copied on write so that the lookup is lock free.
+     *
+     * @since 5.0.10
+     */
+    protected volatile Map<List<? extends AccessibleObject>, OverloadResolutionCache> overloadResolutionCacheMap;
     /**
      * The Set priorities.
      *
@@ -142,6 +150,7 @@ public class ClassDescriptor {
         gettersMap = new LinkedHashMap<>();
         this.classProxyPlugin = Objects.requireNonNull(classProxyPlugin);
         methodsMap = new LinkedHashMap<>();
+        overloadResolutionCacheMap = new IdentityHashMap<>();
         this.proxyMode = proxyMode;
         setPriorities = SimpleList.of(
                 SetPriority.Index,
@@ -255,6 +264,33 @@ public class ClassDescriptor {
         return methodsMap;
     }
 
+    /**
+     * Gets the overload resolution cache of an overload set.
+     * The overload set is identified by the list instance rather than its content,
+     * so that the lookup does not hash or compare the executables.
+     *
+     * @param executables the executables
+     * @return the overload resolution cache
+     * @since 5.0.10
+     */
+    public OverloadResolutionCache getOverloadResolutionCache(List<? extends AccessibleObject> executables) {
+        Objects.requireNonNull(executables);
+        OverloadResolutionCache overloadResolutionCache = overloadResolutionCacheMap.get(executables);
+        if (overloadResolutionCache == null) {
+            synchronized (this) {
+                overloadResolutionCache = overloadResolutionCacheMap.get(executables);
+                if (overloadResolutionCache == null) {
+                    Map<List<? extends AccessibleObject>, OverloadResolutionCache> map =
+                            new IdentityHashMap<>(overloadResolutionCacheMap);
+                    overloadResolutionCache = new OverloadResolutionCache();
+                    map.put(executables, overloadResolutionCache);
+                    overloadResolutionCacheMap = map;
+                }
+            }
+        }
+        return overloadResolutionCache;
+    }
+
     /**
      * Gets proxy mode.
      *
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.binding;
+
+import java.lang.reflect.AccessibleObject;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The type Overload resolution cache is an inline cache of an overload set
+ * which remembers the winning executable per argument shape.
+ * <p>
+ * The cache is bounded. Once it is full, the overload set is considered megamorphic
+ * and the new argument shapes are resolved by scoring without being cached.
+ *
+ * @since 5.0.10
+ */
+public final class OverloadResolutionCache {
+    /**
+     * The constant DEFAULT_MAX_SIZE.
+     *
+     * @since 5.0.10
+     */
+    public static final int DEFAULT_MAX_SIZE = 16;
+    private final Map<Key, AccessibleObject> executableMap;
+    private final int maxSize;
+
+    /**
+     * Instantiates a new Overload resolution cache.
+     *
+     * @since 5.0.10
+     */
+    public OverloadResolutionCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Instantiates a new Overload resolution cache.
+     *
+     * @param maxSize the max size
+     * @since 5.0.10
+     */
+    public OverloadResolutionCache(int maxSize) {
+        assert maxSize >= 0 : "Max size must be no less than 0.";
+        executableMap = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Clear.
+     *
+     * @since 5.0.10
+     */
+    public void clear() {
+        executableMap.clear();
+    }
+
+    /**
+     * Gets the cached executable by key.
+     *
+     * @param <E> the type parameter
+     * @param key the key
+     * @return the executable or null if not found
+     * @since 5.0.10
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends AccessibleObject> E get(Key key) {
+        return (E) executableMap.get(key);
+    }
+
+    /**
+     * Gets max size.
+     *
+     * @return the max size
+     * @since 5.0.10
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Put the executable by key if the cache is not full.
+     *
+     * @param key        the key
+     * @param executable the executable
+     * @return true : cached, false : the cache is full
+     * @since 5.0.10
+     */
+    public boolean put(Key key, AccessibleObject executable) {
+        if (executableMap.size() >= maxSize) {
+            return false;
+        }
+        executableMap.put(key, executable);
+        return true;
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the size
+     * @since 5.0.10
+     */
+    public int size() {
+        return executableMap.size();
+    }
+
+    /**
+     * The type Key represents an argument shape, which is the arity and the types of the target,
+     * the receiver and the arguments.
+     *
+     * @since 5.0.10
+     */
+    public static final class Key {
+        private final int hashCode;
+        private final Class<?>[] types;
+
+        /**
+         * Instantiates a new Key.
+         *
+         * @param types the types
+         * @since 5.0.10
+         */
+        public Key(Class<?>... types) {
+            this.types = types;
+            hashCode = Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode && Arrays.equals(types, key.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
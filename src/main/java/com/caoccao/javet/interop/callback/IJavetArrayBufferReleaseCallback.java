@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.callback;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The interface Javet array buffer release callback.
+ * <p>
+ * It is called once V8 no longer references the backing store of an array buffer
+ * that wraps a caller-owned direct byte buffer, so that the caller may unmap,
+ * recycle or free the byte buffer. It may be called from any thread, e.g. the
+ * V8 GC thread or the thread closing the V8 runtime, and it must not call into V8.
+ *
+ * @since 5.0.10
+ */
+@FunctionalInterface
+public interface IJavetArrayBufferReleaseCallback {
+    /**
+     * Release the byte buffer.
+     *
+     * @param byteBuffer the byte buffer
+     * @since 5.0.10
+     */
+    void release(ByteBuffer byteBuffer);
+}
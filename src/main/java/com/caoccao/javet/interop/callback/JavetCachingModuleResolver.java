@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.callback;
+
+import com.caoccao.javet.exceptions.JavetError;
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.V8ScriptOrigin;
+import com.caoccao.javet.utils.SimpleMap;
+import com.caoccao.javet.utils.StringUtils;
+import com.caoccao.javet.values.reference.IV8Module;
+import com.caoccao.javet.values.reference.V8Module;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The type Javet caching module resolver is for resolving the ES modules in a root directory.
+ * <p>
+ * Relative specifiers (e.g. {@code ./a.js}, {@code ../b}) are resolved against the referrer,
+ * and bare or absolute specifiers (e.g. {@code lib/a}, {@code /lib/a.js}) are resolved against the root directory.
+ * The extensions are appended if the file is not found, and {@code index} with the extensions
+ * is looked up in a directory. The modules outside the root directory or with a scheme
+ * (e.g. {@code node:fs}) are not resolved.
+ * <p>
+ * The source code and the code cache are cached per absolute path, and invalidated
+ * when the last modified time or the size of the file changes. It is thread-safe,
+ * so one instance is expected to be shared by all the V8 runtimes, e.g. the engines in a pool.
+ *
+ * @since 5.0.10
+ */
+public class JavetCachingModuleResolver implements IV8ModuleResolver {
+    /**
+     * The constant DEFAULT_EXTENSIONS.
+     *
+     * @since 5.0.10
+     */
+    public static final List<String> DEFAULT_EXTENSIONS =
+            Collections.unmodifiableList(Arrays.asList(".js", ".mjs"));
+    /**
+     * The constant INDEX_FILE_NAME.
+     *
+     * @since 5.0.10
+     */
+    public static final String INDEX_FILE_NAME = "index";
+    /**
+     * The constant PATTERN_SCHEME. A single letter is a Windows drive instead of a scheme.
+     *
+     * @since 5.0.10
+     */
+    protected static final Pattern PATTERN_SCHEME = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.\\-]+:");
+    /**
+     * The Cached module map.
+     *
+     * @since 5.0.10
+     */
+    protected final Map<Path, CachedModule> cachedModuleMap;
+    /**
+     * The Extensions.
+     *
+     * @since 5.0.10
+     */
+    protected final List<String> extensions;
+    /**
+     * The Root path.
+     *
+     * @since 5.0.10
+     */
+    protected final Path rootPath;
+
+    /**
+     * Instantiates a new Javet caching module resolver with the default extensions.
+     *
+     * @param rootPath the root path
+     * @since 5.0.10
+     */
+    public JavetCachingModuleResolver(Path rootPath) {
+        this(rootPath, DEFAULT_EXTENSIONS);
+    }
+
+    /**
+     * Instantiates a new Javet caching module resolver.
+     *
+     * @param rootPath   the root path
+     * @param extensions the extensions
+     * @since 5.0.10
+     */
+    public JavetCachingModuleResolver(Path rootPath, List<String> extensions) {
+        this.rootPath = Objects.requireNonNull(rootPath).toAbsolutePath().normalize();
+        this.extensions = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(extensions)));
+        cachedModuleMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Clear the cached modules.
+     *
+     * @since 5.0.10
+     */
+    public void clear() {
+        cachedModuleMap.clear();
+    }
+
+    /**
+     * Compile the V8 module from the cached source code and code cache,
+     * and add that V8 module to the internal V8 module map of the V8 runtime.
+     *
+     * @param v8Runtime  the V8 runtime
+     * @param modulePath the module path
+     * @return the V8 module
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected V8Module compileV8Module(V8Runtime v8Runtime, Path modulePath) throws JavetException {
+        CachedModule cachedModule = getCachedModule(modulePath);
+        byte[] codeCache = cachedModule.getCodeCache();
+        V8Module v8Module = v8Runtime.compileV8Module(
+                cachedModule.getSourceCode(), codeCache, new V8ScriptOrigin(modulePath.toString()), true);
+        if (v8Module != null && (codeCache == null || v8Runtime.isCodeCacheRejected())) {
+            cachedModule.setCodeCache(v8Module.getCachedData());
+        }
+        return v8Module;
+    }
+
+    @Override
+    public String getAbsoluteResourceName(
+            V8Runtime v8Runtime,
+            String resourceName,
+            IV8Module v8ModuleReferrer)
+            throws JavetException {
+        Path modulePath = getModulePath(resourceName, v8ModuleReferrer);
+        return modulePath == null ? null : modulePath.toString();
+    }
+
+    /**
+     * Gets the cached module. The source code is read again if the file is modified.
+     *
+     * @param modulePath the module path
+     * @return the cached module
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected CachedModule getCachedModule(Path modulePath) throws JavetException {
+        try {
+            BasicFileAttributes basicFileAttributes = Files.readAttributes(modulePath, BasicFileAttributes.class);
+            final long lastModifiedTime = basicFileAttributes.lastModifiedTime().toMillis();
+            final long size = basicFileAttributes.size();
+            CachedModule cachedModule = cachedModuleMap.get(modulePath);
+            if (cachedModule == null || cachedModule.getLastModifiedTime() != lastModifiedTime
+                    || cachedModule.getSize() != size) {
+                String sourceCode = new String(Files.readAllBytes(modulePath), StandardCharsets.UTF_8);
+                cachedModule = new CachedModule(sourceCode, lastModifiedTime, size);
+                cachedModuleMap.put(modulePath, cachedModule);
+            }
+            return cachedModule;
+        } catch (IOException e) {
+            throw new JavetException(
+                    JavetError.FailedToReadPath,
+                    SimpleMap.of(JavetError.PARAMETER_PATH, modulePath),
+                    e);
+        }
+    }
+
+    /**
+     * Gets the cached module count.
+     *
+     * @return the cached module count
+     * @since 5.0.10
+     */
+    public int getCachedModuleCount() {
+        return cachedModuleMap.size();
+    }
+
+    /**
+     * Gets extensions.
+     *
+     * @return the extensions
+     * @since 5.0.10
+     */
+    public List<String> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * Gets the absolute path of the module file.
+     *
+     * @param resourceName     the resource name
+     * @param v8ModuleReferrer the V8 module referrer
+     * @return the module path or null if the module is not found in the root directory
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected Path getModulePath(String resourceName, IV8Module v8ModuleReferrer) throws JavetException {
+        if (StringUtils.isEmpty(resourceName) || PATTERN_SCHEME.matcher(resourceName).find()) {
+            return null;
+        }
+        Path modulePath;
+        try {
+            if (resourceName.startsWith("./") || resourceName.startsWith("../")) {
+                Path basePath = rootPath;
+                String referrerResourceName = v8ModuleReferrer == null ? null : v8ModuleReferrer.getResourceName();
+                if (StringUtils.isNotEmpty(referrerResourceName)) {
+                    Path referrerPath = Paths.get(referrerResourceName);
+                    if (referrerPath.isAbsolute() && referrerPath.startsWith(rootPath)) {
+                        basePath = referrerPath.getParent();
+                    }
+                }
+                modulePath = basePath.resolve(resourceName);
+            } else {
+                modulePath = Paths.get(resourceName);
+                if (!modulePath.isAbsolute() || !modulePath.normalize().startsWith(rootPath)) {
+                    int index = 0;
+                    while (index < resourceName.length() && resourceName.charAt(index) == '/') {
+                        ++index;
+                    }
+                    modulePath = rootPath.resolve(resourceName.substring(index));
+                }
+            }
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        modulePath = modulePath.normalize();
+        if (!modulePath.startsWith(rootPath)) {
+            return null;
+        }
+        if (Files.isRegularFile(modulePath)) {
+            return modulePath;
+        }
+        for (String extension : extensions) {
+            Path path = Paths.get(modulePath + extension);
+            if (Files.isRegularFile(path)) {
+                return path;
+            }
+        }
+        if (Files.isDirectory(modulePath)) {
+            for (String extension : extensions) {
+                Path path = modulePath.resolve(INDEX_FILE_NAME + extension);
+                if (Files.isRegularFile(path)) {
+                    return path;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets root path.
+     *
+     * @return the root path
+     * @since 5.0.10
+     */
+    public Path getRootPath() {
+        return rootPath;
+    }
+
+    /**
+     * Preload the module graphs into the V8 runtime in one call.
+     * <p>
+     * Each entry module is compiled and instantiated, so that all the modules it imports statically
+     * are resolved, compiled and added to the internal V8 module map of the V8 runtime.
+     * The modules are not evaluated. Importing the entry modules afterward doesn't touch the file system.
+     *
+     * @param v8Runtime     the V8 runtime
+     * @param resourceNames the resource names of the entry modules
+     * @return the count of the V8 modules added to the V8 runtime
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public int preload(V8Runtime v8Runtime, String... resourceNames) throws JavetException {
+        Objects.requireNonNull(v8Runtime);
+        final int v8ModuleCount = v8Runtime.getV8ModuleCount();
+        for (String resourceName : Objects.requireNonNull(resourceNames)) {
+            Path modulePath = getModulePath(resourceName, null);
+            if (modulePath == null) {
+                throw new JavetException(
+                        JavetError.ModuleNotFound,
+                        SimpleMap.of(JavetError.PARAMETER_MODULE_NAME, resourceName));
+            }
+            if (!v8Runtime.containsV8Module(modulePath.toString())) {
+                V8Module v8Module = compileV8Module(v8Runtime, modulePath);
+                if (v8Module != null) {
+                    v8Module.instantiate();
+                }
+            }
+        }
+        return v8Runtime.getV8ModuleCount() - v8ModuleCount;
+    }
+
+    @Override
+    public IV8Module resolve(
+            V8Runtime v8Runtime,
+            String resourceName,
+            IV8Module v8ModuleReferrer)
+            throws JavetException {
+        Path modulePath = getModulePath(resourceName, v8ModuleReferrer);
+        if (modulePath == null) {
+            return null;
+        }
+        return compileV8Module(v8Runtime, modulePath);
+    }
+
+    /**
+     * The type Cached module.
+     *
+     * @since 5.0.10
+     */
+    protected static final class CachedModule {
+        private final long lastModifiedTime;
+        private final long size;
+        private final String sourceCode;
+        private volatile byte[] codeCache;
+
+        /**
+         * Instantiates a new Cached module.
+         *
+         * @param sourceCode       the source code
+         * @param lastModifiedTime the last modified time
+         * @param size             the size
+         * @since 5.0.10
+         */
+        CachedModule(String sourceCode, long lastModifiedTime, long size) {
+            this.codeCache = null;
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+            this.sourceCode = sourceCode;
+        }
+
+        /**
+         * Gets code cache.
+         *
+         * @return the code cache
+         * @since 5.0.10
+         */
+        public byte[] getCodeCache() {
+            return codeCache;
+        }
+
+        /**
+         * Gets last modified time.
+         *
+         * @return the last modified time
+         * @since 5.0.10
+         */
+        public long getLastModifiedTime() {
+            return lastModifiedTime;
+        }
+
+        /**
+         * Gets size.
+         *
+         * @return the size
+         * @since 5.0.10
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Gets source code.
+         *
+         * @return the source code
+         * @since 5.0.10
+         */
+        public String getSourceCode() {
+            return sourceCode;
+        }
+
+        /**
+         * Sets code cache. An empty code cache is ignored.
+         *
+         * @param codeCache the code cache
+         * @since 5.0.10
+         */
+        public void setCodeCache(byte[] codeCache) {
+            this.codeCache = codeCache == null || codeCache.length == 0 ? null : codeCache;
+        }
+    }
+}
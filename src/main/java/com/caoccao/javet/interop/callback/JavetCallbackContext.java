@@ -47,6 +47,7 @@ public final class JavetCallbackContext {
     private final V8ValueSymbolType symbolType;
     private final boolean thisObjectRequired;
     private long handle;
+    private volatile JavetMethodInvoker methodInvoker;
     private boolean returnResult;
 
     /**
@@ -213,6 +214,7 @@ public final class JavetCallbackContext {
         this.callbackReceiver = callbackReceiver;
         this.callbackType = Objects.requireNonNull(callbackType);
         handle = INVALID_HANDLE;
+        methodInvoker = null;
         this.name = name;
         this.thisObjectRequired = thisObjectRequired;
         this.symbolType = Objects.requireNonNull(symbolType);
@@ -259,6 +261,23 @@ public final class JavetCallbackContext {
         return handle;
     }
 
+    /**
+     * Gets the method invoker of the reflection callback.
+     * It is created on the first call and reused afterward.
+     *
+     * @return the method invoker
+     * @since 5.0.10
+     */
+    JavetMethodInvoker getMethodInvoker() {
+        JavetMethodInvoker invoker = methodInvoker;
+        if (invoker == null) {
+            // The race is benign because the invokers are equivalent.
+            invoker = new JavetMethodInvoker((Method) callbackMethod);
+            methodInvoker = invoker;
+        }
+        return invoker;
+    }
+
     /**
      * Gets name.
      *
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.callback;
+
+import com.caoccao.javet.utils.JavetReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * The type Javet method invoker precomputes the parameter metadata and a method handle
+ * of a reflection callback so that the callback can be invoked without repeated reflection lookups.
+ * <p>
+ * The method handle is adapted to <code>(Object receiver, Object[] arguments) -&gt; Object</code>.
+ * If the method handle cannot be created, e.g. the method is not accessible,
+ * the invoker falls back to {@link Method#invoke(Object, Object...)}.
+ * Either way, the arguments that cannot be adapted to the parameter types are reported by
+ * {@link IllegalArgumentException} as the reflection does.
+ *
+ * @since 5.0.10
+ */
+final class JavetMethodInvoker {
+    private static final MethodType GENERIC_METHOD_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object[].class);
+    private final Class<?> componentType;
+    private final Method method;
+    private final MethodHandle methodHandle;
+    private final int parameterCount;
+    private final Class<?>[] parameterTypes;
+    private final boolean varArgs;
+
+    /**
+     * Instantiates a new Javet method invoker.
+     *
+     * @param method the method
+     * @since 5.0.10
+     */
+    JavetMethodInvoker(Method method) {
+        this.method = Objects.requireNonNull(method);
+        JavetReflectionUtils.safeSetAccessible(method);
+        parameterTypes = method.getParameterTypes();
+        parameterCount = parameterTypes.length;
+        varArgs = method.isVarArgs();
+        componentType = varArgs ? parameterTypes[parameterCount - 1].getComponentType() : null;
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asSpreader(Object[].class, parameterCount).asType(GENERIC_METHOD_TYPE);
+        } catch (Throwable ignored) {
+            handle = null;
+        }
+        methodHandle = handle;
+    }
+
+    /**
+     * Gets the component type of the varargs parameter.
+     *
+     * @return the component type or null if the method is not varargs
+     * @since 5.0.10
+     */
+    Class<?> getComponentType() {
+        return componentType;
+    }
+
+    /**
+     * Gets method.
+     *
+     * @return the method
+     * @since 5.0.10
+     */
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets parameter count.
+     *
+     * @return the parameter count
+     * @since 5.0.10
+     */
+    int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Gets parameter types.
+     *
+     * @return the parameter types
+     * @since 5.0.10
+     */
+    Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Invoke the method.
+     * The exception thrown by the method is propagated as is in the method handle path,
+     * or wrapped in {@link java.lang.reflect.InvocationTargetException} in the fallback path.
+     *
+     * @param receiver  the receiver, null for static method
+     * @param arguments the arguments which must match the parameter count
+     * @return the result, null for void method
+     * @throws Throwable the throwable
+     * @since 5.0.10
+     */
+    Object invoke(Object receiver, Object[] arguments) throws Throwable {
+        if (methodHandle != null) {
+            try {
+                return (Object) methodHandle.invokeExact(receiver, arguments);
+            } catch (ClassCastException | NullPointerException e) {
+                /*
+                 * The method handle reports the arguments it cannot adapt by ClassCastException
+                 * or NullPointerException before the method is called.
+                 * They are translated to IllegalArgumentException so that the error contract
+                 * stays the same as the reflection. The exceptions thrown by the method itself
+                 * are propagated as is.
+                 */
+                if (isAdaptable(receiver, arguments)) {
+                    throw e;
+                }
+                throw new IllegalArgumentException("argument type mismatch", e);
+            }
+        }
+        return method.invoke(receiver, arguments);
+    }
+
+    private boolean isAdaptable(Object receiver, Object[] arguments) {
+        // The null receiver of an instance method is reported by NullPointerException as the reflection does.
+        if (receiver != null && !Modifier.isStatic(method.getModifiers())
+                && !method.getDeclaringClass().isInstance(receiver)) {
+            return false;
+        }
+        for (int i = 0; i < parameterCount; ++i) {
+            if (!isAdaptable(parameterTypes[i], arguments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAdaptable(Class<?> parameterType, Object argument) {
+        if (!parameterType.isPrimitive()) {
+            return argument == null || parameterType.isInstance(argument);
+        }
+        if (argument == null) {
+            return false;
+        }
+        // The unboxing may be followed by a widening primitive conversion.
+        Class<?> argumentType = argument.getClass();
+        if (parameterType == boolean.class) {
+            return argumentType == Boolean.class;
+        }
+        if (parameterType == byte.class) {
+            return argumentType == Byte.class;
+        }
+        if (parameterType == char.class) {
+            return argumentType == Character.class;
+        }
+        if (parameterType == short.class) {
+            return argumentType == Short.class || argumentType == Byte.class;
+        }
+        boolean isInt = argumentType == Integer.class || argumentType == Short.class
+                || argumentType == Byte.class || argumentType == Character.class;
+        if (parameterType == int.class) {
+            return isInt;
+        }
+        if (parameterType == long.class) {
+            return isInt || argumentType == Long.class;
+        }
+        if (parameterType == float.class) {
+            return isInt || argumentType == Long.class || argumentType == Float.class;
+        }
+        return isInt || argumentType == Long.class || argumentType == Float.class || argumentType == Double.class;
+    }
+
+    /**
+     * Is method handle enabled.
+     *
+     * @return true : the method handle is used, false : the reflection is used
+     * @since 5.0.10
+     */
+    boolean isMethodHandleEnabled() {
+        return methodHandle != null;
+    }
+
+    /**
+     * Is var args.
+     *
+     * @return true : varargs, false : not varargs
+     * @since 5.0.10
+     */
+    boolean isVarArgs() {
+        return varArgs;
+    }
+}
@@ -43,8 +43,16 @@ public final class V8FunctionCallback {
     private V8FunctionCallback() {
     }
 
+    private static final Object[] EMPTY_OBJECTS = new Object[0];
     private static final String NULL = "null";
 
+    private static V8Value getValue(V8Value thisObject, V8Value[] args, boolean thisObjectRequired, int index) {
+        if (thisObjectRequired) {
+            return index == 0 ? thisObject : args[index - 1];
+        }
+        return args[index];
+    }
+
     private static V8Value setResultType(V8Value v8Value, int[] resultType) {
         if (resultType != null && resultType.length > 0) {
             resultType[0] = V8ValueUtils.getV8ValueTypeId(v8Value);
@@ -341,57 +349,57 @@ public final class V8FunctionCallback {
                      * Javet doesn't check whether callback method is static or not.
                      * If the callback receiver is null, that's a static method.
                      */
-                    Method method = javetCallbackContext.getCallbackMethod();
-                    JavetReflectionUtils.safeSetAccessible(method);
+                    JavetMethodInvoker methodInvoker = javetCallbackContext.getMethodInvoker();
                     Object callbackReceiver = javetCallbackContext.getCallbackReceiver();
-                    List<Object> values = new ArrayList<>();
-                    if (javetCallbackContext.isThisObjectRequired()) {
-                        values.add(thisObject);
-                    }
-                    if (args != null && args.length > 0) {
-                        Collections.addAll(values, args);
-                    }
-                    if (values.isEmpty()) {
-                        if (method.isVarArgs()) {
-                            Class<?>[] parameterTypes = method.getParameterTypes();
-                            Class<?> parameterClass = parameterTypes[parameterTypes.length - 1];
-                            Object varObject = Array.newInstance(parameterClass.getComponentType(), 0);
-                            resultObject = method.invoke(callbackReceiver, varObject);
+                    final boolean thisObjectRequired = javetCallbackContext.isThisObjectRequired();
+                    final int length = (args == null ? 0 : args.length) + (thisObjectRequired ? 1 : 0);
+                    final Class<?>[] parameterTypes = methodInvoker.getParameterTypes();
+                    final int parameterCount = methodInvoker.getParameterCount();
+                    if (length == 0) {
+                        if (methodInvoker.isVarArgs() && parameterCount == 1) {
+                            Object varObject = Array.newInstance(methodInvoker.getComponentType(), 0);
+                            resultObject = methodInvoker.invoke(callbackReceiver, new Object[]{varObject});
+                        } else if (!methodInvoker.isVarArgs() && parameterCount == 0) {
+                            resultObject = methodInvoker.invoke(callbackReceiver, EMPTY_OBJECTS);
                         } else {
-                            resultObject = method.invoke(callbackReceiver);
+                            // The signature mismatches. Let the reflection report the error.
+                            Method method = methodInvoker.getMethod();
+                            if (methodInvoker.isVarArgs()) {
+                                resultObject = method.invoke(
+                                        callbackReceiver, Array.newInstance(methodInvoker.getComponentType(), 0));
+                            } else {
+                                resultObject = method.invoke(callbackReceiver);
+                            }
                         }
                     } else {
-                        final int length = values.size();
-                        List<Object> objectValues = new ArrayList<>();
-                        Class<?>[] parameterTypes = method.getParameterTypes();
-                        if (method.isVarArgs()) {
-                            for (int i = 0; i < parameterTypes.length; ++i) {
-                                Class<?> parameterClass = parameterTypes[i];
-                                if (parameterClass.isArray() && i == parameterTypes.length - 1) {
-                                    // VarArgs is special. It requires special API to manipulate the array.
-                                    Class<?> componentType = parameterClass.getComponentType();
-                                    Object varObject = Array.newInstance(componentType, length - i);
-                                    for (int j = i; j < length; ++j) {
-                                        Array.set(varObject, j - i,
-                                                convert(converter, componentType, (V8Value) values.get(j)));
-                                    }
-                                    objectValues.add(varObject);
-                                } else {
-                                    objectValues.add(convert(converter, parameterClass, (V8Value) values.get(i)));
-                                }
+                        Object[] objectValues = new Object[parameterCount];
+                        if (methodInvoker.isVarArgs()) {
+                            final int fixedParameterCount = parameterCount - 1;
+                            for (int i = 0; i < fixedParameterCount; ++i) {
+                                objectValues[i] = convert(converter, parameterTypes[i],
+                                        getValue(thisObject, args, thisObjectRequired, i));
                             }
+                            // VarArgs is special. It requires special API to manipulate the array.
+                            Class<?> componentType = methodInvoker.getComponentType();
+                            Object varObject = Array.newInstance(componentType, length - fixedParameterCount);
+                            for (int j = fixedParameterCount; j < length; ++j) {
+                                Array.set(varObject, j - fixedParameterCount,
+                                        convert(converter, componentType,
+                                                getValue(thisObject, args, thisObjectRequired, j)));
+                            }
+                            objectValues[fixedParameterCount] = varObject;
                         } else {
-                            for (int i = 0; i < parameterTypes.length; ++i) {
+                            for (int i = 0; i < parameterCount; ++i) {
                                 /*
                                  * Virtual varargs support.
                                  * Redundant parameters will be dropped.
                                  * Absent parameters will be filled by the default values.
                                  */
-                                V8Value v8Value = i < length ? (V8Value) values.get(i) : null;
-                                objectValues.add(convert(converter, parameterTypes[i], v8Value));
+                                V8Value v8Value = i < length ? getValue(thisObject, args, thisObjectRequired, i) : null;
+                                objectValues[i] = convert(converter, parameterTypes[i], v8Value);
                             }
                         }
-                        resultObject = method.invoke(callbackReceiver, objectValues.toArray());
+                        resultObject = methodInvoker.invoke(callbackReceiver, objectValues);
                     }
                 } else {
                     switch (javetCallbackContext.getCallbackType()) {
@@ -484,6 +492,9 @@ public final class V8FunctionCallback {
                         }
                     }
                 }
+                if (v8Runtime.isReferenceReleaseDeferred()) {
+                    v8Runtime.flushReferenceReleaseQueue();
+                }
             }
         }
         return setResultType(v8Runtime.createV8ValueUndefined(), resultType);
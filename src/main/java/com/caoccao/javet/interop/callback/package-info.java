@@ -23,6 +23,7 @@
  *   <li>{@link com.caoccao.javet.interop.callback.V8FunctionCallback} - Dispatches V8 function calls to Java methods.</li>
  *   <li>{@link com.caoccao.javet.interop.callback.IV8ModuleResolver} - Resolve ES module {@code import} statements to compiled modules on the Java side.</li>
  *   <li>{@link com.caoccao.javet.interop.callback.JavetBuiltInModuleResolver} - Built-in resolver for Node.js {@code node:*} modules.</li>
+ *   <li>{@link com.caoccao.javet.interop.callback.JavetCachingModuleResolver} - Resolver for the modules in a root directory with cached source code and code cache.</li>
  *   <li>{@link com.caoccao.javet.interop.callback.IJavetDirectCallable} - Convert annotation-based callbacks to direct Java method calls (avoids reflection).</li>
  *   <li>{@link com.caoccao.javet.interop.callback.IJavetPromiseRejectCallback} - Handle unhandled promise rejections.</li>
  *   <li>{@link com.caoccao.javet.interop.callback.IJavetGCCallback} - Receive V8 garbage collection events.</li>
@@ -63,6 +63,20 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
      * @since 5.0.2
      */
     protected int batchSize;
+    /**
+     * The char array to string.
+     * When it is enabled, char[] is converted to a JS string instead of an array of one-char strings.
+     *
+     * @since 5.0.10
+     */
+    protected boolean charArrayToString;
+    /**
+     * The deep read enabled.
+     * When it is enabled, plain V8 object graphs are read in one native traversal.
+     *
+     * @since 5.0.10
+     */
+    protected boolean deepReadEnabled;
     /**
      * The Default boolean.
      *
@@ -123,6 +137,12 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
      * @since 0.9.3
      */
     protected int maxDepth;
+    /**
+     * The Proxy method cache enabled.
+     *
+     * @since 5.0.10
+     */
+    protected boolean proxyMethodCacheEnabled;
     /**
      * The Reflection object factory.
      *
@@ -149,6 +169,8 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
      */
     public JavetConverterConfig() {
         batchSize = DEFAULT_BATCH_SIZE;
+        charArrayToString = false;
+        deepReadEnabled = true;
         defaultBoolean = false;
         defaultByte = (byte) 0;
         defaultChar = '\0';
@@ -159,6 +181,7 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
         defaultShort = 0;
         extractFunctionSourceCode = false;
         maxDepth = DEFAULT_MAX_DEPTH;
+        proxyMethodCacheEnabled = false;
         proxyPlugins = new ArrayList<>();
         reflectionObjectFactory = null;
         sealedEnabled = false;
@@ -285,6 +308,26 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
         return reflectionObjectFactory;
     }
 
+    /**
+     * Is char array to string.
+     *
+     * @return true : char[] to string, false : char[] to array
+     * @since 5.0.10
+     */
+    public boolean isCharArrayToString() {
+        return charArrayToString;
+    }
+
+    /**
+     * Is deep read enabled.
+     *
+     * @return true : enabled, false : disabled
+     * @since 5.0.10
+     */
+    public boolean isDeepReadEnabled() {
+        return deepReadEnabled;
+    }
+
     /**
      * Is extract function source code.
      *
@@ -295,6 +338,20 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
         return extractFunctionSourceCode;
     }
 
+    /**
+     * Is proxy method cache enabled.
+     * <p>
+     * If it is enabled, the method functions of the reflection proxy objects are shared
+     * per V8 context, class, method name and proxy mode, and resolve the target object from the receiver.
+     * So, calling a detached method, e.g. <code>const f = obj.foo; f();</code>, is not supported.
+     *
+     * @return true : enabled, false : disabled
+     * @since 5.0.10
+     */
+    public boolean isProxyMethodCacheEnabled() {
+        return proxyMethodCacheEnabled;
+    }
+
     /**
      * Is proxy array enabled.
      *
@@ -367,6 +424,32 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
         return this;
     }
 
+    /**
+     * Sets char array to string.
+     *
+     * @param charArrayToString the char array to string
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetConverterConfig<T> setCharArrayToString(boolean charArrayToString) {
+        this.charArrayToString = charArrayToString;
+        return this;
+    }
+
+    /**
+     * Sets deep read enabled.
+     *
+     * @param deepReadEnabled the deep read enabled
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetConverterConfig<T> setDeepReadEnabled(boolean deepReadEnabled) {
+        this.deepReadEnabled = deepReadEnabled;
+        return this;
+    }
+
     /**
      * Sets default boolean.
      *
@@ -573,6 +656,19 @@ public class JavetConverterConfig<T extends JavetConverterConfig<T>> {
         return this;
     }
 
+    /**
+     * Sets proxy method cache enabled.
+     *
+     * @param proxyMethodCacheEnabled the proxy method cache enabled
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetConverterConfig<T> setProxyMethodCacheEnabled(boolean proxyMethodCacheEnabled) {
+        this.proxyMethodCacheEnabled = proxyMethodCacheEnabled;
+        return this;
+    }
+
     /**
      * Sets reflection object factory.
      *
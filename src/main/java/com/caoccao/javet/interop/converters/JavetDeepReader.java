@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.converters;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.utils.JavetDateTimeUtils;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.V8ValueObject;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The type Javet deep reader decodes the binary buffer of a V8 object graph
+ * that is read in one native traversal.
+ * <p>
+ * The buffer is in native byte order. Each value starts with a tag.
+ * The values that cannot be encoded in the buffer are passed as references
+ * and are converted by the converter individually.
+ *
+ * @since 5.0.10
+ */
+final class JavetDeepReader {
+    static final byte TAG_ARRAY = 9;
+    static final byte TAG_BYTES = 13;
+    static final byte TAG_DOUBLE = 4;
+    static final byte TAG_DOUBLES = 17;
+    static final byte TAG_FALSE = 1;
+    static final byte TAG_FLOATS = 16;
+    static final byte TAG_INTEGER = 3;
+    static final byte TAG_INTEGERS = 15;
+    static final byte TAG_LONG = 5;
+    static final byte TAG_LONGS = 18;
+    static final byte TAG_MAP = 11;
+    static final byte TAG_NULL = 0;
+    static final byte TAG_OBJECT = 10;
+    static final byte TAG_ONE_BYTE_STRING = 6;
+    static final byte TAG_REFERENCE = 19;
+    static final byte TAG_SET = 12;
+    static final byte TAG_SHORTS = 14;
+    static final byte TAG_TRUE = 2;
+    static final byte TAG_TWO_BYTE_STRING = 7;
+    static final byte TAG_ZONED_DATE_TIME = 8;
+
+    private final ByteBuffer byteBuffer;
+    private final JavetObjectConverter converter;
+    private final Object[] results;
+
+    /**
+     * Instantiates a new Javet deep reader.
+     *
+     * @param converter the converter
+     * @param results   the buffer followed by the references
+     * @since 5.0.10
+     */
+    JavetDeepReader(JavetObjectConverter converter, Object[] results) {
+        this.converter = Objects.requireNonNull(converter);
+        this.results = Objects.requireNonNull(results);
+        byteBuffer = ByteBuffer.wrap((byte[]) results[0]).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Read the value at the current position.
+     *
+     * @param depth the depth
+     * @return the object
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    Object read(final int depth) throws JavetException {
+        final byte tag = byteBuffer.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return false;
+            case TAG_TRUE:
+                return true;
+            case TAG_INTEGER:
+                return byteBuffer.getInt();
+            case TAG_DOUBLE:
+                return byteBuffer.getDouble();
+            case TAG_LONG:
+                return byteBuffer.getLong();
+            case TAG_ONE_BYTE_STRING:
+            case TAG_TWO_BYTE_STRING:
+                return readString(tag);
+            case TAG_ZONED_DATE_TIME:
+                return JavetDateTimeUtils.toZonedDateTime(byteBuffer.getLong());
+            case TAG_ARRAY: {
+                final int length = byteBuffer.getInt();
+                final List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(read(depth + 1));
+                }
+                return list;
+            }
+            case TAG_OBJECT:
+                return readObject(depth);
+            case TAG_MAP: {
+                final int length = byteBuffer.getInt();
+                final Map<String, Object> map = converter.createEntityMap();
+                for (int i = 0; i < length; i++) {
+                    final String key = readKey();
+                    map.put(key, read(depth + 1));
+                }
+                return map;
+            }
+            case TAG_SET: {
+                final int length = byteBuffer.getInt();
+                final Set<Object> set = new HashSet<>();
+                for (int i = 0; i < length; i++) {
+                    set.add(read(depth + 1));
+                }
+                return set;
+            }
+            case TAG_BYTES: {
+                final byte[] bytes = new byte[byteBuffer.getInt()];
+                byteBuffer.get(bytes);
+                return bytes;
+            }
+            case TAG_SHORTS: {
+                final short[] shorts = new short[byteBuffer.getInt() / Short.BYTES];
+                byteBuffer.asShortBuffer().get(shorts);
+                skip(shorts.length * Short.BYTES);
+                return shorts;
+            }
+            case TAG_INTEGERS: {
+                final int[] integers = new int[byteBuffer.getInt() / Integer.BYTES];
+                byteBuffer.asIntBuffer().get(integers);
+                skip(integers.length * Integer.BYTES);
+                return integers;
+            }
+            case TAG_FLOATS: {
+                final float[] floats = new float[byteBuffer.getInt() / Float.BYTES];
+                byteBuffer.asFloatBuffer().get(floats);
+                skip(floats.length * Float.BYTES);
+                return floats;
+            }
+            case TAG_DOUBLES: {
+                final double[] doubles = new double[byteBuffer.getInt() / Double.BYTES];
+                byteBuffer.asDoubleBuffer().get(doubles);
+                skip(doubles.length * Double.BYTES);
+                return doubles;
+            }
+            case TAG_LONGS: {
+                final long[] longs = new long[byteBuffer.getInt() / Long.BYTES];
+                byteBuffer.asLongBuffer().get(longs);
+                skip(longs.length * Long.BYTES);
+                return longs;
+            }
+            case TAG_REFERENCE:
+                return converter.toObject(readReference(), depth);
+            default:
+                throw new IllegalStateException("Unknown deep read tag " + tag);
+        }
+    }
+
+    private String readKey() {
+        final byte tag = byteBuffer.get();
+        if (tag == TAG_REFERENCE) {
+            return readReference().toString();
+        }
+        return readString(tag);
+    }
+
+    private Map<String, Object> readObject(final int depth) throws JavetException {
+        final int length = byteBuffer.getInt();
+        final Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < length; i++) {
+            final String key = readKey();
+            if (JavetObjectConverter.PUBLIC_PROPERTY_CONSTRUCTOR.equals(key)) {
+                byteBuffer.get();
+                V8ValueObject v8ValueObject = (V8ValueObject) readReference();
+                map.put(JavetObjectConverter.PUBLIC_PROPERTY_CONSTRUCTOR,
+                        v8ValueObject.getString(JavetObjectConverter.PROPERTY_NAME));
+            } else {
+                map.put(key, read(depth + 1));
+            }
+        }
+        return map;
+    }
+
+    private V8Value readReference() {
+        return (V8Value) results[byteBuffer.getInt() + 1];
+    }
+
+    private String readString(final byte tag) {
+        final int length = byteBuffer.getInt();
+        if (tag == TAG_ONE_BYTE_STRING) {
+            final String value = new String(
+                    byteBuffer.array(), byteBuffer.position(), length, StandardCharsets.ISO_8859_1);
+            skip(length);
+            return value;
+        }
+        // Unpaired surrogates are preserved by reading the chars as is.
+        final char[] chars = new char[length];
+        byteBuffer.asCharBuffer().get(chars);
+        skip(length * Character.BYTES);
+        return new String(chars);
+    }
+
+    private void skip(final int length) {
+        byteBuffer.position(byteBuffer.position() + length);
+    }
+}
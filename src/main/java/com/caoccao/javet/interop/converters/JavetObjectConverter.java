@@ -147,6 +147,26 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
         return new JavetEntityMap();
     }
 
+    /**
+     * Is deep read supported.
+     * <p>
+     * Arrays, maps, sets and plain objects are read in one native traversal
+     * unless sealed arrays or custom objects require the per value conversion.
+     *
+     * @param v8Value the V8 value
+     * @return true : supported, false : not supported
+     * @since 5.0.10
+     */
+    protected boolean isDeepReadSupported(V8Value v8Value) {
+        if (!config.isDeepReadEnabled() || config.isSealedEnabled() || !customObjectMap.isEmpty()) {
+            return false;
+        }
+        return v8Value instanceof V8ValueArray
+                || v8Value instanceof V8ValueMap
+                || v8Value instanceof V8ValueSet
+                || v8Value.getClass() == V8ValueObject.class;
+    }
+
     /**
      * Register custom object.
      *
@@ -204,6 +224,17 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
         if (!(returnObject instanceof V8Value)) {
             return returnObject;
         }
+        if (isDeepReadSupported(v8Value)) {
+            Object[] results = v8Value.getV8Runtime().getV8Internal().objectDeepRead(
+                    (IV8ValueObject) v8Value, config.getMaxDepth() - depth - 1, config.isSkipFunctionInObject());
+            if (results != null) {
+                try {
+                    return (T) new JavetDeepReader(this, results).read(depth);
+                } finally {
+                    JavetResourceUtils.safeClose(results);
+                }
+            }
+        }
         if (v8Value instanceof V8ValueArray) {
             V8ValueArray v8ValueArray = (V8ValueArray) v8Value;
             final List<Object> list = new ArrayList<>();
@@ -345,7 +376,7 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
             return (T) v8Value;
         }
         if (object instanceof IJavetEntityMap) {
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 V8ValueMap v8ValueMap = v8Scope.createV8ValueMap();
                 final Map<?, ?> map = (Map<?, ?>) object;
                 final List<Object> objects = new ArrayList<>(map.size() << 1);
@@ -362,24 +393,29 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
                 }
             }
         } else if (object instanceof Map) {
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
-                V8ValueObject v8ValueObject = v8Scope.createV8ValueObject();
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 final Map<?, ?> map = (Map<?, ?>) object;
-                final List<Object> objects = new ArrayList<>(map.size() << 1);
+                final int size = map.size();
+                final String[] keys = new String[size];
+                final V8Value[] childV8Values = new V8Value[size];
                 try {
+                    int i = 0;
                     for (Map.Entry<?, ?> entry : map.entrySet()) {
-                        objects.add(entry.getKey() instanceof String ? entry.getKey() : entry.getKey().toString());
-                        objects.add(toV8Value(v8Runtime, entry.getValue(), depth + 1));
+                        keys[i] = entry.getKey() instanceof String
+                                ? (String) entry.getKey()
+                                : entry.getKey().toString();
+                        childV8Values[i] = toV8Value(v8Runtime, entry.getValue(), depth + 1);
+                        ++i;
                     }
-                    v8ValueObject.set(objects.toArray());
-                    v8Value = v8ValueObject;
+                    // The object is created with all the properties in one JNI call.
+                    v8Value = v8Scope.createV8ValueObject(keys, childV8Values);
                     v8Scope.setEscapable();
                 } finally {
-                    JavetResourceUtils.safeClose(objects);
+                    JavetResourceUtils.safeClose(childV8Values);
                 }
             }
         } else if (object instanceof Set) {
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 V8ValueSet v8ValueSet = v8Scope.createV8ValueSet();
                 final Set<?> setObject = (Set<?>) object;
                 for (Object item : setObject) {
@@ -391,7 +427,7 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
                 v8Scope.setEscapable();
             }
         } else if (object instanceof Collection) {
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 Collection<?> list = (Collection<?>) object;
                 V8Value[] childV8Values = null;
                 try {
@@ -416,7 +452,7 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
                 }
             }
         } else if (object instanceof BaseStream) {
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 final Iterator<?> iterator = ((BaseStream<?, ?>) object).iterator();
                 List<V8Value> childV8Values = new ArrayList<>();
                 try {
@@ -450,7 +486,7 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
             v8Value = OBJECT_CONVERTER.toV8Value(v8Runtime, javetEntityObject.getValue(), depth + 1);
         } else if (object instanceof IJavetEntityPropertyDescriptor) {
             final IJavetEntityPropertyDescriptor<?> javetEntityPropertyDescriptor = (IJavetEntityPropertyDescriptor<?>) object;
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 V8ValueObject v8ValueObject = v8Scope.createV8ValueObject();
                 try (V8Value v8ValueInner = toV8Value(v8Runtime, javetEntityPropertyDescriptor.getValue(), depth + 1)) {
                     v8ValueObject.set(
@@ -468,7 +504,7 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
             }
         } else if (object instanceof IJavetEntityError) {
             final IJavetEntityError javetEntityError = (IJavetEntityError) object;
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 V8ValueError v8ValueError = v8Scope.createV8ValueError(
                         javetEntityError.getType(), javetEntityError.getMessage());
                 v8ValueError.setStack(javetEntityError.getStack());
@@ -486,27 +522,9 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
                 }
             }
         } else if (object.getClass().isArray()) {
-            try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            try (V8Scope v8Scope = v8Runtime.getV8ArenaScope()) {
                 if (object instanceof boolean[]) {
-                    boolean[] booleans = (boolean[]) object;
-                    V8Value[] childV8Values = null;
-                    try {
-                        if (booleans.length > 0) {
-                            childV8Values = new V8Value[booleans.length];
-                            for (int i = 0; i < booleans.length; i++) {
-                                childV8Values[i] = v8Runtime.createV8ValueBoolean(booleans[i]);
-                            }
-                        }
-                        V8ValueArray v8ValueArray = v8Scope.createV8ValueArray();
-                        if (childV8Values != null) {
-                            v8ValueArray.batchPush(config.getBatchSize(), (Object[]) childV8Values);
-                        }
-                        v8Value = v8ValueArray;
-                    } finally {
-                        if (childV8Values != null) {
-                            JavetResourceUtils.safeClose(childV8Values);
-                        }
-                    }
+                    v8Value = v8Scope.createV8ValueArray((boolean[]) object);
                 } else if (object instanceof byte[]) {
                     byte[] bytes = (byte[]) object;
                     V8ValueTypedArray v8ValueTypedArray = v8Scope.createV8ValueTypedArray(
@@ -515,23 +533,10 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
                     v8Value = v8ValueTypedArray;
                 } else if (object instanceof char[]) {
                     char[] chars = (char[]) object;
-                    V8Value[] childV8Values = null;
-                    try {
-                        if (chars.length > 0) {
-                            childV8Values = new V8Value[chars.length];
-                            for (int i = 0; i < chars.length; i++) {
-                                childV8Values[i] = v8Runtime.createV8ValueString(Character.toString(chars[i]));
-                            }
-                        }
-                        V8ValueArray v8ValueArray = v8Scope.createV8ValueArray();
-                        if (childV8Values != null) {
-                            v8ValueArray.batchPush(config.getBatchSize(), (Object[]) childV8Values);
-                        }
-                        v8Value = v8ValueArray;
-                    } finally {
-                        if (childV8Values != null) {
-                            JavetResourceUtils.safeClose(childV8Values);
-                        }
+                    if (config.isCharArrayToString()) {
+                        v8Value = v8Runtime.createV8ValueString(new String(chars));
+                    } else {
+                        v8Value = v8Scope.createV8ValueArray(chars);
                     }
                 } else if (object instanceof double[]) {
                     double[] doubles = (double[]) object;
@@ -20,12 +20,19 @@ import com.caoccao.javet.annotations.CheckReturnValue;
 import com.caoccao.javet.enums.V8AllocationSpace;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetClosable;
+import com.caoccao.javet.interfaces.IJavetUniFunction;
 import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.engine.listeners.IJavetEnginePoolListener;
 import com.caoccao.javet.interop.engine.observers.*;
 import com.caoccao.javet.interop.monitoring.V8HeapSpaceStatistics;
 import com.caoccao.javet.interop.monitoring.V8HeapStatistics;
 import com.caoccao.javet.interop.monitoring.V8SharedMemoryStatistics;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * The interface Javet engine pool.
  *
@@ -33,6 +40,38 @@ import com.caoccao.javet.interop.monitoring.V8SharedMemoryStatistics;
  * @since 0.7.0
  */
 public interface IJavetEnginePool<R extends V8Runtime> extends IJavetClosable {
+    /**
+     * Add a listener to receive the engine lifecycle and acquisition events.
+     * <p>
+     * The default implementation does nothing, so the listener never receives any events.
+     *
+     * @param listener the listener
+     * @since 5.0.10
+     */
+    default void addListener(IJavetEnginePoolListener listener) {
+    }
+
+    /**
+     * Acquire an engine asynchronously, execute the function with its V8 runtime
+     * and release the engine automatically.
+     * The function is executed in the async executor from the config.
+     *
+     * @param <T>      the type of the result
+     * @param function the function
+     * @return the completable future of the result
+     * @since 5.0.10
+     */
+    default <T> CompletableFuture<T> executeAsync(IJavetUniFunction<R, T, ? extends Exception> function) {
+        Objects.requireNonNull(function);
+        return getEngineAsync().thenApplyAsync(iJavetEngine -> {
+            try (IJavetEngine<R> engine = iJavetEngine) {
+                return function.apply(engine.getV8Runtime());
+            } catch (Throwable t) {
+                throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+            }
+        }, getConfig().getAsyncExecutor());
+    }
+
     /**
      * Gets active engine count.
      *
@@ -126,6 +165,18 @@ public interface IJavetEnginePool<R extends V8Runtime> extends IJavetClosable {
         return observer.getResult();
     }
 
+    /**
+     * Gets the code cache store shared by all the engines.
+     * <p>
+     * The default implementation returns null.
+     *
+     * @return the code cache store or null if it is not set in the config
+     * @since 5.0.10
+     */
+    default JavetEngineCodeCacheStore getCodeCacheStore() {
+        return null;
+    }
+
     /**
      * Gets config.
      *
@@ -144,6 +195,49 @@ public interface IJavetEnginePool<R extends V8Runtime> extends IJavetClosable {
     @CheckReturnValue
     IJavetEngine<R> getEngine() throws JavetException;
 
+    /**
+     * Gets engine with the given timeout.
+     * <p>
+     * In the fair mode, the calling thread is parked in a FIFO wait queue
+     * and is handed an engine as soon as one is released.
+     * Otherwise, the calling thread sleeps and retries until the timeout
+     * or the max retry count is reached.
+     * <p>
+     * The default implementation ignores the timeout and calls {@link #getEngine()}.
+     *
+     * @param timeout the timeout
+     * @return the engine
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    default IJavetEngine<R> getEngine(Duration timeout) throws JavetException {
+        return getEngine();
+    }
+
+    /**
+     * Gets engine asynchronously.
+     * The returned future is completed when an engine is available,
+     * or is completed exceptionally with {@link com.caoccao.javet.exceptions.JavetError#EngineNotAvailable}
+     * after the wait for engine timeout or when the pool is closed.
+     * The caller must close the engine to release it back to the pool.
+     * <p>
+     * The default implementation calls {@link #getEngine()} in the async executor from the config.
+     *
+     * @return the completable future of the engine
+     * @since 5.0.10
+     */
+    @CheckReturnValue
+    default CompletableFuture<IJavetEngine<R>> getEngineAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return getEngine();
+            } catch (JavetException e) {
+                throw new CompletionException(e);
+            }
+        }, getConfig().getAsyncExecutor());
+    }
+
     /**
      * Gets idle engine count.
      *
@@ -218,6 +312,17 @@ public interface IJavetEnginePool<R extends V8Runtime> extends IJavetClosable {
      */
     void releaseEngine(IJavetEngine<R> iJavetEngine);
 
+    /**
+     * Remove a listener.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param listener the listener
+     * @since 5.0.10
+     */
+    default void removeListener(IJavetEnginePoolListener listener) {
+    }
+
     /**
      * Wake up the daemon thread explicitly.
      *
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Runtime;
+
+/**
+ * The interface Javet engine warm up callback.
+ * <p>
+ * This callback is triggered when an engine is created by the pool and after the engine is reset,
+ * so that the bootstrap cost is paid off the request path.
+ *
+ * @since 5.0.10
+ */
+@FunctionalInterface
+public interface IJavetEngineWarmUpCallback {
+    /**
+     * Callback method invoked to warm up the V8 runtime of an engine.
+     *
+     * @param v8Runtime the V8 runtime
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    void callback(V8Runtime v8Runtime) throws JavetException;
+}
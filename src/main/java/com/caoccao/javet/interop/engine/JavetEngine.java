@@ -167,13 +167,15 @@ public class JavetEngine<R extends V8Runtime> implements IJavetEngine<R> {
     @Override
     public void resetContext() throws JavetException {
         v8Runtime.resetContext();
-        usage.reset();
+        usage.resetContext();
+        warmUp();
     }
 
     @Override
     public void resetIsolate() throws JavetException {
         v8Runtime.resetIsolate();
         usage.reset();
+        warmUp();
     }
 
     @Override
@@ -205,6 +207,19 @@ public class JavetEngine<R extends V8Runtime> implements IJavetEngine<R> {
         this.index = index;
     }
 
+    /**
+     * Warm up the V8 runtime with the warm up callback from the config.
+     *
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected void warmUp() throws JavetException {
+        IJavetEngineWarmUpCallback warmUpCallback = iJavetEnginePool.getConfig().getWarmUpCallback();
+        if (warmUpCallback != null) {
+            warmUpCallback.callback(v8Runtime);
+        }
+    }
+
     /**
      * Touch last active zoned date time.
      *
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.interop.executors.IV8CodeCacheStore;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The type Javet engine code cache store.
+ * <p>
+ * It is owned by the engine pool and shared by all the engines. It delegates to
+ * the code cache store in the engine config and counts the hits, misses and rejections.
+ *
+ * @since 5.0.10
+ */
+public class JavetEngineCodeCacheStore implements IV8CodeCacheStore {
+    /**
+     * The Code cache store.
+     *
+     * @since 5.0.10
+     */
+    protected final IV8CodeCacheStore codeCacheStore;
+    /**
+     * The Hit count.
+     *
+     * @since 5.0.10
+     */
+    protected final AtomicLong hitCount;
+    /**
+     * The Miss count.
+     *
+     * @since 5.0.10
+     */
+    protected final AtomicLong missCount;
+    /**
+     * The Rejected count.
+     *
+     * @since 5.0.10
+     */
+    protected final AtomicLong rejectedCount;
+
+    /**
+     * Instantiates a new Javet engine code cache store.
+     *
+     * @param codeCacheStore the code cache store
+     * @since 5.0.10
+     */
+    public JavetEngineCodeCacheStore(IV8CodeCacheStore codeCacheStore) {
+        this.codeCacheStore = Objects.requireNonNull(codeCacheStore);
+        hitCount = new AtomicLong();
+        missCount = new AtomicLong();
+        rejectedCount = new AtomicLong();
+    }
+
+    @Override
+    public void clear() {
+        codeCacheStore.clear();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        byte[] cachedData = codeCacheStore.get(key);
+        if (cachedData == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return cachedData;
+    }
+
+    /**
+     * Gets the delegated code cache store.
+     *
+     * @return the code cache store
+     * @since 5.0.10
+     */
+    public IV8CodeCacheStore getCodeCacheStore() {
+        return codeCacheStore;
+    }
+
+    /**
+     * Gets hit count.
+     *
+     * @return the hit count
+     * @since 5.0.10
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets miss count.
+     *
+     * @return the miss count
+     * @since 5.0.10
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets rejected count.
+     *
+     * @return the rejected count
+     * @since 5.0.10
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void onRejected(String key) {
+        rejectedCount.incrementAndGet();
+        codeCacheStore.onRejected(key);
+    }
+
+    @Override
+    public void put(String key, byte[] cachedData) {
+        codeCacheStore.put(key, cachedData);
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return codeCacheStore.remove(key);
+    }
+
+    /**
+     * Reset the counters.
+     *
+     * @since 5.0.10
+     */
+    public void resetCounters() {
+        hitCount.set(0);
+        missCount.set(0);
+        rejectedCount.set(0);
+    }
+
+    @Override
+    public int size() {
+        return codeCacheStore.size();
+    }
+}
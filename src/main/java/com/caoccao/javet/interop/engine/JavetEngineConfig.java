@@ -19,11 +19,14 @@ package com.caoccao.javet.interop.engine;
 import com.caoccao.javet.enums.JSRuntimeType;
 import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.interop.V8Guard;
+import com.caoccao.javet.interop.executors.IV8CodeCacheStore;
 import com.caoccao.javet.utils.JavetDefaultLogger;
 import com.caoccao.javet.utils.JavetOSUtils;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The type Javet engine config.
@@ -85,6 +88,12 @@ public final class JavetEngineConfig {
      * @since 1.1.6
      */
     public static final int DEFAULT_WAIT_FOR_ENGINE_MAX_RETRY_COUNT = 500;
+    /**
+     * The constant DEFAULT_WAIT_FOR_ENGINE_TIMEOUT_MILLIS.
+     *
+     * @since 5.0.10
+     */
+    public static final int DEFAULT_WAIT_FOR_ENGINE_TIMEOUT_MILLIS = 5000;
     /**
      * The constant MAX_POOL_SIZE.
      *
@@ -104,8 +113,15 @@ public final class JavetEngineConfig {
      */
     public static IJavetLogger DEFAULT_JAVET_LOGGER = new JavetDefaultLogger(JavetEnginePool.class.getName());
     private boolean allowEval;
+    private Executor asyncExecutor;
     private boolean autoSendGCNotification;
+    private IV8CodeCacheStore codeCacheStore;
     private int defaultEngineGuardTimeoutMillis;
+    private long engineMaxAverageExecutionTimeMillis;
+    private int engineMaxCallbackContextCount;
+    private int engineMaxReferenceCount;
+    private int engineMaxUsedCount;
+    private long engineMaxUsedHeapSize;
     private boolean gcBeforeEngineClose;
     private String globalName;
     private IJavetLogger javetLogger;
@@ -117,10 +133,14 @@ public final class JavetEngineConfig {
     private int poolMinSize;
     private int poolShutdownTimeoutSeconds;
     private boolean poolSizeFrozen;
+    private int poolWarmSize;
     private int resetEngineTimeoutSeconds;
     private int waitForEngineLogIntervalMillis;
+    private boolean waitForEngineFair;
     private int waitForEngineMaxRetryCount;
     private int[] waitForEngineSleepIntervalMillis;
+    private int waitForEngineTimeoutMillis;
+    private IJavetEngineWarmUpCallback warmUpCallback;
     private byte[] snapshotBlob;
 
     /**
@@ -132,15 +152,23 @@ public final class JavetEngineConfig {
         setJavetLogger(DEFAULT_JAVET_LOGGER);
         setGlobalName(null);
         setAllowEval(false);
+        setAsyncExecutor(ForkJoinPool.commonPool());
         setAutoSendGCNotification(true);
+        setCodeCacheStore(null);
         setDefaultEngineGuardTimeoutMillis(V8Guard.DEFAULT_TIMEOUT_MILLIS);
         setGCBeforeEngineClose(false);
+        setEngineMaxAverageExecutionTimeMillis(0);
+        setEngineMaxCallbackContextCount(0);
+        setEngineMaxReferenceCount(0);
+        setEngineMaxUsedCount(0);
+        setEngineMaxUsedHeapSize(0);
         setJSRuntimeType(DEFAULT_JS_RUNTIME_TYPE);
         setSnapshotBlob(null);
         poolSizeFrozen = false;
         final int cpuCount = JavetOSUtils.getCPUCount();
         setPoolMinSize(Math.max(DEFAULT_POOL_MIN_SIZE, cpuCount >> 1));
         setPoolMaxSize(Math.max(DEFAULT_POOL_MIN_SIZE, cpuCount));
+        setPoolWarmSize(0);
         setPoolIdleTimeoutSeconds(DEFAULT_POOL_IDLE_TIMEOUT_SECONDS);
         setPoolShutdownTimeoutSeconds(DEFAULT_POOL_SHUTDOWN_TIMEOUT_SECONDS);
         setPoolDaemonCheckIntervalMillis(DEFAULT_POOL_DAEMON_CHECK_INTERVAL_MILLIS);
@@ -148,6 +176,9 @@ public final class JavetEngineConfig {
         setWaitForEngineLogIntervalMillis(DEFAULT_WAIT_FOR_ENGINE_LOG_INTERVAL_MILLIS);
         setWaitForEngineMaxRetryCount(DEFAULT_WAIT_FOR_ENGINE_MAX_RETRY_COUNT);
         setWaitForEngineSleepIntervalMillis(DEFAULT_WAIT_FOR_ENGINE_SLEEP_INTERVAL_MILLIS);
+        setWaitForEngineFair(false);
+        setWaitForEngineTimeoutMillis(DEFAULT_WAIT_FOR_ENGINE_TIMEOUT_MILLIS);
+        setWarmUpCallback(null);
     }
 
     /**
@@ -162,6 +193,28 @@ public final class JavetEngineConfig {
         return this;
     }
 
+    /**
+     * Gets async executor.
+     * It runs the asynchronous engine acquisition and execution.
+     *
+     * @return the async executor
+     * @since 5.0.10
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Gets code cache store.
+     * It is shared by all the engines in the pool.
+     *
+     * @return the code cache store or null if it is not set
+     * @since 5.0.10
+     */
+    public IV8CodeCacheStore getCodeCacheStore() {
+        return codeCacheStore;
+    }
+
     /**
      * Gets default engine guard timeout millis.
      *
@@ -172,6 +225,61 @@ public final class JavetEngineConfig {
         return defaultEngineGuardTimeoutMillis;
     }
 
+    /**
+     * Gets engine max average execution time millis.
+     * The engine is recycled if the mean time between checkout and release reaches it. 0 means disabled.
+     *
+     * @return the engine max average execution time millis
+     * @since 5.0.10
+     */
+    public long getEngineMaxAverageExecutionTimeMillis() {
+        return engineMaxAverageExecutionTimeMillis;
+    }
+
+    /**
+     * Gets engine max callback context count.
+     * The engine context is reset if the callback context count at release reaches it. 0 means disabled.
+     *
+     * @return the engine max callback context count
+     * @since 5.0.10
+     */
+    public int getEngineMaxCallbackContextCount() {
+        return engineMaxCallbackContextCount;
+    }
+
+    /**
+     * Gets engine max reference count.
+     * The engine context is reset if the reference count at release reaches it. 0 means disabled.
+     *
+     * @return the engine max reference count
+     * @since 5.0.10
+     */
+    public int getEngineMaxReferenceCount() {
+        return engineMaxReferenceCount;
+    }
+
+    /**
+     * Gets engine max used count.
+     * The engine is recycled if it has been checked out that many times. 0 means disabled.
+     *
+     * @return the engine max used count
+     * @since 5.0.10
+     */
+    public int getEngineMaxUsedCount() {
+        return engineMaxUsedCount;
+    }
+
+    /**
+     * Gets engine max used heap size.
+     * The engine is recycled if the used heap size sampled by the daemon reaches it. 0 means disabled.
+     *
+     * @return the engine max used heap size
+     * @since 5.0.10
+     */
+    public long getEngineMaxUsedHeapSize() {
+        return engineMaxUsedHeapSize;
+    }
+
     /**
      * Gets global name.
      *
@@ -270,6 +378,18 @@ public final class JavetEngineConfig {
         return poolShutdownTimeoutSeconds;
     }
 
+    /**
+     * Gets pool warm size.
+     * The daemon proactively creates and warms up engines until
+     * at least the given number of engines are created.
+     *
+     * @return the pool warm size
+     * @since 5.0.10
+     */
+    public int getPoolWarmSize() {
+        return poolWarmSize;
+    }
+
     /**
      * Gets reset engine timeout seconds.
      *
@@ -310,6 +430,28 @@ public final class JavetEngineConfig {
         return waitForEngineSleepIntervalMillis;
     }
 
+    /**
+     * Gets wait for engine timeout millis.
+     * It is applied to {@link IJavetEnginePool#getEngine()} in the fair mode,
+     * and to {@link IJavetEnginePool#getEngineAsync()} in both modes.
+     *
+     * @return the wait for engine timeout millis
+     * @since 5.0.10
+     */
+    public int getWaitForEngineTimeoutMillis() {
+        return waitForEngineTimeoutMillis;
+    }
+
+    /**
+     * Gets warm up callback.
+     *
+     * @return the warm up callback
+     * @since 5.0.10
+     */
+    public IJavetEngineWarmUpCallback getWarmUpCallback() {
+        return warmUpCallback;
+    }
+
     /**
      * Is allow eval().
      *
@@ -340,6 +482,20 @@ public final class JavetEngineConfig {
         return gcBeforeEngineClose;
     }
 
+    /**
+     * Is wait for engine fair.
+     * <p>
+     * In the fair mode, the threads waiting for an engine are parked in a FIFO queue
+     * and are woken up one by one as engines are released,
+     * instead of sleeping and retrying.
+     *
+     * @return true : fair mode, false : sleep and retry mode
+     * @since 5.0.10
+     */
+    public boolean isWaitForEngineFair() {
+        return waitForEngineFair;
+    }
+
     /**
      * Sets allow eval().
      *
@@ -352,6 +508,19 @@ public final class JavetEngineConfig {
         return this;
     }
 
+    /**
+     * Sets async executor.
+     *
+     * @param asyncExecutor the async executor
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = Objects.requireNonNull(asyncExecutor);
+        return this;
+    }
+
     /**
      * Sets auto send GC notification.
      *
@@ -365,6 +534,21 @@ public final class JavetEngineConfig {
         return this;
     }
 
+    /**
+     * Sets code cache store.
+     * Once any engine has compiled a script or module, the code cache is reused by all the other engines
+     * and the engines created afterwards. It must be set before the pool is created.
+     *
+     * @param codeCacheStore the code cache store, null to disable
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setCodeCacheStore(IV8CodeCacheStore codeCacheStore) {
+        this.codeCacheStore = codeCacheStore;
+        return this;
+    }
+
     /**
      * Sets default engine guard timeout millis.
      *
@@ -379,6 +563,76 @@ public final class JavetEngineConfig {
         return this;
     }
 
+    /**
+     * Sets engine max average execution time millis.
+     *
+     * @param engineMaxAverageExecutionTimeMillis the engine max average execution time millis
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setEngineMaxAverageExecutionTimeMillis(long engineMaxAverageExecutionTimeMillis) {
+        assert engineMaxAverageExecutionTimeMillis >= 0 : "The engine max average execution time millis must be no less than 0.";
+        this.engineMaxAverageExecutionTimeMillis = engineMaxAverageExecutionTimeMillis;
+        return this;
+    }
+
+    /**
+     * Sets engine max callback context count.
+     *
+     * @param engineMaxCallbackContextCount the engine max callback context count
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setEngineMaxCallbackContextCount(int engineMaxCallbackContextCount) {
+        assert engineMaxCallbackContextCount >= 0 : "The engine max callback context count must be no less than 0.";
+        this.engineMaxCallbackContextCount = engineMaxCallbackContextCount;
+        return this;
+    }
+
+    /**
+     * Sets engine max reference count.
+     *
+     * @param engineMaxReferenceCount the engine max reference count
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setEngineMaxReferenceCount(int engineMaxReferenceCount) {
+        assert engineMaxReferenceCount >= 0 : "The engine max reference count must be no less than 0.";
+        this.engineMaxReferenceCount = engineMaxReferenceCount;
+        return this;
+    }
+
+    /**
+     * Sets engine max used count.
+     *
+     * @param engineMaxUsedCount the engine max used count
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setEngineMaxUsedCount(int engineMaxUsedCount) {
+        assert engineMaxUsedCount >= 0 : "The engine max used count must be no less than 0.";
+        this.engineMaxUsedCount = engineMaxUsedCount;
+        return this;
+    }
+
+    /**
+     * Sets engine max used heap size.
+     *
+     * @param engineMaxUsedHeapSize the engine max used heap size
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setEngineMaxUsedHeapSize(long engineMaxUsedHeapSize) {
+        assert engineMaxUsedHeapSize >= 0 : "The engine max used heap size must be no less than 0.";
+        this.engineMaxUsedHeapSize = engineMaxUsedHeapSize;
+        return this;
+    }
+
     /**
      * Sets GC before engine close.
      *
@@ -533,6 +787,25 @@ public final class JavetEngineConfig {
         return this;
     }
 
+    /**
+     * Sets pool warm size.
+     * <p>
+     * The pool warm size is clamped to the pool max size and is ignored once the pool size is frozen.
+     *
+     * @param poolWarmSize the pool warm size
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setPoolWarmSize(int poolWarmSize) {
+        assert poolWarmSize >= 0 : "Pool warm size must be no less than 0.";
+        assert poolWarmSize <= MAX_POOL_SIZE : "Pool warm size must be no greater than " + MAX_POOL_SIZE + ".";
+        if (!poolSizeFrozen) {
+            this.poolWarmSize = Math.min(poolWarmSize, poolMaxSize);
+        }
+        return this;
+    }
+
     /**
      * Sets reset engine timeout seconds.
      *
@@ -547,6 +820,19 @@ public final class JavetEngineConfig {
         return this;
     }
 
+    /**
+     * Sets wait for engine fair.
+     *
+     * @param waitForEngineFair true : fair mode, false : sleep and retry mode
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setWaitForEngineFair(boolean waitForEngineFair) {
+        this.waitForEngineFair = waitForEngineFair;
+        return this;
+    }
+
     /**
      * Sets wait for engine log interval millis.
      *
@@ -591,4 +877,31 @@ public final class JavetEngineConfig {
                 waitForEngineSleepIntervalMillis.length);
         return this;
     }
+
+    /**
+     * Sets wait for engine timeout millis.
+     *
+     * @param waitForEngineTimeoutMillis the wait for engine timeout millis
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setWaitForEngineTimeoutMillis(int waitForEngineTimeoutMillis) {
+        assert waitForEngineTimeoutMillis >= 0 : "The wait for engine timeout millis must be no less than 0.";
+        this.waitForEngineTimeoutMillis = waitForEngineTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Sets warm up callback.
+     *
+     * @param warmUpCallback the warm up callback
+     * @return the self
+     * @since 5.0.10
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavetEngineConfig setWarmUpCallback(IJavetEngineWarmUpCallback warmUpCallback) {
+        this.warmUpCallback = warmUpCallback;
+        return this;
+    }
 }
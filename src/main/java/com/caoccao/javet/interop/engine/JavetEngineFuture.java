@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.interop.V8Runtime;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The type Javet engine future represents a pending asynchronous engine acquisition.
+ *
+ * @param <R> the type parameter
+ * @since 5.0.10
+ */
+public final class JavetEngineFuture<R extends V8Runtime> extends CompletableFuture<IJavetEngine<R>> {
+    private final long creationNanoTime;
+    private final long creationTimeMillis;
+
+    /**
+     * Instantiates a new Javet engine future.
+     *
+     * @since 5.0.10
+     */
+    JavetEngineFuture() {
+        super();
+        creationNanoTime = System.nanoTime();
+        creationTimeMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets creation nano time.
+     *
+     * @return the creation nano time
+     * @since 5.0.10
+     */
+    public long getCreationNanoTime() {
+        return creationNanoTime;
+    }
+
+    /**
+     * Gets creation time millis.
+     *
+     * @return the creation time millis
+     * @since 5.0.10
+     */
+    public long getCreationTimeMillis() {
+        return creationTimeMillis;
+    }
+}
@@ -22,20 +22,31 @@ import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.interop.V8Host;
 import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.engine.listeners.IJavetEnginePoolListener;
 import com.caoccao.javet.interop.engine.observers.IV8RuntimeObserver;
+import com.caoccao.javet.interop.monitoring.V8HeapStatistics;
 import com.caoccao.javet.interop.options.RuntimeOptions;
 import com.caoccao.javet.interop.options.V8RuntimeOptions;
 import com.caoccao.javet.utils.JavetDateTimeUtils;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * The type Javet engine pool.
@@ -50,12 +61,31 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
      * @since 0.8.10
      */
     protected static final String JAVET_DAEMON_THREAD_NAME = "Javet Daemon";
+    /**
+     * The Code cache store shared by all the engines.
+     *
+     * @since 5.0.10
+     */
+    protected final JavetEngineCodeCacheStore codeCacheStore;
+    /**
+     * The Engine future queue.
+     *
+     * @since 5.0.10
+     */
+    protected final ConcurrentLinkedQueue<JavetEngineFuture<R>> engineFutureQueue;
+    /**
+     * The External condition.
+     *
+     * @since 5.0.10
+     */
+    protected final Condition externalCondition;
     /**
      * The External lock.
+     * It is a reentrant lock instead of a monitor so that virtual threads are not pinned.
      *
      * @since 0.8.10
      */
-    protected final Object externalLock;
+    protected final ReentrantLock externalLock;
     /**
      * The Idle engine index list.
      *
@@ -67,7 +97,13 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
      *
      * @since 1.0.5
      */
-    protected final Object internalLock;
+    protected final ReentrantLock internalLock;
+    /**
+     * The Listeners.
+     *
+     * @since 5.0.10
+     */
+    protected final List<IJavetEnginePoolListener> listeners;
     /**
      * The Released engine index list.
      *
@@ -135,11 +171,17 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
     @SuppressWarnings("unchecked")
     public JavetEnginePool(JavetEngineConfig config) {
         this.config = Objects.requireNonNull(config).freezePoolSize();
+        codeCacheStore = config.getCodeCacheStore() == null
+                ? null
+                : new JavetEngineCodeCacheStore(config.getCodeCacheStore());
+        engineFutureQueue = new ConcurrentLinkedQueue<>();
         idleEngineIndexList = new ConcurrentLinkedQueue<>();
         releasedEngineIndexList = new ConcurrentLinkedQueue<>();
         engines = new JavetEngine[config.getPoolMaxSize()];
-        externalLock = new Object();
-        internalLock = new Object();
+        externalLock = new ReentrantLock();
+        externalCondition = externalLock.newCondition();
+        internalLock = new ReentrantLock();
+        listeners = new CopyOnWriteArrayList<>();
         active = false;
         quitting = false;
         random = new Random();
@@ -147,6 +189,156 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         startDaemon();
     }
 
+    /**
+     * Activate the engine that is just checked out.
+     *
+     * @param engine        the engine
+     * @param startNanoTime the nano time when the acquisition starts
+     * @since 5.0.10
+     */
+    protected void activateEngine(JavetEngine<R> engine, long startNanoTime) {
+        engine.setActive(true);
+        JavetEngineUsage usage = engine.getUsage();
+        usage.onCheckout();
+        if (!listeners.isEmpty()) {
+            final long waitNanoTime = System.nanoTime() - startNanoTime;
+            notifyListeners(listener -> listener.onEngineAcquired(engine, waitNanoTime));
+        }
+    }
+
+    @Override
+    public void addListener(IJavetEnginePoolListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Dispatch the pending engine futures as long as there are available permits.
+     * The engines are created and handed over in the async executor so that the caller is never blocked.
+     * The permits are acquired in the fair order of the semaphore,
+     * so that the futures never barge ahead of the threads waiting in {@link #getEngineFromWaitQueue(long)}.
+     * It must be called whenever a permit is returned.
+     *
+     * @since 5.0.10
+     */
+    protected void dispatchEngineFutures() {
+        final Semaphore semaphore = this.semaphore;
+        if (semaphore == null) {
+            return;
+        }
+        while (!engineFutureQueue.isEmpty()) {
+            try {
+                // Unlike tryAcquire(), the timed tryAcquire() honours the fairness of the semaphore.
+                if (!semaphore.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                // The pending futures are dispatched again by the next release or the daemon.
+                Thread.currentThread().interrupt();
+                break;
+            }
+            final JavetEngineFuture<R> engineFuture = engineFutureQueue.poll();
+            if (engineFuture == null || engineFuture.isDone()) {
+                // The future is either taken by another thread or cancelled by the caller.
+                semaphore.release();
+                continue;
+            }
+            try {
+                config.getAsyncExecutor().execute(() -> {
+                    JavetEngine<R> engine;
+                    try {
+                        engine = pollEngineWithPermit(semaphore, engineFuture.getCreationNanoTime());
+                    } catch (Throwable t) {
+                        engineFuture.completeExceptionally(t);
+                        return;
+                    }
+                    if (!engineFuture.complete(engine)) {
+                        releaseEngine(engine);
+                    }
+                });
+            } catch (Throwable t) {
+                semaphore.release();
+                engineFuture.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Expire the pending engine futures that have waited longer than the wait for engine timeout.
+     *
+     * @since 5.0.10
+     */
+    protected void expireEngineFutures() {
+        if (!engineFutureQueue.isEmpty()) {
+            final long expirationTimeMillis = System.currentTimeMillis() - config.getWaitForEngineTimeoutMillis();
+            for (JavetEngineFuture<R> engineFuture : engineFutureQueue) {
+                if (engineFuture.getCreationTimeMillis() < expirationTimeMillis
+                        && engineFutureQueue.remove(engineFuture)) {
+                    engineFuture.completeExceptionally(engineNotAvailable(engineFuture.getCreationNanoTime()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Check the health of the idle engines.
+     * The worn out engines are recycled, the leaking engines are reset,
+     * and the rest are put back to the idle engine index list with the healthiest first,
+     * so that the healthy engines are preferred on checkout.
+     * The used heap size is sampled beforehand by {@link #sampleIdleEngineHeapSize()}.
+     * The caller must hold the internal lock.
+     *
+     * @since 5.0.10
+     */
+    protected void checkEngineHealth() {
+        if (config.getEngineMaxUsedHeapSize() <= 0
+                && config.getEngineMaxUsedCount() <= 0
+                && config.getEngineMaxReferenceCount() <= 0
+                && config.getEngineMaxCallbackContextCount() <= 0
+                && config.getEngineMaxAverageExecutionTimeMillis() <= 0) {
+            return;
+        }
+        IJavetLogger logger = config.getJavetLogger();
+        final int idleEngineCount = idleEngineIndexList.size();
+        List<JavetEngine<R>> healthyEngines = new ArrayList<>(idleEngineCount);
+        for (int i = 0; i < idleEngineCount; ++i) {
+            Integer index = idleEngineIndexList.poll();
+            if (index == null) {
+                break;
+            }
+            JavetEngine<R> engine = Objects.requireNonNull(engines[index], "The idle engine must not be null.");
+            JavetEngineUsage usage = engine.getUsage();
+            if (usage.isRecycleRequired(config)) {
+                try {
+                    logger.debug("JavetEnginePool recycle engine begins.");
+                    engine.close(true);
+                    notifyListeners(listener -> listener.onEngineClosed(engine));
+                    logger.debug("JavetEnginePool recycle engine ends.");
+                } catch (Throwable t) {
+                    logger.logError(t, "Failed to recycle idle engine.");
+                } finally {
+                    engines[index] = null;
+                    releasedEngineIndexList.add(index);
+                }
+                continue;
+            }
+            if (usage.isResetRequired(config)) {
+                try {
+                    logger.debug("JavetEnginePool reset engine begins.");
+                    engine.resetContext();
+                    notifyListeners(listener -> listener.onEngineReset(engine));
+                    logger.debug("JavetEnginePool reset engine ends.");
+                } catch (Throwable t) {
+                    logger.logError(t, "Failed to reset idle engine.");
+                }
+            }
+            healthyEngines.add(engine);
+        }
+        healthyEngines.sort(Comparator.comparingDouble(engine -> engine.getUsage().getHealthScore(config)));
+        for (JavetEngine<R> engine : healthyEngines) {
+            idleEngineIndexList.add(engine.getIndex());
+        }
+    }
+
     @Override
     public void close() throws JavetException {
         stopDaemon();
@@ -173,7 +365,31 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         R v8Runtime = V8Host.getInstance(jsRuntimeType).createV8Runtime(true, runtimeOptions);
         v8Runtime.allowEval(config.isAllowEval());
         v8Runtime.setLogger(config.getJavetLogger());
-        return new JavetEngine<>(this, v8Runtime);
+        v8Runtime.setCodeCacheStore(codeCacheStore);
+        JavetEngine<R> engine = new JavetEngine<>(this, v8Runtime);
+        try {
+            engine.warmUp();
+        } catch (Throwable t) {
+            engine.close(true);
+            throw t;
+        }
+        notifyListeners(listener -> listener.onEngineCreated(engine));
+        return engine;
+    }
+
+    /**
+     * Notify the listeners that no engine is available and return the exception to be thrown.
+     *
+     * @param startNanoTime the nano time when the acquisition starts
+     * @return the javet exception
+     * @since 5.0.10
+     */
+    protected JavetException engineNotAvailable(long startNanoTime) {
+        if (!listeners.isEmpty()) {
+            final long waitNanoTime = System.nanoTime() - startNanoTime;
+            notifyListeners(listener -> listener.onEngineNotAvailable(waitNanoTime));
+        }
+        return new JavetException(JavetError.EngineNotAvailable);
     }
 
     @Override
@@ -181,6 +397,11 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         return engines.length - getIdleEngineCount() - getReleasedEngineCount();
     }
 
+    @Override
+    public JavetEngineCodeCacheStore getCodeCacheStore() {
+        return codeCacheStore;
+    }
+
     @Override
     public JavetEngineConfig getConfig() {
         return config;
@@ -188,45 +409,111 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
 
     @Override
     public IJavetEngine<R> getEngine() throws JavetException {
+        if (config.isWaitForEngineFair()) {
+            return getEngine(Duration.ofMillis(config.getWaitForEngineTimeoutMillis()));
+        }
+        return getEngineWithRetry(Long.MAX_VALUE);
+    }
+
+    @Override
+    public IJavetEngine<R> getEngine(Duration timeout) throws JavetException {
+        final long timeoutMillis = Objects.requireNonNull(timeout).toMillis();
+        if (config.isWaitForEngineFair()) {
+            return getEngineFromWaitQueue(timeoutMillis);
+        }
+        return getEngineWithRetry(timeoutMillis);
+    }
+
+    @Override
+    public CompletableFuture<IJavetEngine<R>> getEngineAsync() {
+        JavetEngineFuture<R> engineFuture = new JavetEngineFuture<>();
+        if (quitting || semaphore == null) {
+            engineFuture.completeExceptionally(engineNotAvailable(engineFuture.getCreationNanoTime()));
+        } else {
+            engineFutureQueue.add(engineFuture);
+            dispatchEngineFutures();
+        }
+        return engineFuture;
+    }
+
+    /**
+     * Gets engine from the FIFO wait queue.
+     * The calling thread is parked until an engine is released or the timeout is reached.
+     *
+     * @param timeoutMillis the timeout millis
+     * @return the javet engine
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected JavetEngine<R> getEngineFromWaitQueue(long timeoutMillis) throws JavetException {
+        IJavetLogger logger = config.getJavetLogger();
+        logger.debug("JavetEnginePool.getEngineFromWaitQueue() begins.");
+        final long startNanoTime = System.nanoTime();
+        final Semaphore semaphore = this.semaphore;
+        if (quitting || semaphore == null) {
+            throw engineNotAvailable(startNanoTime);
+        }
+        final long startTime = System.currentTimeMillis();
+        try {
+            if (!semaphore.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.logError("Failed to get an engine in {0}ms.",
+                        Long.toString(System.currentTimeMillis() - startTime));
+                throw engineNotAvailable(startNanoTime);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.logError(e, "Interrupted while waiting for an idle engine.");
+            JavetException javetException = engineNotAvailable(startNanoTime);
+            javetException.initCause(e);
+            throw javetException;
+        }
+        if (quitting) {
+            // The permit was handed over by stopDaemon() to wake up the waiting thread.
+            throw engineNotAvailable(startNanoTime);
+        }
+        JavetEngine<R> engine = pollEngineWithPermit(semaphore, startNanoTime);
+        logger.debug("JavetEnginePool.getEngineFromWaitQueue() ends.");
+        return engine;
+    }
+
+    /**
+     * Gets engine by polling with sleep and retry.
+     *
+     * @param timeoutMillis the timeout millis
+     * @return the javet engine
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected JavetEngine<R> getEngineWithRetry(long timeoutMillis) throws JavetException {
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.getEngine() begins.");
         JavetEngine<R> engine = null;
+        final long startNanoTime = System.nanoTime();
         long startTime = System.currentTimeMillis();
         long lastTime = startTime;
         int retryCount = 0;
         while (!quitting) {
             if (semaphore.tryAcquire()) {
                 try {
-                    Integer index = idleEngineIndexList.poll();
-                    if (index == null) {
-                        index = releasedEngineIndexList.poll();
-                        if (index != null) {
-                            engine = createEngine();
-                            engine.setIndex(index);
-                            engines[index] = engine;
-                            break;
-                        }
-                    } else {
-                        engine = engines[index];
-                        if (engine == null) {
-                            // The engine is either recycled or not created.
-                            engine = createEngine();
-                            engine.setIndex(index);
-                            engines[index] = engine;
-                        }
+                    engine = pollEngine();
+                    if (engine != null) {
                         break;
                     }
                     semaphore.release();
+                    dispatchEngineFutures();
                 } catch (Throwable t) {
+                    semaphore.release();
+                    dispatchEngineFutures();
                     logger.logError(t, "Failed to create a new engine.");
                 }
             }
             ++retryCount;
-            if (retryCount >= config.getWaitForEngineMaxRetryCount()) {
+            if (retryCount >= config.getWaitForEngineMaxRetryCount()
+                    || System.currentTimeMillis() - startTime >= timeoutMillis) {
                 logger.logError("Failed to get an engine after {0} tries in {1}ms.",
-                        config.getWaitForEngineMaxRetryCount(),
+                        retryCount,
                         Long.toString(System.currentTimeMillis() - startTime));
-                throw new JavetException(JavetError.EngineNotAvailable);
+                throw engineNotAvailable(startNanoTime);
             }
             try {
                 TimeUnit.MILLISECONDS.sleep(
@@ -243,9 +530,7 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                 logger.logError(t, "Failed to sleep a while to wait for an idle engine.");
             }
         }
-        Objects.requireNonNull(engine).setActive(true);
-        JavetEngineUsage usage = engine.getUsage();
-        usage.increaseUsedCount();
+        activateEngine(Objects.requireNonNull(engine), startNanoTime);
         logger.debug("JavetEnginePool.getEngine() ends.");
         return engine;
     }
@@ -285,11 +570,29 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         return quitting;
     }
 
+    /**
+     * Notify the listeners.
+     * The exceptions thrown by the listeners are logged and ignored.
+     *
+     * @param consumer the consumer
+     * @since 5.0.10
+     */
+    protected void notifyListeners(Consumer<IJavetEnginePoolListener> consumer) {
+        for (IJavetEnginePoolListener listener : listeners) {
+            try {
+                consumer.accept(listener);
+            } catch (Throwable t) {
+                config.getJavetLogger().logError(t, "Failed to notify engine pool listener.");
+            }
+        }
+    }
+
     @Override
     public int observe(IV8RuntimeObserver<?>... observers) {
         int processedCount = 0;
         if (observers.length > 0) {
-            synchronized (internalLock) {
+            internalLock.lock();
+            try {
                 IJavetLogger logger = config.getJavetLogger();
                 for (JavetEngine<R> engine : engines) {
                     if (engine != null) {
@@ -306,34 +609,119 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                         }
                     }
                 }
+            } finally {
+                internalLock.unlock();
             }
         }
         return processedCount;
     }
 
+    /**
+     * Poll an engine from the idle engine index list or the released engine index list.
+     * The caller must hold a permit of the semaphore.
+     *
+     * @return the javet engine or null if no engine index is available
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected JavetEngine<R> pollEngine() throws JavetException {
+        JavetEngine<R> engine = null;
+        Integer index = idleEngineIndexList.poll();
+        if (index == null) {
+            index = releasedEngineIndexList.poll();
+        } else {
+            engine = engines[index];
+        }
+        if (index != null && engine == null) {
+            // The engine is either recycled or not created.
+            try {
+                engine = createEngine();
+            } catch (Throwable t) {
+                releasedEngineIndexList.add(index);
+                throw t;
+            }
+            engine.setIndex(index);
+            engines[index] = engine;
+        }
+        return engine;
+    }
+
+    /**
+     * Poll an engine with the permit that is already acquired.
+     * The permit is released and handed over to the pending engine futures if no engine is available.
+     *
+     * @param semaphore     the semaphore
+     * @param startNanoTime the nano time when the acquisition starts
+     * @return the javet engine
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected JavetEngine<R> pollEngineWithPermit(Semaphore semaphore, long startNanoTime) throws JavetException {
+        JavetEngine<R> engine;
+        try {
+            engine = pollEngine();
+            if (engine == null) {
+                // The daemon is holding the index temporarily.
+                internalLock.lock();
+                try {
+                    engine = pollEngine();
+                } finally {
+                    internalLock.unlock();
+                }
+            }
+        } catch (Throwable t) {
+            semaphore.release();
+            dispatchEngineFutures();
+            throw t;
+        }
+        if (engine == null) {
+            semaphore.release();
+            dispatchEngineFutures();
+            config.getJavetLogger().logError("Failed to get an engine because no engine index is available.");
+            throw engineNotAvailable(startNanoTime);
+        }
+        activateEngine(engine, startNanoTime);
+        return engine;
+    }
+
     @Override
     public void releaseEngine(IJavetEngine<R> iJavetEngine) {
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.releaseEngine() begins.");
         JavetEngine<R> engine = (JavetEngine<R>) Objects.requireNonNull(iJavetEngine);
+        final long checkoutNanoTime = engine.getUsage().onRelease(
+                engine.v8Runtime.getReferenceCount(),
+                engine.v8Runtime.getCallbackContextCount());
         engine.setActive(false);
+        notifyListeners(listener -> listener.onEngineReleased(engine, checkoutNanoTime));
         if (config.isAutoSendGCNotification()) {
             engine.sendGCNotification();
         }
         idleEngineIndexList.add(engine.getIndex());
         semaphore.release();
+        dispatchEngineFutures();
         wakeUpDaemon();
         logger.debug("JavetEnginePool.releaseEngine() ends.");
     }
 
+    @Override
+    public void removeListener(IJavetEnginePoolListener listener) {
+        listeners.remove(listener);
+    }
+
     @Override
     public void run() {
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.run() begins.");
         while (!quitting) {
-            synchronized (internalLock) {
+            expireEngineFutures();
+            dispatchEngineFutures();
+            sampleIdleEngineHeapSize();
+            internalLock.lock();
+            try {
                 final int initialIdleEngineCount = idleEngineIndexList.size();
-                for (int i = config.getPoolMinSize(); i < initialIdleEngineCount; ++i) {
+                final int poolMinIdleSize = Math.max(config.getPoolMinSize(), config.getPoolWarmSize());
+                for (int i = poolMinIdleSize; i < initialIdleEngineCount; ++i) {
                     final int immediateIdleEngineCount = idleEngineIndexList.size();
                     Integer index = idleEngineIndexList.poll();
                     if (index == null) {
@@ -347,6 +735,7 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                             || expirationZonedDateTime.isBefore(getUTCNow())) {
                         try {
                             engine.close(true);
+                            notifyListeners(listener -> listener.onEngineClosed(engine));
                         } catch (Throwable t) {
                             logger.logError(t, "Failed to release idle engine.");
                         } finally {
@@ -361,6 +750,7 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                                 try {
                                     logger.debug("JavetEnginePool reset engine begins.");
                                     engine.resetContext();
+                                    notifyListeners(listener -> listener.onEngineReset(engine));
                                     logger.debug("JavetEnginePool reset engine ends.");
                                 } catch (Throwable t) {
                                     logger.logError(t, "Failed to reset idle engine.");
@@ -370,15 +760,21 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                         idleEngineIndexList.add(index);
                     }
                 }
+                checkEngineHealth();
+            } finally {
+                internalLock.unlock();
             }
-            synchronized (externalLock) {
-                try {
-                    externalLock.wait(config.getPoolDaemonCheckIntervalMillis());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    logger.logError(e,
-                            "Failed to sleep a while to wait for next round in Javet engine pool daemon.");
-                }
+            warmUpEngines();
+            externalLock.lock();
+            try {
+                boolean ignored = externalCondition.await(
+                        config.getPoolDaemonCheckIntervalMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.logError(e,
+                        "Failed to sleep a while to wait for next round in Javet engine pool daemon.");
+            } finally {
+                externalLock.unlock();
             }
         }
         logger.logDebug(
@@ -386,7 +782,12 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                 Integer.toString(getActiveEngineCount()),
                 Integer.toString(getIdleEngineCount()),
                 Integer.toString(engines.length));
-        synchronized (internalLock) {
+        JavetEngineFuture<R> engineFuture;
+        while ((engineFuture = engineFutureQueue.poll()) != null) {
+            engineFuture.completeExceptionally(engineNotAvailable(engineFuture.getCreationNanoTime()));
+        }
+        internalLock.lock();
+        try {
             Set<Integer> idleEngineIndexSet = new TreeSet<>(idleEngineIndexList);
             Set<Integer> releasedEngineIndexSet = new TreeSet<>(releasedEngineIndexList);
             for (int index = 0; index < engines.length; ++index) {
@@ -401,6 +802,7 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                             }
                         }
                         engine.close(true);
+                        notifyListeners(listener -> listener.onEngineClosed(engine));
                     } catch (Throwable t) {
                         logger.logError(t, "Failed to release engine.");
                     } finally {
@@ -416,10 +818,54 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
                     releasedEngineIndexList.add(index);
                 }
             }
+        } finally {
+            internalLock.unlock();
         }
         logger.debug("JavetEnginePool.run() ends.");
     }
 
+    /**
+     * Sample the used heap size of the idle engines.
+     * The idle engines are snapshotted under the internal lock,
+     * but the heap statistics are collected outside the lock
+     * so that a slow engine does not block the checkout and release of the other engines.
+     *
+     * @since 5.0.10
+     */
+    protected void sampleIdleEngineHeapSize() {
+        if (config.getEngineMaxUsedHeapSize() <= 0) {
+            return;
+        }
+        List<JavetEngine<R>> idleEngines;
+        internalLock.lock();
+        try {
+            idleEngines = new ArrayList<>(idleEngineIndexList.size());
+            for (Integer index : idleEngineIndexList) {
+                JavetEngine<R> engine = engines[index];
+                if (engine != null) {
+                    idleEngines.add(engine);
+                }
+            }
+        } finally {
+            internalLock.unlock();
+        }
+        IJavetLogger logger = config.getJavetLogger();
+        for (JavetEngine<R> engine : idleEngines) {
+            if (quitting) {
+                break;
+            }
+            try {
+                V8HeapStatistics v8HeapStatistics = engine.v8Runtime.getV8HeapStatistics()
+                        .get(config.getObserverTimeoutMillis(), TimeUnit.MILLISECONDS);
+                if (v8HeapStatistics != null) {
+                    engine.getUsage().setUsedHeapSize(v8HeapStatistics.getUsedHeapSize());
+                }
+            } catch (Throwable t) {
+                logger.logError(t, "Failed to get V8 heap statistics of idle engine.");
+            }
+        }
+    }
+
     /**
      * Start daemon.
      *
@@ -433,7 +879,8 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         for (int i = 0; i < engines.length; ++i) {
             releasedEngineIndexList.add(i);
         }
-        semaphore = new Semaphore(engines.length);
+        // The fairness only applies to the timed acquisition in the fair mode and in the engine future dispatch.
+        semaphore = new Semaphore(engines.length, true);
         quitting = false;
         daemonThread = new Thread(this);
         daemonThread.setDaemon(true);
@@ -452,6 +899,10 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.stopDaemon() begins.");
         quitting = true;
+        if (semaphore != null && semaphore.hasQueuedThreads()) {
+            // Wake up the threads waiting in the fair mode so that they can quit.
+            semaphore.release(semaphore.getQueueLength());
+        }
         try {
             if (daemonThread != null) {
                 daemonThread.join();
@@ -467,10 +918,64 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         logger.debug("JavetEnginePool.stopDaemon() ends.");
     }
 
+    /**
+     * Create and warm up engines in the daemon until the pool warm size is reached,
+     * so that the requests do not pay the cost of engine creation.
+     * The engines are created and warmed up outside the internal lock
+     * so that the requests are not blocked by the warm up callback.
+     * A permit is held while the engine index is taken, so that the requests never miss an engine index,
+     * and only the engine index is published under the internal lock.
+     *
+     * @since 5.0.10
+     */
+    protected void warmUpEngines() {
+        final Semaphore semaphore = this.semaphore;
+        final int poolWarmSize = Math.min(config.getPoolWarmSize(), engines.length);
+        while (!quitting && semaphore != null && engines.length - releasedEngineIndexList.size() < poolWarmSize) {
+            try {
+                // The timed tryAcquire() honours the fairness so that the warm up yields to the waiting requests.
+                if (!semaphore.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            try {
+                Integer index = releasedEngineIndexList.poll();
+                if (index == null) {
+                    break;
+                }
+                JavetEngine<R> engine;
+                try {
+                    engine = createEngine();
+                } catch (Throwable t) {
+                    releasedEngineIndexList.add(index);
+                    config.getJavetLogger().logError(t, "Failed to warm up a new engine.");
+                    break;
+                }
+                engine.setIndex(index);
+                internalLock.lock();
+                try {
+                    engines[index] = engine;
+                    idleEngineIndexList.add(index);
+                } finally {
+                    internalLock.unlock();
+                }
+            } finally {
+                semaphore.release();
+                dispatchEngineFutures();
+            }
+        }
+    }
+
     @Override
     public void wakeUpDaemon() {
-        synchronized (externalLock) {
-            externalLock.notify();
+        externalLock.lock();
+        try {
+            externalCondition.signal();
+        } finally {
+            externalLock.unlock();
         }
     }
 }
@@ -20,16 +20,43 @@ import java.time.ZonedDateTime;
 
 /**
  * Tracks usage statistics for a Javet engine instance.
+ * <p>
+ * The metrics are written by the thread that checks out the engine or by the daemon,
+ * and are read by the daemon, so they are volatile. Each metric has only one writer at a time.
  */
 public class JavetEngineUsage {
+    /**
+     * The callback context count sampled when the engine was released.
+     */
+    protected volatile int callbackContextCount;
     /**
      * The number of times the engine has been used.
      */
-    protected int engineUsedCount;
+    protected volatile int engineUsedCount;
+    /**
+     * The nano time when the engine was checked out, or 0 if the engine is not checked out.
+     */
+    protected volatile long lastCheckoutNanoTime;
     /**
      * The last active zoned date time of the engine.
      */
-    protected ZonedDateTime lastActiveZonedDatetime;
+    protected volatile ZonedDateTime lastActiveZonedDatetime;
+    /**
+     * The reference count sampled when the engine was released.
+     */
+    protected volatile int referenceCount;
+    /**
+     * The total execution time in nanoseconds between checkout and release.
+     */
+    protected volatile long totalExecutionNanoTime;
+    /**
+     * The number of executions included in the total execution time.
+     */
+    protected volatile int totalExecutionCount;
+    /**
+     * The used heap size sampled by the daemon.
+     */
+    protected volatile long usedHeapSize;
 
     /**
      * Instantiates a new Javet engine usage with default values.
@@ -38,6 +65,27 @@ public class JavetEngineUsage {
         reset();
     }
 
+    /**
+     * Gets the mean execution time in milliseconds between checkout and release.
+     *
+     * @return the mean execution time millis
+     */
+    public double getAverageExecutionTimeMillis() {
+        if (totalExecutionCount == 0) {
+            return 0D;
+        }
+        return totalExecutionNanoTime / 1_000_000D / totalExecutionCount;
+    }
+
+    /**
+     * Gets the callback context count sampled when the engine was released.
+     *
+     * @return the callback context count
+     */
+    public int getCallbackContextCount() {
+        return callbackContextCount;
+    }
+
     /**
      * Gets the engine used count.
      *
@@ -47,6 +95,35 @@ public class JavetEngineUsage {
         return engineUsedCount;
     }
 
+    /**
+     * Gets the health score by the thresholds from the config.
+     * Each enabled threshold contributes the ratio of the metric to the threshold,
+     * and the score is the max ratio. A lower score means a healthier engine.
+     * A score no less than 1 means at least one threshold is crossed.
+     *
+     * @param config the config
+     * @return the health score
+     */
+    public double getHealthScore(JavetEngineConfig config) {
+        double score = 0D;
+        if (config.getEngineMaxUsedCount() > 0) {
+            score = Math.max(score, (double) engineUsedCount / config.getEngineMaxUsedCount());
+        }
+        if (config.getEngineMaxReferenceCount() > 0) {
+            score = Math.max(score, (double) referenceCount / config.getEngineMaxReferenceCount());
+        }
+        if (config.getEngineMaxCallbackContextCount() > 0) {
+            score = Math.max(score, (double) callbackContextCount / config.getEngineMaxCallbackContextCount());
+        }
+        if (config.getEngineMaxUsedHeapSize() > 0) {
+            score = Math.max(score, (double) usedHeapSize / config.getEngineMaxUsedHeapSize());
+        }
+        if (config.getEngineMaxAverageExecutionTimeMillis() > 0) {
+            score = Math.max(score, getAverageExecutionTimeMillis() / config.getEngineMaxAverageExecutionTimeMillis());
+        }
+        return score;
+    }
+
     /**
      * Gets the last active zoned date time.
      *
@@ -56,6 +133,24 @@ public class JavetEngineUsage {
         return lastActiveZonedDatetime;
     }
 
+    /**
+     * Gets the reference count sampled when the engine was released.
+     *
+     * @return the reference count
+     */
+    public int getReferenceCount() {
+        return referenceCount;
+    }
+
+    /**
+     * Gets the used heap size sampled by the daemon.
+     *
+     * @return the used heap size
+     */
+    public long getUsedHeapSize() {
+        return usedHeapSize;
+    }
+
     /**
      * Increases the engine used count by one.
      */
@@ -63,11 +158,84 @@ public class JavetEngineUsage {
         ++engineUsedCount;
     }
 
+    /**
+     * Is the context reset required because references or callback contexts are leaking.
+     *
+     * @param config the config
+     * @return true : reset required, false : reset not required
+     */
+    public boolean isResetRequired(JavetEngineConfig config) {
+        return (config.getEngineMaxReferenceCount() > 0
+                && referenceCount >= config.getEngineMaxReferenceCount())
+                || (config.getEngineMaxCallbackContextCount() > 0
+                && callbackContextCount >= config.getEngineMaxCallbackContextCount());
+    }
+
+    /**
+     * Is the engine recycling required because it is worn out.
+     *
+     * @param config the config
+     * @return true : recycling required, false : recycling not required
+     */
+    public boolean isRecycleRequired(JavetEngineConfig config) {
+        return (config.getEngineMaxUsedCount() > 0
+                && engineUsedCount >= config.getEngineMaxUsedCount())
+                || (config.getEngineMaxUsedHeapSize() > 0
+                && usedHeapSize >= config.getEngineMaxUsedHeapSize())
+                || (config.getEngineMaxAverageExecutionTimeMillis() > 0
+                && getAverageExecutionTimeMillis() >= config.getEngineMaxAverageExecutionTimeMillis());
+    }
+
+    /**
+     * Marks the engine as checked out.
+     */
+    public void onCheckout() {
+        increaseUsedCount();
+        lastCheckoutNanoTime = System.nanoTime();
+    }
+
+    /**
+     * Marks the engine as released and samples the counts.
+     *
+     * @param referenceCount       the reference count
+     * @param callbackContextCount the callback context count
+     * @return the nano time between checkout and release
+     */
+    public long onRelease(int referenceCount, int callbackContextCount) {
+        long executionNanoTime = 0L;
+        if (lastCheckoutNanoTime != 0L) {
+            executionNanoTime = System.nanoTime() - lastCheckoutNanoTime;
+            totalExecutionNanoTime += executionNanoTime;
+            ++totalExecutionCount;
+            lastCheckoutNanoTime = 0L;
+        }
+        this.referenceCount = referenceCount;
+        this.callbackContextCount = callbackContextCount;
+        return executionNanoTime;
+    }
+
     /**
      * Resets the engine usage to its initial state.
+     * It is called when the isolate is recreated.
      */
     protected void reset() {
+        callbackContextCount = 0;
         engineUsedCount = 0;
+        lastCheckoutNanoTime = 0L;
+        referenceCount = 0;
+        totalExecutionCount = 0;
+        totalExecutionNanoTime = 0L;
+        usedHeapSize = 0L;
+    }
+
+    /**
+     * Resets the samples that belong to the context.
+     * The used count, the execution time and the used heap size are kept
+     * because they belong to the isolate that survives the context reset.
+     */
+    protected void resetContext() {
+        callbackContextCount = 0;
+        referenceCount = 0;
     }
 
     /**
@@ -78,4 +246,13 @@ public class JavetEngineUsage {
     public void setLastActiveZonedDatetime(ZonedDateTime lastActiveZonedDatetime) {
         this.lastActiveZonedDatetime = lastActiveZonedDatetime;
     }
+
+    /**
+     * Sets the used heap size.
+     *
+     * @param usedHeapSize the used heap size
+     */
+    public void setUsedHeapSize(long usedHeapSize) {
+        this.usedHeapSize = usedHeapSize;
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine.listeners;
+
+import com.caoccao.javet.interop.engine.IJavetEngine;
+
+/**
+ * The interface Javet engine pool listener.
+ * <p>
+ * It is a metrics SPI that is agnostic to any metrics library.
+ * The callbacks are invoked synchronously on the thread that triggers the event,
+ * so the implementation must be thread-safe and should return quickly.
+ * Exceptions thrown by the callbacks are logged and ignored.
+ *
+ * @since 5.0.10
+ */
+public interface IJavetEnginePoolListener {
+    /**
+     * Callback method invoked when an engine is checked out.
+     *
+     * @param engine       the engine
+     * @param waitNanoTime the nano time spent on waiting for the engine
+     * @since 5.0.10
+     */
+    default void onEngineAcquired(IJavetEngine<?> engine, long waitNanoTime) {
+    }
+
+    /**
+     * Callback method invoked when an engine is closed by the pool.
+     *
+     * @param engine the engine
+     * @since 5.0.10
+     */
+    default void onEngineClosed(IJavetEngine<?> engine) {
+    }
+
+    /**
+     * Callback method invoked when an engine is created by the pool.
+     *
+     * @param engine the engine
+     * @since 5.0.10
+     */
+    default void onEngineCreated(IJavetEngine<?> engine) {
+    }
+
+    /**
+     * Callback method invoked when no engine is available before the timeout or the pool is closed.
+     *
+     * @param waitNanoTime the nano time spent on waiting for the engine
+     * @since 5.0.10
+     */
+    default void onEngineNotAvailable(long waitNanoTime) {
+    }
+
+    /**
+     * Callback method invoked when an engine is released back to the pool.
+     *
+     * @param engine           the engine
+     * @param checkoutNanoTime the nano time between checkout and release
+     * @since 5.0.10
+     */
+    default void onEngineReleased(IJavetEngine<?> engine, long checkoutNanoTime) {
+    }
+
+    /**
+     * Callback method invoked when the context of an engine is reset by the pool.
+     *
+     * @param engine the engine
+     * @since 5.0.10
+     */
+    default void onEngineReset(IJavetEngine<?> engine) {
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine.listeners;
+
+import com.caoccao.javet.interop.engine.IJavetEngine;
+import com.caoccao.javet.interop.engine.IJavetEnginePool;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type Javet engine pool metrics listener.
+ * <p>
+ * It keeps the counters and latency histograms in memory without any lock,
+ * and reads the gauges from the pool on demand.
+ * It can be polled by any metrics library.
+ *
+ * @since 5.0.10
+ */
+public class JavetEnginePoolMetricsListener implements IJavetEnginePoolListener {
+    /**
+     * The Acquired count.
+     *
+     * @since 5.0.10
+     */
+    protected final LongAdder acquiredCount;
+    /**
+     * The Acquisition latency histogram.
+     *
+     * @since 5.0.10
+     */
+    protected final JavetLatencyHistogram acquisitionLatencyHistogram;
+    /**
+     * The Checkout duration histogram.
+     *
+     * @since 5.0.10
+     */
+    protected final JavetLatencyHistogram checkoutDurationHistogram;
+    /**
+     * The Closed count.
+     *
+     * @since 5.0.10
+     */
+    protected final LongAdder closedCount;
+    /**
+     * The Created count.
+     *
+     * @since 5.0.10
+     */
+    protected final LongAdder createdCount;
+    /**
+     * The Engine pool.
+     *
+     * @since 5.0.10
+     */
+    protected final IJavetEnginePool<?> enginePool;
+    /**
+     * The Not available count.
+     *
+     * @since 5.0.10
+     */
+    protected final LongAdder notAvailableCount;
+    /**
+     * The Released count.
+     *
+     * @since 5.0.10
+     */
+    protected final LongAdder releasedCount;
+    /**
+     * The Reset count.
+     *
+     * @since 5.0.10
+     */
+    protected final LongAdder resetCount;
+
+    /**
+     * Instantiates a new Javet engine pool metrics listener.
+     *
+     * @param enginePool the engine pool
+     * @since 5.0.10
+     */
+    public JavetEnginePoolMetricsListener(IJavetEnginePool<?> enginePool) {
+        this.enginePool = Objects.requireNonNull(enginePool);
+        acquiredCount = new LongAdder();
+        acquisitionLatencyHistogram = new JavetLatencyHistogram();
+        checkoutDurationHistogram = new JavetLatencyHistogram();
+        closedCount = new LongAdder();
+        createdCount = new LongAdder();
+        notAvailableCount = new LongAdder();
+        releasedCount = new LongAdder();
+        resetCount = new LongAdder();
+    }
+
+    /**
+     * Gets acquired count.
+     *
+     * @return the acquired count
+     * @since 5.0.10
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    /**
+     * Gets acquisition latency histogram.
+     *
+     * @return the acquisition latency histogram
+     * @since 5.0.10
+     */
+    public JavetLatencyHistogram getAcquisitionLatencyHistogram() {
+        return acquisitionLatencyHistogram;
+    }
+
+    /**
+     * Gets active engine count.
+     *
+     * @return the active engine count
+     * @since 5.0.10
+     */
+    public int getActiveEngineCount() {
+        return enginePool.getActiveEngineCount();
+    }
+
+    /**
+     * Gets checkout duration histogram.
+     *
+     * @return the checkout duration histogram
+     * @since 5.0.10
+     */
+    public JavetLatencyHistogram getCheckoutDurationHistogram() {
+        return checkoutDurationHistogram;
+    }
+
+    /**
+     * Gets closed count.
+     *
+     * @return the closed count
+     * @since 5.0.10
+     */
+    public long getClosedCount() {
+        return closedCount.sum();
+    }
+
+    /**
+     * Gets created count.
+     *
+     * @return the created count
+     * @since 5.0.10
+     */
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    /**
+     * Gets engine pool.
+     *
+     * @return the engine pool
+     * @since 5.0.10
+     */
+    public IJavetEnginePool<?> getEnginePool() {
+        return enginePool;
+    }
+
+    /**
+     * Gets idle engine count.
+     *
+     * @return the idle engine count
+     * @since 5.0.10
+     */
+    public int getIdleEngineCount() {
+        return enginePool.getIdleEngineCount();
+    }
+
+    /**
+     * Gets not available count.
+     *
+     * @return the not available count
+     * @since 5.0.10
+     */
+    public long getNotAvailableCount() {
+        return notAvailableCount.sum();
+    }
+
+    /**
+     * Gets released count.
+     *
+     * @return the released count
+     * @since 5.0.10
+     */
+    public long getReleasedCount() {
+        return releasedCount.sum();
+    }
+
+    /**
+     * Gets released engine count.
+     *
+     * @return the released engine count
+     * @since 5.0.10
+     */
+    public int getReleasedEngineCount() {
+        return enginePool.getReleasedEngineCount();
+    }
+
+    /**
+     * Gets reset count.
+     *
+     * @return the reset count
+     * @since 5.0.10
+     */
+    public long getResetCount() {
+        return resetCount.sum();
+    }
+
+    @Override
+    public void onEngineAcquired(IJavetEngine<?> engine, long waitNanoTime) {
+        acquiredCount.increment();
+        acquisitionLatencyHistogram.record(waitNanoTime);
+    }
+
+    @Override
+    public void onEngineClosed(IJavetEngine<?> engine) {
+        closedCount.increment();
+    }
+
+    @Override
+    public void onEngineCreated(IJavetEngine<?> engine) {
+        createdCount.increment();
+    }
+
+    @Override
+    public void onEngineNotAvailable(long waitNanoTime) {
+        notAvailableCount.increment();
+        acquisitionLatencyHistogram.record(waitNanoTime);
+    }
+
+    @Override
+    public void onEngineReleased(IJavetEngine<?> engine, long checkoutNanoTime) {
+        releasedCount.increment();
+        checkoutDurationHistogram.record(checkoutNanoTime);
+    }
+
+    @Override
+    public void onEngineReset(IJavetEngine<?> engine) {
+        resetCount.increment();
+    }
+
+    /**
+     * Reset the counters and the histograms.
+     *
+     * @since 5.0.10
+     */
+    public void reset() {
+        acquiredCount.reset();
+        acquisitionLatencyHistogram.reset();
+        checkoutDurationHistogram.reset();
+        closedCount.reset();
+        createdCount.reset();
+        notAvailableCount.reset();
+        releasedCount.reset();
+        resetCount.reset();
+    }
+}
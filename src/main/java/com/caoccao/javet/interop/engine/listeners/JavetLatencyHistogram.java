@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine.listeners;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type Javet latency histogram.
+ * <p>
+ * It is a lock-free histogram with power-of-2 buckets in microseconds.
+ * Bucket 0 holds the values below 1 microsecond,
+ * and bucket i holds the values in [2^(i-1), 2^i) microseconds.
+ * The last bucket holds all the values beyond.
+ *
+ * @since 5.0.10
+ */
+public final class JavetLatencyHistogram {
+    /**
+     * The constant BUCKET_COUNT.
+     *
+     * @since 5.0.10
+     */
+    public static final int BUCKET_COUNT = 32;
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final AtomicLong max;
+    private final LongAdder sum;
+
+    /**
+     * Instantiates a new Javet latency histogram.
+     *
+     * @since 5.0.10
+     */
+    public JavetLatencyHistogram() {
+        buckets = new AtomicLongArray(BUCKET_COUNT);
+        count = new LongAdder();
+        max = new AtomicLong();
+        sum = new LongAdder();
+    }
+
+    /**
+     * Gets bucket index by nano time.
+     *
+     * @param nanoTime the nano time
+     * @return the bucket index
+     * @since 5.0.10
+     */
+    public static int getBucketIndex(long nanoTime) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0L, nanoTime));
+        return Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Gets the exclusive upper bound of the bucket in nanoseconds.
+     * The last bucket is unbounded.
+     *
+     * @param index the bucket index
+     * @return the upper bound nano time
+     * @since 5.0.10
+     */
+    public static long getBucketUpperBoundNanoTime(int index) {
+        if (index >= BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.MICROSECONDS.toNanos(1L << index);
+    }
+
+    /**
+     * Gets a snapshot of the bucket counts.
+     *
+     * @return the bucket counts
+     * @since 5.0.10
+     */
+    public long[] getBucketCounts() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            bucketCounts[i] = buckets.get(i);
+        }
+        return bucketCounts;
+    }
+
+    /**
+     * Gets count.
+     *
+     * @return the count
+     * @since 5.0.10
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets max nano time.
+     *
+     * @return the max nano time
+     * @since 5.0.10
+     */
+    public long getMaxNanoTime() {
+        return max.get();
+    }
+
+    /**
+     * Gets mean nano time.
+     *
+     * @return the mean nano time
+     * @since 5.0.10
+     */
+    public double getMeanNanoTime() {
+        final long currentCount = count.sum();
+        return currentCount == 0L ? 0D : (double) sum.sum() / currentCount;
+    }
+
+    /**
+     * Gets the estimated percentile in nanoseconds.
+     * It is the upper bound of the bucket that contains the percentile, capped by the max.
+     *
+     * @param percentile the percentile in [0, 100]
+     * @return the percentile nano time
+     * @since 5.0.10
+     */
+    public long getPercentileNanoTime(double percentile) {
+        assert percentile >= 0D && percentile <= 100D : "Percentile must be in [0, 100].";
+        final long[] bucketCounts = getBucketCounts();
+        long totalCount = 0L;
+        for (long bucketCount : bucketCounts) {
+            totalCount += bucketCount;
+        }
+        if (totalCount == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(totalCount * percentile / 100D));
+        long cumulativeCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            cumulativeCount += bucketCounts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(getBucketUpperBoundNanoTime(i), getMaxNanoTime());
+            }
+        }
+        return getMaxNanoTime();
+    }
+
+    /**
+     * Gets sum nano time.
+     *
+     * @return the sum nano time
+     * @since 5.0.10
+     */
+    public long getSumNanoTime() {
+        return sum.sum();
+    }
+
+    /**
+     * Record a nano time.
+     *
+     * @param nanoTime the nano time
+     * @since 5.0.10
+     */
+    public void record(long nanoTime) {
+        buckets.incrementAndGet(getBucketIndex(nanoTime));
+        count.increment();
+        sum.add(nanoTime);
+        max.accumulateAndGet(nanoTime, Math::max);
+    }
+
+    /**
+     * Reset.
+     *
+     * @since 5.0.10
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        max.set(0L);
+        sum.reset();
+    }
+}
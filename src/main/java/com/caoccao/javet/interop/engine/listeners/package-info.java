@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Listeners for instrumenting an engine pool.
+ * <p>
+ * Each listener implements {@link com.caoccao.javet.interop.engine.listeners.IJavetEnginePoolListener}
+ * and is registered via {@link com.caoccao.javet.interop.engine.IJavetEnginePool#addListener}:
+ * <ul>
+ *   <li>{@link com.caoccao.javet.interop.engine.listeners.JavetEnginePoolMetricsListener} - Lock-free in-memory counters, gauges and latency histograms.</li>
+ * </ul>
+ *
+ * @author Sam Cao
+ * @since 5.0.10
+ */
+package com.caoccao.javet.interop.engine.listeners;
@@ -32,6 +32,12 @@ import java.util.Objects;
  * @since 0.7.0
  */
 public abstract class BaseV8Executor implements IV8Executor {
+    /**
+     * The Code cache store.
+     *
+     * @since 5.0.10
+     */
+    protected IV8CodeCacheStore codeCacheStore;
     /**
      * The V8 runtime.
      *
@@ -53,9 +59,15 @@ public abstract class BaseV8Executor implements IV8Executor {
      */
     public BaseV8Executor(V8Runtime v8Runtime) {
         this.v8Runtime = Objects.requireNonNull(v8Runtime);
+        codeCacheStore = v8Runtime.getCodeCacheStore();
         v8ScriptOrigin = new V8ScriptOrigin();
     }
 
+    @Override
+    public IV8CodeCacheStore getCodeCacheStore() {
+        return codeCacheStore;
+    }
+
     @Override
     public V8Runtime getV8Runtime() {
         return v8Runtime;
@@ -65,4 +77,10 @@ public abstract class BaseV8Executor implements IV8Executor {
     public V8ScriptOrigin getV8ScriptOrigin() {
         return v8ScriptOrigin;
     }
+
+    @Override
+    public IV8Executor setCodeCacheStore(IV8CodeCacheStore codeCacheStore) {
+        this.codeCacheStore = codeCacheStore;
+        return this;
+    }
 }
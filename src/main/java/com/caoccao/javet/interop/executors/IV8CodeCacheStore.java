@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.executors;
+
+/**
+ * The interface V8 code cache store.
+ * <p>
+ * A code cache store keeps the code cache produced by V8 so that the same script
+ * or module does not need to be fully compiled again. The executors consult the
+ * store before compiling and populate it after compiling. The keys are generated
+ * by the executors from the source hash, the JS runtime type, the V8 version and
+ * the V8 flags, so that a stale code cache is never looked up. The implementation
+ * must be thread-safe if it is shared by multiple V8 runtimes.
+ *
+ * @since 5.0.10
+ */
+public interface IV8CodeCacheStore {
+    /**
+     * Clear all the code caches.
+     *
+     * @since 5.0.10
+     */
+    void clear();
+
+    /**
+     * Gets the code cache by key.
+     *
+     * @param key the key
+     * @return the code cache or null if not found
+     * @since 5.0.10
+     */
+    byte[] get(String key);
+
+    /**
+     * Notify the code cache store that V8 rejected the code cache by key.
+     * <p>
+     * It is called by the executors when V8 rejects the code cache.
+     * The default implementation removes the code cache.
+     *
+     * @param key the key
+     * @since 5.0.10
+     */
+    default void onRejected(String key) {
+        remove(key);
+    }
+
+    /**
+     * Put the code cache by key.
+     *
+     * @param key        the key
+     * @param cachedData the code cache
+     * @since 5.0.10
+     */
+    void put(String key, byte[] cachedData);
+
+    /**
+     * Remove the code cache by key.
+     *
+     * @param key the key
+     * @return true : removed, false : not found
+     * @since 5.0.10
+     */
+    boolean remove(String key);
+
+    /**
+     * Gets the number of the code caches.
+     *
+     * @return the size
+     * @since 5.0.10
+     */
+    int size();
+}
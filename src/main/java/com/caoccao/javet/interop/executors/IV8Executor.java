@@ -151,6 +151,18 @@ public interface IV8Executor extends IV8Executable {
      */
     byte[] getCachedData();
 
+    /**
+     * Gets code cache store.
+     * <p>
+     * The default implementation returns null.
+     *
+     * @return the code cache store or null if it is not set
+     * @since 5.0.10
+     */
+    default IV8CodeCacheStore getCodeCacheStore() {
+        return null;
+    }
+
     /**
      * Gets resource name.
      *
@@ -196,6 +208,23 @@ public interface IV8Executor extends IV8Executable {
         return getV8ScriptOrigin().isModule();
     }
 
+    /**
+     * Sets code cache store.
+     * <p>
+     * If the code cache store is set and no cached data is given explicitly, the executor
+     * looks up the code cache before compiling, puts the code cache after compiling,
+     * and replaces the code cache rejected by V8.
+     * <p>
+     * The default implementation does nothing, so {@link #getCodeCacheStore()} keeps returning null.
+     *
+     * @param codeCacheStore the code cache store, null to disable
+     * @return the self
+     * @since 5.0.10
+     */
+    default IV8Executor setCodeCacheStore(IV8CodeCacheStore codeCacheStore) {
+        return this;
+    }
+
     /**
      * Sets module.
      *
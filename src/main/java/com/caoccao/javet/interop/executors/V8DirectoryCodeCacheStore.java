@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.executors;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/**
+ * The type V8 directory code cache store.
+ * <p>
+ * It keeps one file per code cache in the given directory so that the code caches
+ * survive the restart of the JVM. The file name is the key with the extension
+ * <code>.cache</code>, so the keys must be valid file names, e.g. the hex digests
+ * generated by the executors. The I/O errors are ignored because a missing code
+ * cache only means V8 compiles the script from the source.
+ *
+ * @since 5.0.10
+ */
+public class V8DirectoryCodeCacheStore implements IV8CodeCacheStore {
+    /**
+     * The constant FILE_EXTENSION.
+     *
+     * @since 5.0.10
+     */
+    public static final String FILE_EXTENSION = ".cache";
+    /**
+     * The constant TEMP_FILE_EXTENSION.
+     *
+     * @since 5.0.10
+     */
+    protected static final String TEMP_FILE_EXTENSION = ".tmp";
+    /**
+     * The Directory.
+     *
+     * @since 5.0.10
+     */
+    protected final Path directory;
+
+    /**
+     * Instantiates a new V8 directory code cache store.
+     *
+     * @param directory the directory
+     * @throws IOException the IO exception
+     * @since 5.0.10
+     */
+    public V8DirectoryCodeCacheStore(Path directory) throws IOException {
+        this.directory = Objects.requireNonNull(directory);
+        Files.createDirectories(directory);
+    }
+
+    @Override
+    public void clear() {
+        File[] files = directory.toFile().listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        if (files != null) {
+            for (File file : files) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Path path = getPath(key);
+        if (Files.isRegularFile(path)) {
+            try {
+                return Files.readAllBytes(path);
+            } catch (IOException ignored) {
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets directory.
+     *
+     * @return the directory
+     * @since 5.0.10
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets the path of the code cache by key.
+     *
+     * @param key the key
+     * @return the path
+     * @since 5.0.10
+     */
+    protected Path getPath(String key) {
+        return directory.resolve(Objects.requireNonNull(key) + FILE_EXTENSION);
+    }
+
+    @Override
+    public void put(String key, byte[] cachedData) {
+        Objects.requireNonNull(cachedData);
+        Path path = getPath(key);
+        Path tempPath = directory.resolve(key + "." + Thread.currentThread().getId() + TEMP_FILE_EXTENSION);
+        try {
+            // Write to a temporary file first so that readers never see a partial code cache.
+            Files.write(tempPath, cachedData);
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ignored) {
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException ignoredAgain) {
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(String key) {
+        try {
+            return Files.deleteIfExists(getPath(key));
+        } catch (IOException ignored) {
+            return false;
+        }
+    }
+
+    @Override
+    public int size() {
+        File[] files = directory.toFile().listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        return files == null ? 0 : files.length;
+    }
+}
@@ -16,15 +16,11 @@
 
 package com.caoccao.javet.interop.executors;
 
-import com.caoccao.javet.exceptions.JavetError;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interop.V8Runtime;
-import com.caoccao.javet.utils.SimpleMap;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Objects;
 
 /**
@@ -65,19 +61,7 @@ public class V8FileExecutor extends V8StringExecutor {
     }
 
     @Override
-    public String getScriptString() throws JavetException {
-        if (scriptString == null) {
-            try (FileInputStream fileInputStream = new FileInputStream(scriptFile)) {
-                byte[] buffer = new byte[fileInputStream.available()];
-                fileInputStream.read(buffer);
-                scriptString = new String(buffer, StandardCharsets.UTF_8);
-            } catch (IOException e) {
-                throw new JavetException(
-                        JavetError.FailedToReadPath,
-                        SimpleMap.of(JavetError.PARAMETER_PATH, scriptFile),
-                        e);
-            }
-        }
-        return scriptString;
+    protected Path getScriptPath() {
+        return scriptFile.toPath();
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.executors;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The type V8 memory code cache store.
+ * <p>
+ * It keeps the code caches in memory and evicts the least recently used one
+ * when the capacity is reached. It is thread-safe.
+ *
+ * @since 5.0.10
+ */
+public class V8MemoryCodeCacheStore implements IV8CodeCacheStore {
+    /**
+     * The constant DEFAULT_CAPACITY.
+     *
+     * @since 5.0.10
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+    /**
+     * The Capacity.
+     *
+     * @since 5.0.10
+     */
+    protected final int capacity;
+    /**
+     * The Code cache map.
+     *
+     * @since 5.0.10
+     */
+    protected final Map<String, byte[]> codeCacheMap;
+
+    /**
+     * Instantiates a new V8 memory code cache store.
+     *
+     * @since 5.0.10
+     */
+    public V8MemoryCodeCacheStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new V8 memory code cache store.
+     *
+     * @param capacity the capacity
+     * @since 5.0.10
+     */
+    public V8MemoryCodeCacheStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.capacity = capacity;
+        codeCacheMap = new LinkedHashMap<String, byte[]>(16, 0.75F, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > V8MemoryCodeCacheStore.this.capacity;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void clear() {
+        codeCacheMap.clear();
+    }
+
+    @Override
+    public synchronized byte[] get(String key) {
+        return codeCacheMap.get(Objects.requireNonNull(key));
+    }
+
+    /**
+     * Gets capacity.
+     *
+     * @return the capacity
+     * @since 5.0.10
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized void put(String key, byte[] cachedData) {
+        codeCacheMap.put(Objects.requireNonNull(key), Objects.requireNonNull(cachedData));
+    }
+
+    @Override
+    public synchronized boolean remove(String key) {
+        return codeCacheMap.remove(Objects.requireNonNull(key)) != null;
+    }
+
+    @Override
+    public synchronized int size() {
+        return codeCacheMap.size();
+    }
+}
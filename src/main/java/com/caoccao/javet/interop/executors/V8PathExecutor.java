@@ -16,14 +16,9 @@
 
 package com.caoccao.javet.interop.executors;
 
-import com.caoccao.javet.exceptions.JavetError;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interop.V8Runtime;
-import com.caoccao.javet.utils.SimpleMap;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Objects;
 
@@ -60,24 +55,8 @@ public class V8PathExecutor extends V8StringExecutor {
      * @return the script path
      * @since 0.9.1
      */
+    @Override
     public Path getScriptPath() {
         return scriptPath;
     }
-
-    @Override
-    public String getScriptString() throws JavetException {
-        if (scriptString == null) {
-            try (FileInputStream fileInputStream = new FileInputStream(scriptPath.toString())) {
-                byte[] buffer = new byte[fileInputStream.available()];
-                fileInputStream.read(buffer);
-                scriptString = new String(buffer, StandardCharsets.UTF_8);
-            } catch (IOException e) {
-                throw new JavetException(
-                        JavetError.FailedToReadPath,
-                        SimpleMap.of(JavetError.PARAMETER_PATH, scriptPath),
-                        e);
-            }
-        }
-        return scriptString;
-    }
 }
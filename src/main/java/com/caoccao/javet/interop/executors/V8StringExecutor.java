@@ -17,20 +17,73 @@
 package com.caoccao.javet.interop.executors;
 
 import com.caoccao.javet.annotations.CheckReturnValue;
+import com.caoccao.javet.exceptions.JavetError;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.options.NodeRuntimeOptions;
+import com.caoccao.javet.interop.options.V8RuntimeOptions;
+import com.caoccao.javet.utils.JavetResourceUtils;
+import com.caoccao.javet.utils.SimpleMap;
 import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.IV8Cacheable;
 import com.caoccao.javet.values.reference.V8Module;
 import com.caoccao.javet.values.reference.V8Script;
 import com.caoccao.javet.values.reference.V8ValueFunction;
 import com.caoccao.javet.values.reference.V8ValueObject;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 /**
  * The type V8 string executor.
  *
  * @since 0.7.0
  */
 public class V8StringExecutor extends BaseV8Executor {
+    /**
+     * The constant CODE_CACHE_TYPE_FUNCTION.
+     *
+     * @since 5.0.10
+     */
+    protected static final String CODE_CACHE_TYPE_FUNCTION = "function";
+    /**
+     * The constant CODE_CACHE_TYPE_MODULE.
+     *
+     * @since 5.0.10
+     */
+    protected static final String CODE_CACHE_TYPE_MODULE = "module";
+    /**
+     * The constant CODE_CACHE_TYPE_SCRIPT.
+     *
+     * @since 5.0.10
+     */
+    protected static final String CODE_CACHE_TYPE_SCRIPT = "script";
+    /**
+     * The constant HEX_DIGITS.
+     *
+     * @since 5.0.10
+     */
+    protected static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    /**
+     * The constant MESSAGE_DIGEST_ALGORITHM.
+     *
+     * @since 5.0.10
+     */
+    protected static final String MESSAGE_DIGEST_ALGORITHM = "SHA-256";
+    /**
+     * The constant SCRIPT_BUFFER_MIN_SIZE.
+     * Files smaller than that are read into a string because mapping them costs more than copying them.
+     *
+     * @since 5.0.10
+     */
+    protected static final long SCRIPT_BUFFER_MIN_SIZE = 16 * 1024;
 
     /**
      * The Cached data.
@@ -38,6 +91,24 @@ public class V8StringExecutor extends BaseV8Executor {
      * @since 2.0.3
      */
     protected byte[] cachedData;
+    /**
+     * The Script buffer.
+     *
+     * @since 5.0.10
+     */
+    protected ByteBuffer scriptBuffer;
+    /**
+     * The Script buffer mapped.
+     *
+     * @since 5.0.10
+     */
+    protected boolean scriptBufferMapped;
+    /**
+     * The Script buffer mapping enabled.
+     *
+     * @since 5.0.10
+     */
+    protected boolean scriptBufferMappingEnabled;
     /**
      * The Script string.
      *
@@ -80,16 +151,53 @@ public class V8StringExecutor extends BaseV8Executor {
         this.cachedData = cachedData;
     }
 
+    @CheckReturnValue
+    private V8Module compileV8Module(byte[] cachedData, boolean resultRequired) throws JavetException {
+        ByteBuffer scriptBuffer = getScriptBuffer();
+        if (scriptBuffer != null) {
+            return v8Runtime.compileV8Module(scriptBuffer, cachedData, v8ScriptOrigin, resultRequired);
+        }
+        return v8Runtime.compileV8Module(getScriptString(), cachedData, v8ScriptOrigin, resultRequired);
+    }
+
     @Override
     @CheckReturnValue
     public V8Module compileV8Module(boolean resultRequired) throws JavetException {
-        return v8Runtime.compileV8Module(getScriptString(), getCachedData(), v8ScriptOrigin, resultRequired);
+        String codeCacheKey = resultRequired ? getCodeCacheKey(CODE_CACHE_TYPE_MODULE) : null;
+        if (codeCacheKey == null) {
+            return compileV8Module(getCachedData(), resultRequired);
+        }
+        // A module compiled without the result is not registered, so the code cache is only populated with the result.
+        byte[] codeCache = codeCacheStore.get(codeCacheKey);
+        V8Module v8Module = compileV8Module(codeCache, true);
+        updateCodeCache(codeCacheKey, codeCache, v8Module);
+        return v8Module;
+    }
+
+    @CheckReturnValue
+    private V8Script compileV8Script(byte[] cachedData, boolean resultRequired) throws JavetException {
+        ByteBuffer scriptBuffer = getScriptBuffer();
+        if (scriptBuffer != null) {
+            return v8Runtime.compileV8Script(scriptBuffer, cachedData, v8ScriptOrigin, resultRequired);
+        }
+        return v8Runtime.compileV8Script(getScriptString(), cachedData, v8ScriptOrigin, resultRequired);
     }
 
     @Override
     @CheckReturnValue
     public V8Script compileV8Script(boolean resultRequired) throws JavetException {
-        return v8Runtime.compileV8Script(getScriptString(), getCachedData(), v8ScriptOrigin, resultRequired);
+        String codeCacheKey = getCodeCacheKey(CODE_CACHE_TYPE_SCRIPT);
+        if (codeCacheKey == null) {
+            return compileV8Script(getCachedData(), resultRequired);
+        }
+        byte[] codeCache = codeCacheStore.get(codeCacheKey);
+        V8Script v8Script = compileV8Script(codeCache, true);
+        updateCodeCache(codeCacheKey, codeCache, v8Script);
+        if (resultRequired) {
+            return v8Script;
+        }
+        JavetResourceUtils.safeClose(v8Script);
+        return null;
     }
 
     @Override
@@ -97,14 +205,54 @@ public class V8StringExecutor extends BaseV8Executor {
     public V8ValueFunction compileV8ValueFunction(
             String[] arguments, V8ValueObject[] contextExtensions)
             throws JavetException {
-        return v8Runtime.compileV8ValueFunction(
-                getScriptString(), getCachedData(), v8ScriptOrigin, arguments, contextExtensions);
+        String codeCacheKey = getCodeCacheKey(
+                arguments == null ? CODE_CACHE_TYPE_FUNCTION : CODE_CACHE_TYPE_FUNCTION + "(" + String.join(",", arguments) + ")");
+        if (codeCacheKey == null) {
+            return v8Runtime.compileV8ValueFunction(
+                    getScriptString(), getCachedData(), v8ScriptOrigin, arguments, contextExtensions);
+        }
+        byte[] codeCache = codeCacheStore.get(codeCacheKey);
+        V8ValueFunction v8ValueFunction = v8Runtime.compileV8ValueFunction(
+                getScriptString(), codeCache, v8ScriptOrigin, arguments, contextExtensions);
+        updateCodeCache(codeCacheKey, codeCache, v8ValueFunction);
+        return v8ValueFunction;
+    }
+
+    @CheckReturnValue
+    private <T extends V8Value> T execute(byte[] cachedData, boolean resultRequired) throws JavetException {
+        ByteBuffer scriptBuffer = getScriptBuffer();
+        if (scriptBuffer != null) {
+            return v8Runtime.execute(scriptBuffer, cachedData, v8ScriptOrigin, resultRequired);
+        }
+        return v8Runtime.execute(getScriptString(), cachedData, v8ScriptOrigin, resultRequired);
     }
 
     @Override
     @CheckReturnValue
     public <T extends V8Value> T execute(boolean resultRequired) throws JavetException {
-        return v8Runtime.execute(getScriptString(), getCachedData(), v8ScriptOrigin, resultRequired);
+        if (isModule()) {
+            String codeCacheKey = getCodeCacheKey(CODE_CACHE_TYPE_MODULE);
+            if (codeCacheKey == null) {
+                return execute(getCachedData(), resultRequired);
+            }
+            // The module executed directly is not exposed, so the code cache can only be consumed here.
+            // Call compileV8Module() to populate it.
+            byte[] codeCache = codeCacheStore.get(codeCacheKey);
+            T result = execute(codeCache, resultRequired);
+            if (codeCache != null && v8Runtime.isCodeCacheRejected()) {
+                codeCacheStore.onRejected(codeCacheKey);
+            }
+            return result;
+        }
+        String codeCacheKey = getCodeCacheKey(CODE_CACHE_TYPE_SCRIPT);
+        if (codeCacheKey == null) {
+            return execute(getCachedData(), resultRequired);
+        }
+        byte[] codeCache = codeCacheStore.get(codeCacheKey);
+        try (V8Script v8Script = compileV8Script(codeCache, true)) {
+            updateCodeCache(codeCacheKey, codeCache, v8Script);
+            return v8Script.execute(resultRequired);
+        }
     }
 
     @Override
@@ -112,8 +260,208 @@ public class V8StringExecutor extends BaseV8Executor {
         return cachedData;
     }
 
+    /**
+     * Gets the code cache key.
+     * <p>
+     * The key is the hex digest of the code cache type, the JS runtime type, the V8 version,
+     * the V8 flags and the script. It returns null if the code cache store is not set
+     * or the cached data is given explicitly.
+     *
+     * @param codeCacheType the code cache type
+     * @return the code cache key
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected String getCodeCacheKey(String codeCacheType) throws JavetException {
+        if (codeCacheStore == null || getCachedData() != null || v8Runtime.isClosed()) {
+            return null;
+        }
+        ByteBuffer scriptBuffer = getScriptBuffer();
+        String scriptString = scriptBuffer == null ? getScriptString() : null;
+        if (scriptBuffer == null && scriptString == null) {
+            return null;
+        }
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(MESSAGE_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+        String flags = v8Runtime.getJSRuntimeType().isNode()
+                ? NodeRuntimeOptions.V8_FLAGS.toString()
+                : V8RuntimeOptions.V8_FLAGS.toString();
+        for (String token : new String[]{
+                codeCacheType, v8Runtime.getJSRuntimeType().getName(), v8Runtime.getVersion(), flags}) {
+            messageDigest.update(token.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+        }
+        if (scriptBuffer != null) {
+            // The script buffer only contains ASCII characters so that it digests the same as the UTF-8 string.
+            ByteBuffer byteBuffer = scriptBuffer.duplicate();
+            byteBuffer.clear();
+            messageDigest.update(byteBuffer);
+        } else {
+            messageDigest.update(scriptString.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] digest = messageDigest.digest();
+        char[] chars = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX_DIGITS[digest[i] & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Gets the script buffer.
+     * <p>
+     * If it is not null, it is a direct byte buffer of one-byte characters
+     * and takes precedence over the script string when compiling or executing a script or module.
+     *
+     * @return the script buffer
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected ByteBuffer getScriptBuffer() throws JavetException {
+        if (scriptBufferMappingEnabled && !scriptBufferMapped && scriptString == null) {
+            Path scriptPath = getScriptPath();
+            if (scriptPath != null) {
+                try {
+                    scriptBuffer = mapScriptBuffer(scriptPath);
+                } catch (IOException e) {
+                    throw new JavetException(
+                            JavetError.FailedToReadPath,
+                            SimpleMap.of(JavetError.PARAMETER_PATH, scriptPath),
+                            e);
+                }
+            }
+            scriptBufferMapped = true;
+        }
+        return scriptBuffer;
+    }
+
+    /**
+     * Gets script path.
+     * <p>
+     * The script is read from that path on demand if it is not null.
+     * The default implementation returns null, so the script string is used as is.
+     *
+     * @return the script path
+     * @since 5.0.10
+     */
+    protected Path getScriptPath() {
+        return null;
+    }
+
     @Override
     public String getScriptString() throws JavetException {
+        if (scriptString == null) {
+            ByteBuffer scriptBuffer = getScriptBuffer();
+            if (scriptBuffer != null) {
+                ByteBuffer byteBuffer = scriptBuffer.duplicate();
+                byteBuffer.clear();
+                scriptString = StandardCharsets.US_ASCII.decode(byteBuffer).toString();
+            } else {
+                Path scriptPath = getScriptPath();
+                if (scriptPath != null) {
+                    try {
+                        scriptString = new String(Files.readAllBytes(scriptPath), StandardCharsets.UTF_8);
+                    } catch (IOException e) {
+                        throw new JavetException(
+                                JavetError.FailedToReadPath,
+                                SimpleMap.of(JavetError.PARAMETER_PATH, scriptPath),
+                                e);
+                    }
+                }
+            }
+        }
         return scriptString;
     }
+
+    /**
+     * Is script buffer mapping enabled.
+     *
+     * @return true : enabled, false : disabled
+     * @since 5.0.10
+     */
+    public boolean isScriptBufferMappingEnabled() {
+        return scriptBufferMappingEnabled;
+    }
+
+    /**
+     * Map the script file to a direct byte buffer if it is large enough and only contains ASCII characters.
+     * <p>
+     * The mapped byte buffer is handed to V8 as an external one-byte string so that
+     * the script is neither decoded nor copied on the Java side.
+     *
+     * @param scriptPath the script path
+     * @return the mapped byte buffer or null if the script should be read into a string
+     * @throws IOException the io exception
+     * @since 5.0.10
+     */
+    protected static ByteBuffer mapScriptBuffer(Path scriptPath) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(scriptPath, StandardOpenOption.READ)) {
+            long size = fileChannel.size();
+            if (size < SCRIPT_BUFFER_MIN_SIZE || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            ByteBuffer byteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final int length = byteBuffer.capacity();
+            int index = 0;
+            for (; index + Long.BYTES <= length; index += Long.BYTES) {
+                if ((byteBuffer.getLong(index) & 0x8080808080808080L) != 0) {
+                    return null;
+                }
+            }
+            for (; index < length; index++) {
+                if (byteBuffer.get(index) < 0) {
+                    return null;
+                }
+            }
+            return byteBuffer;
+        }
+    }
+
+    /**
+     * Update the code cache store after compiling.
+     * <p>
+     * The code cache is put if it was not found, or replaced if V8 rejected it.
+     *
+     * @param codeCacheKey the code cache key
+     * @param codeCache    the code cache consumed by the compilation, may be null
+     * @param iV8Cacheable the compiled V8 value, may be null
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected void updateCodeCache(String codeCacheKey, byte[] codeCache, IV8Cacheable iV8Cacheable)
+            throws JavetException {
+        boolean rejected = codeCache != null && v8Runtime.isCodeCacheRejected();
+        if (rejected) {
+            codeCacheStore.onRejected(codeCacheKey);
+        }
+        if (iV8Cacheable != null && (codeCache == null || rejected)) {
+            byte[] newCodeCache = iV8Cacheable.getCachedData();
+            if (newCodeCache != null && newCodeCache.length > 0) {
+                codeCacheStore.put(codeCacheKey, newCodeCache);
+            }
+        }
+    }
+
+    /**
+     * Sets script buffer mapping enabled.
+     * <p>
+     * It is disabled by default. If it is enabled, an ASCII-only script file of 16KB or more
+     * is memory-mapped and handed to V8 as an external one-byte string without being decoded or copied.
+     * The mapped file must not be truncated or modified while V8 references it,
+     * otherwise the process may crash with SIGBUS. On Windows, the mapped file cannot be deleted
+     * until the byte buffer is garbage collected.
+     *
+     * @param scriptBufferMappingEnabled the script buffer mapping enabled
+     * @return the self
+     * @since 5.0.10
+     */
+    public V8StringExecutor setScriptBufferMappingEnabled(boolean scriptBufferMappingEnabled) {
+        this.scriptBufferMappingEnabled = scriptBufferMappingEnabled;
+        return this;
+    }
 }
@@ -26,6 +26,9 @@
  * <p>
  * All executors implement {@link com.caoccao.javet.interop.executors.IV8Executor} which provides
  * methods for script execution, module compilation, resource naming, and cached data support.
+ * <p>
+ * A {@link com.caoccao.javet.interop.executors.IV8CodeCacheStore} can be set on the V8 runtime or
+ * the executor so that the code cache is reused transparently across compilations.
  *
  * @since 0.7.0
  * @author Sam Cao
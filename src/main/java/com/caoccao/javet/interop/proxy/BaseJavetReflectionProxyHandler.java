@@ -26,10 +26,12 @@ import com.caoccao.javet.interop.V8Runtime;
 import com.caoccao.javet.interop.binding.ClassDescriptor;
 import com.caoccao.javet.interop.binding.IClassProxyPlugin;
 import com.caoccao.javet.interop.binding.IClassProxyPluginFunction;
+import com.caoccao.javet.interop.binding.OverloadResolutionCache;
 import com.caoccao.javet.utils.*;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.primitive.V8ValueString;
 import com.caoccao.javet.values.reference.V8ValueObject;
+import com.caoccao.javet.values.reference.V8ValueProxy;
 
 import java.lang.reflect.*;
 import java.util.ArrayList;
@@ -105,11 +107,63 @@ public abstract class BaseJavetReflectionProxyHandler<T, E extends Exception>
             V8ValueObject thisObject,
             List<E> executables,
             JavetVirtualObject[] javetVirtualObjects) throws Throwable {
+        return execute(reflectionObjectFactory, targetObject, thisObject, executables, null, javetVirtualObjects);
+    }
+
+    /**
+     * Execute with the overload resolution cache.
+     * On cache hit, the scoring is skipped and the cached executable is executed.
+     * If it fails, the rest of the executables are scored and executed as usual.
+     * On cache miss, the winning executable is cached only if it is the top scored one
+     * and none of the scores depends on the argument values (e.g. a string converted to a char).
+     *
+     * @param <E>                     the type parameter
+     * @param reflectionObjectFactory the reflection object factory
+     * @param targetObject            the target object
+     * @param thisObject              this object
+     * @param executables             the executables
+     * @param overloadResolutionCache the overload resolution cache, null means no cache
+     * @param javetVirtualObjects     the javet virtual objects
+     * @return the object
+     * @throws Throwable the throwable
+     * @since 5.0.10
+     */
+    protected static <E extends AccessibleObject> Object execute(
+            IJavetReflectionObjectFactory reflectionObjectFactory,
+            Object targetObject,
+            V8ValueObject thisObject,
+            List<E> executables,
+            OverloadResolutionCache overloadResolutionCache,
+            JavetVirtualObject[] javetVirtualObjects) throws Throwable {
+        OverloadResolutionCache.Key key = null;
+        E cachedExecutable = null;
+        Throwable lastException = null;
+        if (overloadResolutionCache != null && executables.size() > 1) {
+            key = getOverloadResolutionKey(targetObject, thisObject, javetVirtualObjects);
+            cachedExecutable = overloadResolutionCache.get(key);
+            if (cachedExecutable != null) {
+                ScoredExecutable<E> scoredExecutable = new ScoredExecutable<>(
+                        reflectionObjectFactory, targetObject, thisObject, cachedExecutable, javetVirtualObjects);
+                scoredExecutable.prepare();
+                try {
+                    return scoredExecutable.execute();
+                } catch (Throwable t) {
+                    lastException = t;
+                }
+            }
+        }
+        boolean cacheable = key != null && cachedExecutable == null;
         List<ScoredExecutable<E>> scoredExecutables = new ArrayList<>();
         for (E executable : executables) {
+            if (executable == cachedExecutable) {
+                continue;
+            }
             ScoredExecutable<E> scoredExecutable = new ScoredExecutable<>(
                     reflectionObjectFactory, targetObject, thisObject, executable, javetVirtualObjects);
             scoredExecutable.calculateScore();
+            if (scoredExecutable.isValueDependent()) {
+                cacheable = false;
+            }
             double score = scoredExecutable.getScore();
             if (score > 0) {
                 scoredExecutables.add(scoredExecutable);
@@ -117,21 +171,58 @@ public abstract class BaseJavetReflectionProxyHandler<T, E extends Exception>
         }
         if (!scoredExecutables.isEmpty()) {
             scoredExecutables.sort((o1, o2) -> Double.compare(o2.getScore(), o1.getScore()));
-            Throwable lastException = null;
+            boolean topScored = true;
             for (ScoredExecutable<E> scoredExecutable : scoredExecutables) {
                 try {
-                    return scoredExecutable.execute();
+                    Object result = scoredExecutable.execute();
+                    if (topScored && cacheable) {
+                        overloadResolutionCache.put(key, scoredExecutable.getExecutable());
+                    }
+                    return result;
                 } catch (Throwable t) {
                     lastException = t;
+                    topScored = false;
                 }
             }
-            if (lastException != null) {
-                throw lastException;
-            }
+        }
+        if (lastException != null) {
+            throw lastException;
         }
         return null;
     }
 
+    /**
+     * Gets the overload resolution key which consists of the types of the target object, this object and the arguments.
+     * The Java object of a proxy argument is part of the key because the proxy may represent any Java object.
+     *
+     * @param targetObject        the target object
+     * @param thisObject          this object
+     * @param javetVirtualObjects the javet virtual objects
+     * @return the overload resolution key
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected static OverloadResolutionCache.Key getOverloadResolutionKey(
+            Object targetObject,
+            V8ValueObject thisObject,
+            JavetVirtualObject[] javetVirtualObjects) throws JavetException {
+        final int length = javetVirtualObjects.length;
+        Class<?>[] types = new Class<?>[length * 2 + 2];
+        types[0] = targetObject == null ? null : targetObject.getClass();
+        types[1] = thisObject == null ? null : thisObject.getClass();
+        for (int i = 0; i < length; ++i) {
+            V8Value v8Value = javetVirtualObjects[i].getV8Value();
+            if (v8Value != null) {
+                types[i * 2 + 2] = v8Value.getClass();
+                if (v8Value instanceof V8ValueProxy) {
+                    Object object = javetVirtualObjects[i].getObject();
+                    types[i * 2 + 3] = object == null ? null : object.getClass();
+                }
+            }
+        }
+        return new OverloadResolutionCache.Key(types);
+    }
+
     /**
      * Add method.
      *
@@ -305,7 +396,8 @@ public abstract class BaseJavetReflectionProxyHandler<T, E extends Exception>
                             v8Runtime.getConverter().getConfig().getReflectionObjectFactory(),
                             targetObject,
                             propertyName,
-                            getterMethods);
+                            getterMethods,
+                            classDescriptor.getOverloadResolutionCache(getterMethods));
                     return reflectionProxyInterceptor.invokeV8Value(target);
                 }
             }
@@ -328,11 +420,19 @@ public abstract class BaseJavetReflectionProxyHandler<T, E extends Exception>
             if (!classDescriptor.getClassProxyPlugin().isMethodProxyable(propertyName, classDescriptor.getTargetClass())) {
                 List<Method> methods = classDescriptor.getMethodsMap().get(propertyName);
                 if (ListUtils.isNotEmpty(methods)) {
+                    // The methods of a class object in object mode vary by the class object, so they are not shared.
+                    if (v8Runtime.getConverter().getConfig().isProxyMethodCacheEnabled()
+                            && (getProxyMode() == V8ProxyMode.Class || !(targetObject instanceof Class))) {
+                        return JavetProxyMethodStore.createOrGetFunction(
+                                v8Runtime, getProxyMode(), classDescriptor.getTargetClass(), propertyName, methods,
+                                classDescriptor.getOverloadResolutionCache(methods));
+                    }
                     JavetReflectionProxyInterceptor reflectionProxyInterceptor = new JavetReflectionProxyInterceptor(
                             v8Runtime.getConverter().getConfig().getReflectionObjectFactory(),
                             targetObject,
                             propertyName,
-                            methods);
+                            methods,
+                            classDescriptor.getOverloadResolutionCache(methods));
                     return v8Runtime.createV8ValueFunction(reflectionProxyInterceptor.getCallbackContext());
                 }
             }
@@ -838,7 +938,8 @@ public abstract class BaseJavetReflectionProxyHandler<T, E extends Exception>
                             v8Runtime.getConverter().getConfig().getReflectionObjectFactory(),
                             targetObject,
                             propertyName,
-                            methods);
+                            methods,
+                            classDescriptor.getOverloadResolutionCache(methods));
                     reflectionProxyInterceptor.invokeObject((V8ValueObject) target, propertyValue);
                     return true;
                 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.proxy;
+
+import com.caoccao.javet.enums.V8ProxyMode;
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.binding.OverloadResolutionCache;
+import com.caoccao.javet.utils.ThreadSafeMap;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.V8ValueFunction;
+import com.caoccao.javet.values.reference.V8ValueGlobalObject;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The type Javet proxy method store manages the shared method functions for reflection proxy objects.
+ * <p>
+ * The shared function of a method is created once per V8 context and per (proxy mode, class, method name),
+ * and resolves the target object from the receiver at call time.
+ * The class is identified by the class object rather than the class name,
+ * so that the same class name loaded by different class loaders does not share a function.
+ * The class identities are held weakly so that the class loaders can be unloaded.
+ * It is kept as a private property of the global object so that it is
+ * invalidated automatically when the context is reset.
+ *
+ * @since 5.0.10
+ */
+public final class JavetProxyMethodStore {
+    private static final ThreadSafeMap<Class<?>, String> CLASS_KEY_MAP = new ThreadSafeMap<>(ThreadSafeMap.Type.Weak);
+    private static final AtomicLong CLASS_KEY_SEQUENCE = new AtomicLong();
+    private static final String PREFIX = ".proxy.method.";
+
+    private JavetProxyMethodStore() {
+    }
+
+    /**
+     * Create or get the shared method function.
+     *
+     * @param v8Runtime   the V8 runtime
+     * @param v8ProxyMode the V8 proxy mode
+     * @param clazz       the clazz
+     * @param methodName  the method name
+     * @param methods     the methods
+     * @param cache       the overload resolution cache
+     * @return the shared method function
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public static V8ValueFunction createOrGetFunction(
+            V8Runtime v8Runtime, V8ProxyMode v8ProxyMode, Class<?> clazz, String methodName, List<Method> methods,
+            OverloadResolutionCache cache)
+            throws JavetException {
+        String key = getKey(v8ProxyMode, clazz, methodName);
+        V8ValueGlobalObject globalObject = Objects.requireNonNull(v8Runtime).getGlobalObject();
+        V8Value v8Value = globalObject.getPrivateProperty(key);
+        if (v8Value instanceof V8ValueFunction) {
+            return (V8ValueFunction) v8Value;
+        }
+        v8Value.close();
+        JavetReflectionProxyInterceptor reflectionProxyInterceptor = new JavetReflectionProxyInterceptor(
+                v8Runtime.getConverter().getConfig().getReflectionObjectFactory(),
+                v8ProxyMode,
+                clazz,
+                methodName,
+                methods,
+                cache);
+        V8ValueFunction v8ValueFunction = v8Runtime.createV8ValueFunction(reflectionProxyInterceptor.getCallbackContext());
+        try {
+            globalObject.setPrivateProperty(key, v8ValueFunction);
+        } catch (Throwable t) {
+            v8ValueFunction.close();
+            throw t;
+        }
+        return v8ValueFunction;
+    }
+
+    private static String getClassKey(Class<?> clazz) {
+        Objects.requireNonNull(clazz);
+        String classKey = CLASS_KEY_MAP.get(clazz);
+        if (classKey == null) {
+            synchronized (CLASS_KEY_MAP) {
+                classKey = CLASS_KEY_MAP.get(clazz);
+                if (classKey == null) {
+                    classKey = clazz.getName() + "#" + CLASS_KEY_SEQUENCE.incrementAndGet();
+                    CLASS_KEY_MAP.put(clazz, classKey);
+                }
+            }
+        }
+        return classKey;
+    }
+
+    private static String getKey(V8ProxyMode v8ProxyMode, Class<?> clazz, String methodName) {
+        return v8ProxyMode.name() + PREFIX + getClassKey(clazz) + "." + Objects.requireNonNull(methodName);
+    }
+
+    /**
+     * Gets the shared method function.
+     *
+     * @param v8Runtime   the V8 runtime
+     * @param v8ProxyMode the V8 proxy mode
+     * @param clazz       the clazz
+     * @param methodName  the method name
+     * @return the shared method function or null if it is not created
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public static V8ValueFunction getFunction(
+            V8Runtime v8Runtime, V8ProxyMode v8ProxyMode, Class<?> clazz, String methodName)
+            throws JavetException {
+        V8Value v8Value = Objects.requireNonNull(v8Runtime).getGlobalObject()
+                .getPrivateProperty(getKey(v8ProxyMode, clazz, methodName));
+        if (v8Value instanceof V8ValueFunction) {
+            return (V8ValueFunction) v8Value;
+        }
+        v8Value.close();
+        return null;
+    }
+}
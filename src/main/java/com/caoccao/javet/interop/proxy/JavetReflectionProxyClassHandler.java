@@ -74,6 +74,7 @@ public class JavetReflectionProxyClassHandler<T extends Class<?>, E extends Exce
                         null,
                         (V8ValueObject) target,
                         classDescriptor.getConstructors(),
+                        classDescriptor.getOverloadResolutionCache(classDescriptor.getConstructors()),
                         V8ValueUtils.convertToVirtualObjects(v8Values)));
             } catch (JavetException e) {
                 throw e;
@@ -69,6 +69,7 @@ public class JavetReflectionProxyFunctionHandler<T, E extends Exception>
                         targetObject,
                         null,
                         classDescriptor.getApplyFunctions(),
+                        classDescriptor.getOverloadResolutionCache(classDescriptor.getApplyFunctions()),
                         V8ValueUtils.convertToVirtualObjects(v8Values)));
             } catch (JavetException e) {
                 throw e;
@@ -16,8 +16,10 @@
 
 package com.caoccao.javet.interop.proxy;
 
+import com.caoccao.javet.enums.V8ProxyMode;
 import com.caoccao.javet.exceptions.JavetError;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.binding.OverloadResolutionCache;
 import com.caoccao.javet.interop.callback.IJavetDirectCallable;
 import com.caoccao.javet.interop.callback.JavetCallbackContext;
 import com.caoccao.javet.interop.callback.JavetCallbackType;
@@ -25,6 +27,7 @@ import com.caoccao.javet.utils.SimpleMap;
 import com.caoccao.javet.utils.V8ValueUtils;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.reference.V8ValueObject;
+import com.caoccao.javet.values.reference.V8ValueProxy;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -39,8 +42,11 @@ final class JavetReflectionProxyInterceptor {
     private static final String METHOD_NAME_INVOKE = "invoke";
     private final String jsMethodName;
     private final List<Method> methods;
+    private final OverloadResolutionCache overloadResolutionCache;
     private final IJavetReflectionObjectFactory reflectionObjectFactory;
+    private final Class<?> targetClass;
     private final Object targetObject;
+    private final V8ProxyMode v8ProxyMode;
 
     /**
      * Instantiates a new Javet reflection proxy interceptor.
@@ -49,19 +55,51 @@ final class JavetReflectionProxyInterceptor {
      * @param targetObject            the target object
      * @param jsMethodName            the JS method name
      * @param methods                 the methods
+     * @param overloadResolutionCache the overload resolution cache
      * @since 0.9.6
      */
     public JavetReflectionProxyInterceptor(
             IJavetReflectionObjectFactory reflectionObjectFactory,
             Object targetObject,
             String jsMethodName,
-            List<Method> methods) {
+            List<Method> methods,
+            OverloadResolutionCache overloadResolutionCache) {
         this.reflectionObjectFactory = reflectionObjectFactory;
         this.jsMethodName = jsMethodName;
         this.methods = methods;
+        this.overloadResolutionCache = overloadResolutionCache;
+        this.targetClass = null;
         this.targetObject = targetObject;
+        this.v8ProxyMode = null;
     }
 
+    /**
+     * Instantiates a new shared Javet reflection proxy interceptor
+     * which resolves the target object from the receiver at call time.
+     *
+     * @param reflectionObjectFactory the reflection object factory
+     * @param v8ProxyMode             the V8 proxy mode
+     * @param targetClass             the target class
+     * @param jsMethodName            the JS method name
+     * @param methods                 the methods
+     * @param overloadResolutionCache the overload resolution cache
+     * @since 5.0.10
+     */
+    public JavetReflectionProxyInterceptor(
+            IJavetReflectionObjectFactory reflectionObjectFactory,
+            V8ProxyMode v8ProxyMode,
+            Class<?> targetClass,
+            String jsMethodName,
+            List<Method> methods,
+            OverloadResolutionCache overloadResolutionCache) {
+        this.reflectionObjectFactory = reflectionObjectFactory;
+        this.jsMethodName = jsMethodName;
+        this.methods = methods;
+        this.overloadResolutionCache = overloadResolutionCache;
+        this.targetClass = targetClass;
+        this.targetObject = null;
+        this.v8ProxyMode = v8ProxyMode;
+    }
 
     /**
      * Gets callback context.
@@ -118,9 +156,10 @@ final class JavetReflectionProxyInterceptor {
         try {
             return BaseJavetReflectionProxyHandler.execute(
                     reflectionObjectFactory,
-                    targetObject,
+                    targetClass == null ? targetObject : resolveTargetObject(thisObject),
                     thisObject,
                     methods,
+                    overloadResolutionCache,
                     V8ValueUtils.convertToVirtualObjects(v8Values));
         } catch (JavetException e) {
             throw e;
@@ -148,6 +187,39 @@ final class JavetReflectionProxyInterceptor {
      * @throws JavetException the javet exception
      */
     public V8Value invokeV8Value(V8Value thisObject, V8Value... v8Values) throws JavetException {
+        if (targetClass != null && !(thisObject instanceof V8ValueProxy)) {
+            throw receiverNotSupported();
+        }
         return thisObject.getV8Runtime().toV8Value(invokeObject((V8ValueObject) thisObject, v8Values));
     }
+
+    private JavetException receiverNotSupported() {
+        return new JavetException(JavetError.CallbackMethodFailure,
+                SimpleMap.of(
+                        JavetError.PARAMETER_METHOD_NAME, jsMethodName,
+                        JavetError.PARAMETER_MESSAGE, "The receiver is not a proxy of " + targetClass.getName()));
+    }
+
+    /**
+     * Resolve the target object from the receiver of the shared function.
+     *
+     * @param thisObject this object
+     * @return the target object
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    private Object resolveTargetObject(V8ValueObject thisObject) throws JavetException {
+        if (!(thisObject instanceof V8ValueProxy)) {
+            throw receiverNotSupported();
+        }
+        Object object = thisObject.getV8Runtime().toObject(thisObject);
+        if (v8ProxyMode == V8ProxyMode.Class) {
+            if (object == targetClass) {
+                return object;
+            }
+        } else if (targetClass.isInstance(object)) {
+            return object;
+        }
+        throw receiverNotSupported();
+    }
 }
@@ -41,6 +41,7 @@ final class ScoredExecutable<E extends AccessibleObject> {
     private final V8ValueObject thisObject;
     private JavetVirtualObject[] javetVirtualObjects;
     private double score;
+    private boolean valueDependent;
 
     /**
      * Instantiates a new Scored executable.
@@ -64,6 +65,12 @@ final class ScoredExecutable<E extends AccessibleObject> {
         this.score = 0;
         this.targetObject = targetObject;
         this.thisObject = thisObject;
+        valueDependent = false;
+    }
+
+    private static boolean isValueDependentConversion(Class<?> type, Object object) {
+        // A string can be converted to a char only if it is not empty.
+        return object instanceof String && (type == char.class || type == Character.class);
     }
 
     /**
@@ -81,22 +88,10 @@ final class ScoredExecutable<E extends AccessibleObject> {
         boolean isExecutableVarArgs = isConstructor
                 ? ((Constructor<?>) executable).isVarArgs()
                 : ((Method) executable).isVarArgs();
-        boolean thisObjectRequired = false;
-        if (!isConstructor) {
-            Method method = (Method) executable;
-            if (method.isAnnotationPresent(V8Function.class)) {
-                V8Function v8Function = method.getAnnotation(V8Function.class);
-                thisObjectRequired = v8Function.thisObjectRequired();
-            }
-        }
-        if (thisObjectRequired) {
-            JavetVirtualObject[] javetVirtualObjectsWithThis = new JavetVirtualObject[javetVirtualObjects.length + 1];
-            javetVirtualObjectsWithThis[0] = new JavetVirtualObject(thisObject);
-            System.arraycopy(javetVirtualObjects, 0, javetVirtualObjectsWithThis, 1, javetVirtualObjects.length);
-            javetVirtualObjects = javetVirtualObjectsWithThis;
-        }
+        prepare();
         final int parameterCount = parameterTypes.length;
         score = 0;
+        valueDependent = false;
         final int length = javetVirtualObjects.length;
         if (length == 0) {
             if (isExecutableVarArgs) {
@@ -133,11 +128,17 @@ final class ScoredExecutable<E extends AccessibleObject> {
                         } else if (reflectionProxyFactory.isSupportedObject(parameterType, v8Value)) {
                             totalScore += 0.85;
                             continue;
-                        } else if (reflectionObjectFactory != null && reflectionObjectFactory.isSupported(parameterType, v8Value)) {
-                            totalScore += 0.5;
-                            continue;
+                        } else if (reflectionObjectFactory != null) {
+                            valueDependent = true;
+                            if (reflectionObjectFactory.isSupported(parameterType, v8Value)) {
+                                totalScore += 0.5;
+                                continue;
+                            }
                         }
                     }
+                    if (isValueDependentConversion(parameterType, object)) {
+                        valueDependent = true;
+                    }
                     if (object == null) {
                         if (parameterType.isPrimitive()) {
                             totalScore = 0;
@@ -175,11 +176,17 @@ final class ScoredExecutable<E extends AccessibleObject> {
                             } else if (reflectionProxyFactory.isSupportedObject(componentType, v8Value)) {
                                 totalScore += 0.85;
                                 continue;
-                            } else if (reflectionObjectFactory != null && reflectionObjectFactory.isSupported(componentType, v8Value)) {
-                                totalScore += 0.5;
-                                continue;
+                            } else if (reflectionObjectFactory != null) {
+                                valueDependent = true;
+                                if (reflectionObjectFactory.isSupported(componentType, v8Value)) {
+                                    totalScore += 0.5;
+                                    continue;
+                                }
                             }
                         }
+                        if (isValueDependentConversion(componentType, object)) {
+                            valueDependent = true;
+                        }
                         if (object == null) {
                             if (componentType.isPrimitive()) {
                                 totalScore = 0;
@@ -218,6 +225,27 @@ final class ScoredExecutable<E extends AccessibleObject> {
         }
     }
 
+    /**
+     * Prepare the arguments by prepending this object if it is required by the executable.
+     * It is called by {@link #calculateScore()} and must be called before {@link #execute()}
+     * if the score is not calculated.
+     *
+     * @since 5.0.10
+     */
+    public void prepare() {
+        if (executable instanceof Method) {
+            Method method = (Method) executable;
+            if (method.isAnnotationPresent(V8Function.class)
+                    && method.getAnnotation(V8Function.class).thisObjectRequired()) {
+                JavetVirtualObject[] javetVirtualObjectsWithThis =
+                        new JavetVirtualObject[javetVirtualObjects.length + 1];
+                javetVirtualObjectsWithThis[0] = new JavetVirtualObject(thisObject);
+                System.arraycopy(javetVirtualObjects, 0, javetVirtualObjectsWithThis, 1, javetVirtualObjects.length);
+                javetVirtualObjects = javetVirtualObjectsWithThis;
+            }
+        }
+    }
+
     /**
      * Execute.
      *
@@ -345,6 +373,16 @@ final class ScoredExecutable<E extends AccessibleObject> {
         }
     }
 
+    /**
+     * Gets executable.
+     *
+     * @return the executable
+     * @since 5.0.10
+     */
+    public E getExecutable() {
+        return executable;
+    }
+
     /**
      * Gets score.
      *
@@ -354,4 +392,17 @@ final class ScoredExecutable<E extends AccessibleObject> {
     public double getScore() {
         return score;
     }
+
+    /**
+     * Is value dependent.
+     * The score is value dependent if it relies on the value rather than the type of the arguments,
+     * e.g. a string argument that is converted to a char, or an argument that is checked by
+     * the reflection object factory. Such a result must not be cached by the argument types.
+     *
+     * @return true : value dependent, false : type dependent
+     * @since 5.0.10
+     */
+    public boolean isValueDependent() {
+        return valueDependent;
+    }
 }
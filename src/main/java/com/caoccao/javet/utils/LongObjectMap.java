@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The type Long object map is an open addressing hash map with primitive long keys.
+ * <p>
+ * It avoids boxing the keys and allocating an entry per mapping so that it is suitable
+ * for hot paths with a large amount of short-lived mappings. Null values are not allowed.
+ * It is not thread-safe.
+ *
+ * @param <V> the value type
+ * @since 5.0.10
+ */
+public final class LongObjectMap<V> {
+    /**
+     * The constant DEFAULT_CAPACITY.
+     *
+     * @since 5.0.10
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private long[] keys;
+    private int mask;
+    private int resizeThreshold;
+    private int shift;
+    private int size;
+    private Object[] values;
+
+    /**
+     * Instantiates a new Long object map.
+     *
+     * @since 5.0.10
+     */
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new Long object map.
+     *
+     * @param initialCapacity the initial capacity
+     * @since 5.0.10
+     */
+    public LongObjectMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative.");
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < MAXIMUM_CAPACITY && (capacity >> 1) + (capacity >> 2) < initialCapacity) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+        size = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+        resizeThreshold = (capacity >> 1) + (capacity >> 2);
+    }
+
+    /**
+     * Removes all entries from this map.
+     *
+     * @since 5.0.10
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     *
+     * @param key the key
+     * @return true : exists, false : not exists
+     * @since 5.0.10
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the value by key.
+     *
+     * @param key the key
+     * @return the value or null if not found
+     * @since 5.0.10
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        final int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    private int hash(long key) {
+        // Fibonacci hashing spreads the aligned native pointers across the whole table.
+        return (int) ((key * GOLDEN_RATIO) >>> shift);
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this map contains no mappings.
+     *
+     * @return true : empty, false : not empty
+     * @since 5.0.10
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Puts the value by key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value or null if not found
+     * @since 5.0.10
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "Value must not be null.");
+        int index = hash(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V oldValue = (V) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value by key.
+     *
+     * @param key the key
+     * @return the removed value or null if not found
+     * @since 5.0.10
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = (V) values[index];
+        values[index] = null;
+        --size;
+        // Backward shift deletion keeps the probe sequences intact without tombstones.
+        int nextIndex = (index + 1) & mask;
+        while (values[nextIndex] != null) {
+            int idealIndex = hash(keys[nextIndex]);
+            if (((nextIndex - idealIndex) & mask) >= ((nextIndex - index) & mask)) {
+                keys[index] = keys[nextIndex];
+                values[index] = values[nextIndex];
+                values[nextIndex] = null;
+                index = nextIndex;
+            }
+            nextIndex = (nextIndex + 1) & mask;
+        }
+        return oldValue;
+    }
+
+    private void resize() {
+        final int capacity = values.length;
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return;
+        }
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity << 1);
+        for (int i = 0; i < capacity; ++i) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return the size
+     * @since 5.0.10
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets a snapshot of the values.
+     *
+     * @return the values
+     * @since 5.0.10
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        List<V> list = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != null) {
+                list.add((V) value);
+            }
+        }
+        return list;
+    }
+}
@@ -20,9 +20,14 @@ import com.caoccao.javet.annotations.CheckReturnValue;
 import com.caoccao.javet.enums.V8ValueType;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.utils.Float16;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.virtual.V8VirtualValue;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
 import java.util.Objects;
 
 /**
@@ -135,6 +140,416 @@ public class V8ValueTypedArray extends V8ValueObject implements IV8ValueTypedArr
         setType(V8ValueType.parse(type));
     }
 
+    /**
+     * Check the range of an array.
+     *
+     * @param arrayLength the array length
+     * @param offset      the offset
+     * @param length      the length
+     * @since 5.0.10
+     */
+    protected static void checkArrayRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") is out of bounds for length " + arrayLength + ".");
+        }
+    }
+
+    /**
+     * Copy from a byte buffer to a slice of the typed array without allocating a Java array.
+     * The bytes are copied as is from the current position of the byte buffer
+     * which is advanced by the copied byte length.
+     *
+     * @param byteBuffer the byte buffer
+     * @param dstOffset  the element offset in the typed array
+     * @param length     the element length
+     * @return true : copied, false : the typed array is invalid
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyFrom(ByteBuffer byteBuffer, int dstOffset, int length) throws JavetException {
+        Objects.requireNonNull(byteBuffer);
+        if (!isValid()) {
+            return false;
+        }
+        final int byteLength = length * sizeInBytes;
+        if (byteBuffer.remaining() < byteLength) {
+            throw new BufferUnderflowException();
+        }
+        try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+            ByteBuffer sliceByteBuffer = sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length);
+            ByteBuffer sourceByteBuffer = byteBuffer.duplicate();
+            sourceByteBuffer.limit(sourceByteBuffer.position() + byteLength);
+            sliceByteBuffer.put(sourceByteBuffer);
+            byteBuffer.position(byteBuffer.position() + byteLength);
+            return true;
+        }
+    }
+
+    /**
+     * Copy from a slice of a byte array to a slice of the typed array.
+     *
+     * @param bytes     the byte array
+     * @param srcOffset the offset in the byte array
+     * @param dstOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyFrom(byte[] bytes, int srcOffset, int dstOffset, int length) throws JavetException {
+        Objects.requireNonNull(bytes);
+        switch (getType()) {
+            case Int8Array:
+            case Uint8Array:
+            case Uint8ClampedArray:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length).put(bytes, srcOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy from a slice of a double array to a slice of the typed array.
+     *
+     * @param doubles   the double array
+     * @param srcOffset the offset in the double array
+     * @param dstOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyFrom(double[] doubles, int srcOffset, int dstOffset, int length) throws JavetException {
+        Objects.requireNonNull(doubles);
+        if (getType() == V8ValueType.Float64Array) {
+            try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length)
+                        .asDoubleBuffer().put(doubles, srcOffset, length);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy from a slice of a float array to a slice of the typed array.
+     * Float16Array is supported by converting the floats to halves.
+     *
+     * @param floats    the float array
+     * @param srcOffset the offset in the float array
+     * @param dstOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyFrom(float[] floats, int srcOffset, int dstOffset, int length) throws JavetException {
+        Objects.requireNonNull(floats);
+        switch (getType()) {
+            case Float16Array:
+                checkArrayRange(floats.length, srcOffset, length);
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    ShortBuffer shortBuffer = sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length).asShortBuffer();
+                    for (int i = 0; i < length; i++) {
+                        shortBuffer.put(i, Float16.toHalf(floats[srcOffset + i]));
+                    }
+                    return true;
+                }
+            case Float32Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length)
+                            .asFloatBuffer().put(floats, srcOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy from a slice of an integer array to a slice of the typed array.
+     *
+     * @param integers  the integer array
+     * @param srcOffset the offset in the integer array
+     * @param dstOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyFrom(int[] integers, int srcOffset, int dstOffset, int length) throws JavetException {
+        Objects.requireNonNull(integers);
+        switch (getType()) {
+            case Int32Array:
+            case Uint32Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length)
+                            .asIntBuffer().put(integers, srcOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy from a slice of a long array to a slice of the typed array.
+     *
+     * @param longs     the long array
+     * @param srcOffset the offset in the long array
+     * @param dstOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyFrom(long[] longs, int srcOffset, int dstOffset, int length) throws JavetException {
+        Objects.requireNonNull(longs);
+        switch (getType()) {
+            case BigInt64Array:
+            case BigUint64Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length)
+                            .asLongBuffer().put(longs, srcOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy from a slice of a short array to a slice of the typed array.
+     *
+     * @param shorts    the short array
+     * @param srcOffset the offset in the short array
+     * @param dstOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyFrom(short[] shorts, int srcOffset, int dstOffset, int length) throws JavetException {
+        Objects.requireNonNull(shorts);
+        switch (getType()) {
+            case Int16Array:
+            case Uint16Array:
+            case Float16Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, dstOffset, length)
+                            .asShortBuffer().put(shorts, srcOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy the whole typed array to a byte buffer without allocating a Java array.
+     *
+     * @param byteBuffer the byte buffer
+     * @return true : copied, false : the typed array is invalid
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(ByteBuffer byteBuffer) throws JavetException {
+        return copyTo(byteBuffer, 0, getLength());
+    }
+
+    /**
+     * Copy a slice of the typed array to a byte buffer without allocating a Java array.
+     * The bytes are copied as is to the current position of the byte buffer
+     * which is advanced by the copied byte length.
+     *
+     * @param byteBuffer the byte buffer
+     * @param srcOffset  the element offset in the typed array
+     * @param length     the element length
+     * @return true : copied, false : the typed array is invalid
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(ByteBuffer byteBuffer, int srcOffset, int length) throws JavetException {
+        Objects.requireNonNull(byteBuffer);
+        if (!isValid()) {
+            return false;
+        }
+        if (byteBuffer.remaining() < length * sizeInBytes) {
+            throw new BufferOverflowException();
+        }
+        try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+            byteBuffer.put(sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length));
+            return true;
+        }
+    }
+
+    /**
+     * Copy a slice of the typed array to a slice of a byte array.
+     *
+     * @param bytes     the byte array
+     * @param dstOffset the offset in the byte array
+     * @param srcOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(byte[] bytes, int dstOffset, int srcOffset, int length) throws JavetException {
+        Objects.requireNonNull(bytes);
+        switch (getType()) {
+            case Int8Array:
+            case Uint8Array:
+            case Uint8ClampedArray:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length).get(bytes, dstOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy a slice of the typed array to a slice of a double array.
+     *
+     * @param doubles   the double array
+     * @param dstOffset the offset in the double array
+     * @param srcOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(double[] doubles, int dstOffset, int srcOffset, int length) throws JavetException {
+        Objects.requireNonNull(doubles);
+        if (getType() == V8ValueType.Float64Array) {
+            try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length)
+                        .asDoubleBuffer().get(doubles, dstOffset, length);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy a slice of the typed array to a slice of a float array.
+     * Float16Array is supported by converting the halves to floats.
+     *
+     * @param floats    the float array
+     * @param dstOffset the offset in the float array
+     * @param srcOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(float[] floats, int dstOffset, int srcOffset, int length) throws JavetException {
+        Objects.requireNonNull(floats);
+        switch (getType()) {
+            case Float16Array:
+                checkArrayRange(floats.length, dstOffset, length);
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    ShortBuffer shortBuffer = sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length).asShortBuffer();
+                    for (int i = 0; i < length; i++) {
+                        floats[dstOffset + i] = Float16.toFloat(shortBuffer.get(i));
+                    }
+                    return true;
+                }
+            case Float32Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length)
+                            .asFloatBuffer().get(floats, dstOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy a slice of the typed array to a slice of an integer array.
+     *
+     * @param integers  the integer array
+     * @param dstOffset the offset in the integer array
+     * @param srcOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(int[] integers, int dstOffset, int srcOffset, int length) throws JavetException {
+        Objects.requireNonNull(integers);
+        switch (getType()) {
+            case Int32Array:
+            case Uint32Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length)
+                            .asIntBuffer().get(integers, dstOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy a slice of the typed array to a slice of a long array.
+     *
+     * @param longs     the long array
+     * @param dstOffset the offset in the long array
+     * @param srcOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(long[] longs, int dstOffset, int srcOffset, int length) throws JavetException {
+        Objects.requireNonNull(longs);
+        switch (getType()) {
+            case BigInt64Array:
+            case BigUint64Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length)
+                            .asLongBuffer().get(longs, dstOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy a slice of the typed array to a slice of a short array.
+     *
+     * @param shorts    the short array
+     * @param dstOffset the offset in the short array
+     * @param srcOffset the element offset in the typed array
+     * @param length    the element length
+     * @return true : copied, false : the type doesn't match
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    public boolean copyTo(short[] shorts, int dstOffset, int srcOffset, int length) throws JavetException {
+        Objects.requireNonNull(shorts);
+        switch (getType()) {
+            case Int16Array:
+            case Uint16Array:
+            case Float16Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    sliceByteBuffer(v8ValueArrayBuffer, srcOffset, length)
+                            .asShortBuffer().get(shorts, dstOffset, length);
+                    return true;
+                }
+            default:
+                return false;
+        }
+    }
+
     /**
      * From byte array.
      *
@@ -177,6 +592,7 @@ public class V8ValueTypedArray extends V8ValueObject implements IV8ValueTypedArr
 
     /**
      * From float array.
+     * Float16Array is supported by converting the floats to halves.
      *
      * @param floats the float array
      * @return the boolean
@@ -185,12 +601,17 @@ public class V8ValueTypedArray extends V8ValueObject implements IV8ValueTypedArr
      */
     public boolean fromFloats(float[] floats) throws JavetException {
         Objects.requireNonNull(floats);
-        if (getType() == V8ValueType.Float32Array) {
-            try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
-                return v8ValueArrayBuffer.fromFloats(floats);
-            }
+        switch (getType()) {
+            case Float16Array:
+                return floats.length > 0 && floats.length == getLength()
+                        && copyFrom(floats, 0, 0, floats.length);
+            case Float32Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    return v8ValueArrayBuffer.fromFloats(floats);
+                }
+            default:
+                return false;
         }
-        return false;
     }
 
     /**
@@ -337,6 +758,28 @@ public class V8ValueTypedArray extends V8ValueObject implements IV8ValueTypedArr
         this.type = type;
     }
 
+    /**
+     * Slice the byte buffer of the given array buffer by the element offset and length
+     * of this typed array. The byte offset of this typed array is taken into account.
+     *
+     * @param v8ValueArrayBuffer the V8 value array buffer of this typed array
+     * @param offset             the element offset
+     * @param length             the element length
+     * @return the byte buffer in the byte order of the array buffer
+     * @throws JavetException the javet exception
+     * @since 5.0.10
+     */
+    protected ByteBuffer sliceByteBuffer(V8ValueArrayBuffer v8ValueArrayBuffer, int offset, int length)
+            throws JavetException {
+        checkArrayRange(getLength(), offset, length);
+        final int startPosition = getByteOffset() + offset * sizeInBytes;
+        ByteBuffer byteBuffer = v8ValueArrayBuffer.getByteBuffer().duplicate();
+        byteBuffer.limit(startPosition + length * sizeInBytes);
+        byteBuffer.position(startPosition);
+        // The byte order is reset to big endian by slice().
+        return byteBuffer.slice().order(v8ValueArrayBuffer.getByteOrder());
+    }
+
     /**
      * To byte array.
      *
@@ -375,18 +818,25 @@ public class V8ValueTypedArray extends V8ValueObject implements IV8ValueTypedArr
 
     /**
      * To float array.
+     * Float16Array is supported by converting the halves to floats.
      *
      * @return the float array
      * @throws JavetException the javet exception
      * @since 0.7.2
      */
     public float[] toFloats() throws JavetException {
-        if (getType() == V8ValueType.Float32Array) {
-            try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
-                return v8ValueArrayBuffer.toFloats();
-            }
+        switch (getType()) {
+            case Float16Array:
+                float[] floats = new float[getLength()];
+                copyTo(floats, 0, 0, floats.length);
+                return floats;
+            case Float32Array:
+                try (V8ValueArrayBuffer v8ValueArrayBuffer = getBuffer()) {
+                    return v8ValueArrayBuffer.toFloats();
+                }
+            default:
+                return null;
         }
-        return null;
     }
 
     /**
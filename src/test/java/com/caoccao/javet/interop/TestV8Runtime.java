@@ -29,11 +29,13 @@ import com.caoccao.javet.interop.options.RuntimeOptions;
 import com.caoccao.javet.interop.options.V8RuntimeOptions;
 import com.caoccao.javet.mock.MockNearHeapLimitCallback;
 import com.caoccao.javet.utils.SimpleList;
+import com.caoccao.javet.values.primitive.V8ValueString;
 import com.caoccao.javet.values.reference.V8ValueObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -150,6 +152,34 @@ public class TestV8Runtime extends BaseTestJavet {
         }
     }
 
+    @Test
+    public void testInternalizedStringCache() throws JavetException {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            assertEquals(1024, v8Runtime.getInternalizedStringCacheCapacity());
+            assertEquals(0, v8Runtime.getInternalizedStringCacheSize());
+            try (V8ValueString v8ValueString = v8Runtime.createV8ValueInternalizedString("a")) {
+                assertEquals("a", v8ValueString.getValue());
+            }
+            assertEquals(1, v8Runtime.getInternalizedStringCacheSize());
+            try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject()) {
+                v8ValueObject.set("a", 1);
+                v8ValueObject.set("b", 2);
+                assertEquals(1, v8ValueObject.getInteger("a"));
+                assertEquals(2, v8ValueObject.getInteger("b"));
+                assertTrue(v8ValueObject.has("a"));
+                assertEquals(2, v8Runtime.getInternalizedStringCacheSize());
+                v8Runtime.setInternalizedStringCacheCapacity(1);
+                assertEquals(1, v8Runtime.getInternalizedStringCacheCapacity());
+                assertEquals(1, v8Runtime.getInternalizedStringCacheSize());
+                v8Runtime.setInternalizedStringCacheCapacity(0);
+                assertEquals(0, v8Runtime.getInternalizedStringCacheSize());
+                v8ValueObject.set("c", 3);
+                assertEquals(3, v8ValueObject.getInteger("c"));
+                assertEquals(0, v8Runtime.getInternalizedStringCacheSize());
+            }
+        }
+    }
+
     @Test
     public void testLowMemoryNotification() throws JavetException {
         try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
@@ -237,6 +267,36 @@ public class TestV8Runtime extends BaseTestJavet {
         }
     }
 
+    @Test
+    public void testReferenceReleaseDeferred() throws JavetException {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            assertFalse(v8Runtime.isReferenceReleaseDeferred());
+            v8Runtime.setReferenceReleaseDeferred(true);
+            assertTrue(v8Runtime.isReferenceReleaseDeferred());
+            for (int i = 0; i < 10; ++i) {
+                v8Runtime.createV8ValueObject().close();
+            }
+            assertEquals(0, v8Runtime.getReferenceCount());
+            assertEquals(10, v8Runtime.getReferenceReleaseQueueSize());
+            // The queue is flushed at the end of an execution.
+            assertEquals(2, v8Runtime.getExecutor("1 + 1").executeInteger());
+            assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+            v8Runtime.createV8ValueObject().close();
+            assertEquals(1, v8Runtime.flushReferenceReleaseQueue());
+            v8Runtime.createV8ValueObject().close();
+            v8Runtime.setReferenceReleaseDeferred(false);
+            assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+            v8Runtime.createV8ValueObject().close();
+            assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+            v8Runtime.setReferenceReleaseDeferred(true);
+            v8Runtime.createV8ValueObject().close();
+            assertEquals(1, v8Runtime.getReferenceReleaseQueueSize());
+            // The queue is flushed when the context is reset.
+            v8Runtime.resetContext();
+            assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+        }
+    }
+
     @Test
     public void testResetContext() throws JavetException {
         try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
@@ -259,6 +319,48 @@ public class TestV8Runtime extends BaseTestJavet {
         }
     }
 
+    @Test
+    public void testSerializeAndDeserialize() throws JavetException {
+        try (V8Runtime v8Runtime1 = v8Host.createV8Runtime();
+             V8Runtime v8Runtime2 = v8Host.createV8Runtime()) {
+            ByteBuffer byteBuffer;
+            try (V8ValueObject v8ValueObject = v8Runtime1.getExecutor(
+                    "({a: 1, b: 'x', c: [1.5, true, null], d: new Map([['e', 2n]]), f: new Uint8Array([3, 4])})")
+                    .execute()) {
+                byteBuffer = v8Runtime1.serialize(v8ValueObject);
+            }
+            assertNotNull(byteBuffer);
+            assertTrue(byteBuffer.remaining() > 0);
+            // Heap byte buffer
+            try (V8ValueObject v8ValueObject = v8Runtime2.deserialize(byteBuffer.duplicate())) {
+                v8Runtime2.getGlobalObject().set("o", v8ValueObject);
+                assertEquals(
+                        "[1,\"x\",1.5,true,null,\"2\",4]",
+                        v8Runtime2.getExecutor(
+                                "JSON.stringify([o.a, o.b, o.c[0], o.c[1], o.c[2], o.d.get('e').toString(), o.f[1]])")
+                                .executeString());
+                v8Runtime2.getGlobalObject().delete("o");
+            }
+            // Direct byte buffer
+            ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(byteBuffer.remaining());
+            directByteBuffer.put(byteBuffer.duplicate()).flip();
+            try (V8ValueObject v8ValueObject = v8Runtime2.deserialize(directByteBuffer)) {
+                assertEquals(1, v8ValueObject.getInteger("a"));
+            }
+            // Primitive values
+            assertEquals("abc", v8Runtime2.deserialize(
+                    v8Runtime1.serialize(v8Runtime1.createV8ValueString("abc"))).toString());
+            // Values that cannot be cloned
+            try (V8ValueObject v8ValueObject = v8Runtime1.getExecutor("({a: () => 1})").execute()) {
+                assertThrows(JavetExecutionException.class, () -> v8Runtime1.serialize(v8ValueObject));
+            }
+            // Values of other V8 runtimes
+            try (V8ValueObject v8ValueObject = v8Runtime1.createV8ValueObject()) {
+                assertThrows(IllegalArgumentException.class, () -> v8Runtime2.serialize(v8ValueObject));
+            }
+        }
+    }
+
     @Test
     public void testV8Snapshot() throws JavetException {
         if (isV8()) {
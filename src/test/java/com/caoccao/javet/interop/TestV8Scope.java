@@ -19,6 +19,8 @@ package com.caoccao.javet.interop;
 import com.caoccao.javet.BaseTestJavetRuntime;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.V8ValueArray;
+import com.caoccao.javet.values.reference.V8ValueObject;
 import org.junit.jupiter.api.Test;
 
 import java.time.ZonedDateTime;
@@ -27,8 +29,77 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class TestV8Scope extends BaseTestJavetRuntime {
+    @Test
+    public void testArenaScope() throws JavetException {
+        V8ValueArray escapedV8ValueArray;
+        try (V8ArenaScope v8ArenaScope = v8Runtime.getV8ArenaScope()) {
+            V8ValueArray v8ValueArray = v8ArenaScope.createV8ValueArray();
+            for (int i = 0; i < 10; ++i) {
+                V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject();
+                v8ValueObject.set("i", i);
+                v8ValueArray.push(v8ValueObject);
+            }
+            v8Runtime.createV8ValueObject().close();
+            assertEquals(11, v8ArenaScope.getReferenceCount());
+            assertEquals(11, v8Runtime.getReferenceCount());
+            try (V8ArenaScope childV8ArenaScope = v8Runtime.getV8ArenaScope()) {
+                childV8ArenaScope.createV8ValueObject();
+                V8ValueObject v8ValueObject = childV8ArenaScope.escape(v8Runtime.createV8ValueObject());
+                assertEquals(1, childV8ArenaScope.getReferenceCount());
+                // The escaped object is handed over to the parent arena scope.
+                assertEquals(12, v8ArenaScope.getReferenceCount());
+                assertFalse(v8ValueObject.isClosed());
+            }
+            assertEquals(12, v8ArenaScope.getReferenceCount());
+            escapedV8ValueArray = v8ArenaScope.escape(v8ValueArray);
+            assertEquals(11, v8ArenaScope.getReferenceCount());
+        }
+        assertFalse(escapedV8ValueArray.isClosed());
+        assertEquals(1, v8Runtime.getReferenceCount());
+        assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+        assertEquals(10, escapedV8ValueArray.getLength());
+        escapedV8ValueArray.close();
+        assertEquals(0, v8Runtime.getReferenceCount());
+        try (V8ArenaScope v8ArenaScope = v8Runtime.getV8ArenaScope()) {
+            v8ArenaScope.createV8ValueObject();
+            v8Runtime.createV8ValueObject();
+            v8ArenaScope.setEscapable();
+        }
+        assertEquals(2, v8Runtime.getReferenceCount());
+        v8Runtime.resetContext();
+        assertEquals(0, v8Runtime.getReferenceCount());
+    }
+
+    @Test
+    public void testReferenceReleaseBatch() throws JavetException {
+        try (V8Scope v8Scope = v8Runtime.getV8Scope()) {
+            for (int i = 0; i < 10; ++i) {
+                v8Scope.createV8ValueObject();
+            }
+            // An open scope doesn't defer the release of the references it doesn't own.
+            v8Runtime.createV8ValueObject().close();
+            assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+            assertEquals(10, v8Runtime.getReferenceCount());
+            try (V8Scope childV8Scope = v8Runtime.getV8Scope()) {
+                childV8Scope.createV8ValueArray();
+            }
+            assertEquals(10, v8Runtime.getReferenceCount());
+        }
+        assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+        assertEquals(0, v8Runtime.getReferenceCount());
+        // A scope that is never closed doesn't turn off the immediate release.
+        V8Scope leakedV8Scope = v8Runtime.getV8Scope();
+        leakedV8Scope.createV8ValueObject();
+        v8Runtime.createV8ValueObject().close();
+        assertEquals(0, v8Runtime.getReferenceReleaseQueueSize());
+        assertEquals(1, v8Runtime.getReferenceCount());
+        leakedV8Scope.close();
+        assertEquals(0, v8Runtime.getReferenceCount());
+    }
+
     @Test
     public void testWithV8Runtime() throws JavetException {
         final AtomicInteger referenceCount = new AtomicInteger(0);
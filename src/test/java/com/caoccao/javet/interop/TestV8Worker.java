@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.BaseTestJavetRuntime;
+import com.caoccao.javet.exceptions.JavetError;
+import com.caoccao.javet.exceptions.JavetException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestV8Worker extends BaseTestJavetRuntime {
+    /**
+     * Create a virtual thread per task executor in JDK 21+, or a cached thread pool otherwise.
+     */
+    protected ExecutorService createExecutorService() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Throwable t) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        V8Worker v8Worker = v8Runtime.getV8Worker();
+        assertSame(v8Worker, v8Runtime.getV8Worker());
+        int result = v8Worker.invoke(runtime -> runtime.getExecutor("1 + 1").executeInteger());
+        assertEquals(2, result);
+        v8Worker.close();
+        assertTrue(v8Worker.isClosed());
+        CompletableFuture<Integer> future = v8Worker.submit(runtime -> 1);
+        ExecutionException executionException = assertThrows(ExecutionException.class, future::get);
+        assertEquals(
+                JavetError.RuntimeAlreadyClosed,
+                ((JavetException) executionException.getCause()).getError());
+    }
+
+    @Test
+    public void testExceptions() throws JavetException {
+        V8Worker v8Worker = v8Runtime.getV8Worker();
+        assertThrows(
+                JavetException.class,
+                () -> v8Worker.invoke(runtime -> {
+                    runtime.getExecutor("a b c").executeVoid();
+                    return null;
+                }));
+        assertThrows(
+                IllegalStateException.class,
+                () -> v8Worker.invoke(runtime -> {
+                    throw new IllegalStateException();
+                }));
+        int result = v8Worker.invoke(runtime -> runtime.getExecutor("1 + 2").executeInteger());
+        assertEquals(3, result);
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        final int taskCount = 1000;
+        V8Worker v8Worker = v8Runtime.getV8Worker();
+        v8Runtime.getExecutor("var count = 0;").executeVoid();
+        ExecutorService executorService = createExecutorService();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < taskCount; ++i) {
+            final int value = i;
+            futures.add(executorService.submit(() -> v8Worker.invoke(runtime -> {
+                assertTrue(v8Worker.isWorkerThread());
+                runtime.getExecutor("++count;").executeVoid();
+                return runtime.getExecutor(value + " * 2").executeInteger();
+            })));
+        }
+        for (int i = 0; i < taskCount; ++i) {
+            assertEquals(i * 2, futures.get(i).get(10, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(taskCount, v8Runtime.getExecutor("count").executeInteger());
+        assertEquals(0, v8Worker.getQueuedTaskCount());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.interop.callback;
+
+import com.caoccao.javet.BaseTestJavetRuntime;
+import com.caoccao.javet.exceptions.JavetError;
+import com.caoccao.javet.exceptions.JavetException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetCachingModuleResolver extends BaseTestJavetRuntime {
+    protected Path rootPath;
+
+    @AfterEach
+    @Override
+    public void afterEach() throws JavetException {
+        super.afterEach();
+        try (Stream<Path> stream = Files.walk(rootPath)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+
+    @BeforeEach
+    @Override
+    public void beforeEach() throws JavetException {
+        super.beforeEach();
+        try {
+            rootPath = Files.createTempDirectory("javet-modules");
+            Files.createDirectories(rootPath.resolve("lib/c"));
+            write("main.js", "import { a } from './lib/a.js';\n" +
+                    "import { b } from 'lib/b';\n" +
+                    "import { c } from './lib/c';\n" +
+                    "export const sum = a + b + c;");
+            write("lib/a.js", "import { b } from '../lib/b.js';\nexport const a = b + 1;");
+            write("lib/b.js", "export const b = 2;");
+            write("lib/c/index.js", "export const c = 4;");
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    protected int executeSum() throws JavetException {
+        v8Runtime.getExecutor("import { sum } from './main.js'; globalThis.sum = sum;")
+                .setModule(true).setResourceName("./entry.js").executeVoid();
+        return v8Runtime.getGlobalObject().getInteger("sum");
+    }
+
+    @Test
+    public void testPreloadAndInvalidation() throws JavetException, IOException {
+        JavetCachingModuleResolver resolver = new JavetCachingModuleResolver(rootPath);
+        v8Runtime.setV8ModuleResolver(resolver);
+        assertEquals(4, resolver.preload(v8Runtime, "main.js"));
+        assertEquals(0, resolver.preload(v8Runtime, "/main.js"));
+        assertEquals(4, resolver.getCachedModuleCount());
+        assertTrue(v8Runtime.containsV8Module(rootPath.toAbsolutePath().normalize().resolve("lib/b.js").toString()));
+        assertTrue(resolver.cachedModuleMap.values().stream().allMatch(m -> m.getCodeCache() != null));
+        assertEquals(9, executeSum());
+        // The cached source code and code cache are reused by another module map.
+        v8Runtime.removeV8Modules();
+        assertEquals(4, resolver.preload(v8Runtime, "main"));
+        assertFalse(v8Runtime.isCodeCacheRejected());
+        assertEquals(9, executeSum());
+        // The modified module is read again.
+        write("lib/b.js", "export const b = 20;");
+        v8Runtime.removeV8Modules();
+        assertEquals(4, resolver.preload(v8Runtime, "main.js"));
+        assertEquals(45, executeSum());
+        assertEquals(4, resolver.getCachedModuleCount());
+        v8Runtime.removeV8Modules();
+        resolver.clear();
+        assertEquals(0, resolver.getCachedModuleCount());
+    }
+
+    @Test
+    public void testResolution() throws JavetException {
+        JavetCachingModuleResolver resolver = new JavetCachingModuleResolver(rootPath);
+        Path root = resolver.getRootPath();
+        assertEquals(root.resolve("lib/b.js").toString(), resolver.getAbsoluteResourceName(v8Runtime, "lib/b", null));
+        assertEquals(root.resolve("lib/b.js").toString(), resolver.getAbsoluteResourceName(v8Runtime, "./lib/b.js", null));
+        assertEquals(root.resolve("lib/c/index.js").toString(), resolver.getAbsoluteResourceName(v8Runtime, "/lib/c", null));
+        assertNull(resolver.getAbsoluteResourceName(v8Runtime, "../main.js", null));
+        assertNull(resolver.getAbsoluteResourceName(v8Runtime, "node:fs", null));
+        assertNull(resolver.getAbsoluteResourceName(v8Runtime, "./missing.js", null));
+        assertNull(resolver.resolve(v8Runtime, "./missing.js", null));
+        JavetException exception = assertThrows(JavetException.class, () -> resolver.preload(v8Runtime, "missing.js"));
+        assertEquals(JavetError.ModuleNotFound, exception.getError());
+    }
+
+    protected void write(String resourceName, String sourceCode) throws IOException {
+        Files.write(rootPath.resolve(resourceName), sourceCode.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -34,10 +34,53 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestV8FunctionCallback extends BaseTestJavetRuntime {
+    @Test
+    public void testMethodInvoker() throws Throwable {
+        JavetMethodInvoker instanceInvoker = new JavetMethodInvoker(
+                MockMethods.class.getMethod("join", String.class, int[].class));
+        assertTrue(instanceInvoker.isMethodHandleEnabled());
+        assertTrue(instanceInvoker.isVarArgs());
+        assertEquals(int.class, instanceInvoker.getComponentType());
+        assertEquals("a:1,2", instanceInvoker.invoke(new MockMethods(), new Object[]{"a", new int[]{1, 2}}));
+        JavetMethodInvoker staticInvoker = new JavetMethodInvoker(
+                MockMethods.class.getMethod("add", int.class, int.class));
+        assertTrue(staticInvoker.isMethodHandleEnabled());
+        assertEquals(3, staticInvoker.invoke(null, new Object[]{1, 2}));
+        assertEquals(3, staticInvoker.invoke(null, new Object[]{(short) 1, (byte) 2}));
+        assertThrows(IllegalArgumentException.class, () -> staticInvoker.invoke(null, new Object[]{1L, 2}));
+        assertThrows(IllegalArgumentException.class, () -> staticInvoker.invoke(null, new Object[]{"1", 2}));
+        assertThrows(IllegalArgumentException.class, () -> staticInvoker.invoke(null, new Object[]{null, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> instanceInvoker.invoke(new Object(), new Object[]{"a", new int[]{1, 2}}));
+        assertThrows(IllegalArgumentException.class,
+                () -> instanceInvoker.invoke(new MockMethods(), new Object[]{1, new int[]{1, 2}}));
+        JavetMethodInvoker voidInvoker = new JavetMethodInvoker(MockMethods.class.getMethod("fail"));
+        assertThrows(IllegalStateException.class, () -> voidInvoker.invoke(new MockMethods(), new Object[]{}));
+    }
+
+    @Test
+    public void testReflectionCallback() throws JavetException {
+        try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject()) {
+            MockMethods mockMethods = new MockMethods();
+            v8ValueObject.bind(mockMethods);
+            v8Runtime.getGlobalObject().set("m", v8ValueObject);
+            assertEquals("a:", v8Runtime.getExecutor("m.join('a')").executeString());
+            assertEquals("a:1,2,3", v8Runtime.getExecutor("m.join('a', 1, 2, 3)").executeString());
+            assertEquals(3, v8Runtime.getExecutor("m.add(1, 2)").executeInteger());
+            assertEquals(1, v8Runtime.getExecutor("m.add(1)").executeInteger());
+            assertEquals("object", v8Runtime.getExecutor("m.self()").executeString());
+            assertThrows(JavetException.class, () -> v8Runtime.getExecutor("m.fail()").executeVoid());
+            v8Runtime.getGlobalObject().delete("m");
+        } finally {
+            v8Runtime.lowMemoryNotification();
+        }
+    }
+
     @Test
     @Tag("performance")
     public void testReceiveCallbackMultipleThreaded() {
@@ -86,6 +129,28 @@ public class TestV8FunctionCallback extends BaseTestJavetRuntime {
         }
     }
 
+    public static class MockMethods {
+        @V8Function
+        public static int add(int a, int b) {
+            return a + b;
+        }
+
+        @V8Function
+        public void fail() {
+            throw new IllegalStateException("fail");
+        }
+
+        @V8Function
+        public String join(String prefix, int... values) {
+            return prefix + ":" + Arrays.stream(values).mapToObj(Integer::toString).collect(Collectors.joining(","));
+        }
+
+        @V8Function(thisObjectRequired = true)
+        public String self(V8Value thisObject) {
+            return thisObject instanceof V8ValueObject ? "object" : "other";
+        }
+    }
+
     static class Counter implements Runnable {
         private final int id;
         private final JSRuntimeType jsRuntimeType;
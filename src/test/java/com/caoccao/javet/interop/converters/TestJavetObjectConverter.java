@@ -33,6 +33,7 @@ import com.caoccao.javet.utils.SimpleList;
 import com.caoccao.javet.utils.SimpleMap;
 import com.caoccao.javet.utils.SimpleSet;
 import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.primitive.V8ValueString;
 import com.caoccao.javet.values.reference.*;
 import org.junit.jupiter.api.Test;
 
@@ -111,6 +112,24 @@ public class TestJavetObjectConverter extends BaseTestJavetRuntime {
             assertEquals(true, v8ValueArray.getBoolean(0));
             assertEquals(false, v8ValueArray.getBoolean(1));
         }
+        try (V8ValueArray v8ValueArray = converter.toV8Value(v8Runtime, new boolean[0])) {
+            assertEquals(0, v8ValueArray.getLength());
+        }
+        // char[]
+        try (V8ValueArray v8ValueArray = converter.toV8Value(
+                v8Runtime, new char[]{'a', '\u4e2d', 'b'})) {
+            assertEquals(3, v8ValueArray.getLength());
+            assertEquals("a", v8ValueArray.getString(0));
+            assertEquals("\u4e2d", v8ValueArray.getString(1));
+            assertEquals("b", v8ValueArray.getString(2));
+        }
+        converter.getConfig().setCharArrayToString(true);
+        try (V8ValueString v8ValueString = converter.toV8Value(
+                v8Runtime, new char[]{'a', '\u4e2d', 'b'})) {
+            assertEquals("a\u4e2db", v8ValueString.getValue());
+        } finally {
+            converter.getConfig().setCharArrayToString(false);
+        }
         // String[]
         try (V8ValueArray v8ValueArray = converter.toV8Value(
                 v8Runtime, new String[]{"abc", "def"})) {
@@ -203,6 +222,85 @@ public class TestJavetObjectConverter extends BaseTestJavetRuntime {
         v8Runtime.setConverter(originalConverter);
     }
 
+    @Test
+    public void testDeepRead() throws JavetException {
+        String codeString = "const x = {\n" +
+                "  a: 1, b: 1.5, c: true, d: null, e: undefined, f: 'abc', g: '\u4e2d\u6587\ud800', h: 123n,\n" +
+                "  i: [1, 'x', [2, {j: 3}], , null],\n" +
+                "  k: new Map([['l', 1], [2, 'm']]),\n" +
+                "  n: new Set(['o', 4]),\n" +
+                "  p: new Date(1700000000000),\n" +
+                "  q: () => 1,\n" +
+                "  0: 'zero',\n" +
+                "}; x;";
+        JavetObjectConverter converter = new JavetObjectConverter();
+        assertTrue(converter.getConfig().isDeepReadEnabled());
+        Map<String, Object> deepReadMap;
+        try (V8Value v8Value = v8Runtime.getExecutor(codeString).execute()) {
+            deepReadMap = converter.toObject(v8Value);
+            converter.getConfig().setDeepReadEnabled(false);
+            Map<String, Object> map = converter.toObject(v8Value);
+            converter.getConfig().setDeepReadEnabled(true);
+            assertEquals(map, deepReadMap);
+        }
+        assertEquals(1, deepReadMap.get("a"));
+        assertEquals(1.5D, (Double) deepReadMap.get("b"), 0.001D);
+        assertEquals(true, deepReadMap.get("c"));
+        assertTrue(deepReadMap.containsKey("d"));
+        assertNull(deepReadMap.get("d"));
+        assertFalse(deepReadMap.containsKey("e"));
+        assertEquals("abc", deepReadMap.get("f"));
+        assertEquals("\u4e2d\u6587\ud800", deepReadMap.get("g"));
+        assertEquals(123L, deepReadMap.get("h"));
+        assertEquals(SimpleList.of(1, "x", SimpleList.of(2, SimpleMap.of("j", 3)), null, null), deepReadMap.get("i"));
+        assertInstanceOf(JavetEntityMap.class, deepReadMap.get("k"));
+        assertEquals(SimpleMap.of("l", 1, "2", "m"), deepReadMap.get("k"));
+        assertEquals(SimpleSet.of("o", 4), deepReadMap.get("n"));
+        assertEquals(JavetDateTimeUtils.toZonedDateTime(1700000000000L), deepReadMap.get("p"));
+        assertFalse(deepReadMap.containsKey("q"));
+        assertEquals("zero", deepReadMap.get("0"));
+        v8Runtime.resetContext();
+        // Values that cannot be encoded are converted individually.
+        try (V8ValueObject v8ValueObject = v8Runtime.getExecutor("({r: Symbol('s')})").execute()) {
+            Map<String, Object> map = converter.toObject(v8ValueObject);
+            assertEquals("s", ((JavetEntitySymbol) map.get("r")).getDescription());
+        }
+        // Typed arrays
+        try (V8ValueArray v8ValueArray = v8Runtime.getExecutor(
+                "[new Int8Array([1, 2]), new Int16Array([3, 4]), new Int32Array([5, 6]),\n" +
+                        "new Float32Array([1.5]), new Float64Array([2.5]), new BigInt64Array([7n])]").execute()) {
+            List<Object> list = converter.toObject(v8ValueArray);
+            assertArrayEquals(new byte[]{1, 2}, (byte[]) list.get(0));
+            assertArrayEquals(new short[]{3, 4}, (short[]) list.get(1));
+            assertArrayEquals(new int[]{5, 6}, (int[]) list.get(2));
+            assertArrayEquals(new float[]{1.5F}, (float[]) list.get(3), 0.001F);
+            assertArrayEquals(new double[]{2.5D}, (double[]) list.get(4), 0.001D);
+            assertArrayEquals(new long[]{7L}, (long[]) list.get(5));
+        }
+        // Exceptions thrown by getters are propagated.
+        try (V8ValueObject v8ValueObject = v8Runtime.getExecutor(
+                "({ get a() { throw new Error('test'); } })").execute()) {
+            assertThrows(JavetException.class, () -> converter.toObject(v8ValueObject));
+        }
+    }
+
+    @Test
+    public void testDeepReadWithMultipleSelfLinks() throws JavetException {
+        // The traversal must stop at the first depth overflow, otherwise it visits 3^20 nodes.
+        JavetObjectConverter converter = new JavetObjectConverter();
+        assertTrue(converter.getConfig().isDeepReadEnabled());
+        try (V8ValueObject v8ValueObject = v8Runtime.getExecutor(
+                "const a = {x: 1}; a.b = a; a.c = a; a.d = a; a;").execute()) {
+            JavetConverterException e = assertThrows(
+                    JavetConverterException.class,
+                    () -> converter.toObject(v8ValueObject));
+            assertEquals(JavetError.ConverterCircularStructure, e.getError());
+            assertEquals(
+                    JavetConverterConfig.DEFAULT_MAX_DEPTH,
+                    e.getParameters().get(JavetError.PARAMETER_MAX_DEPTH));
+        }
+    }
+
     @Test
     public void testError() throws JavetException {
         IJavetConverter converter = new JavetObjectConverter();
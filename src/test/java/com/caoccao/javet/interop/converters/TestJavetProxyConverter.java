@@ -33,6 +33,7 @@ import com.caoccao.javet.interfaces.IJavetUniFunction;
 import com.caoccao.javet.interop.V8Runtime;
 import com.caoccao.javet.interop.binding.ClassDescriptor;
 import com.caoccao.javet.interop.binding.ClassDescriptorStore;
+import com.caoccao.javet.interop.binding.OverloadResolutionCache;
 import com.caoccao.javet.interop.proxy.IJavetDirectProxyHandler;
 import com.caoccao.javet.mock.MockCallbackReceiver;
 import com.caoccao.javet.mock.MockDirectProxyFunctionHandler;
@@ -1741,6 +1742,38 @@ public class TestJavetProxyConverter extends BaseTestJavetRuntime {
         v8Runtime.getGlobalObject().delete("m");
     }
 
+    @Test
+    public void testOverloadResolutionCache() throws JavetException {
+        v8Runtime.getGlobalObject().set("o", new TestOverloadClass());
+        assertEquals(
+                "[\"int:1\",\"String:a\",\"double:1.5\",\"int:2\",\"String:b\",\"double:2.5\"]",
+                v8Runtime.getExecutor("JSON.stringify([1, 'a', 1.5, 2, 'b', 2.5].map(v => o.test(v)))")
+                        .executeString());
+        ClassDescriptor classDescriptor = ClassDescriptorStore.getObjectMap().get(TestOverloadClass.class);
+        assertNotNull(classDescriptor);
+        OverloadResolutionCache overloadResolutionCache =
+                classDescriptor.getOverloadResolutionCache(classDescriptor.getMethodsMap().get("test"));
+        assertEquals(3, overloadResolutionCache.size());
+        assertEquals("int:3", v8Runtime.getExecutor("o.test(3)").executeString());
+        assertEquals(3, overloadResolutionCache.size());
+        v8Runtime.getGlobalObject().delete("o");
+    }
+
+    @Test
+    public void testOverloadResolutionCacheWithValueDependentArguments() throws JavetException {
+        v8Runtime.getGlobalObject().set("o", new TestOverloadDerivedClass());
+        assertEquals(
+                "[\"String:1\",\"char:a1\",\"String:2\",\"char:b2\"]",
+                v8Runtime.getExecutor("JSON.stringify([['', 1], ['a', 1], ['', 2], ['b', 2]].map(a => o.test(...a)))")
+                        .executeString());
+        ClassDescriptor classDescriptor = ClassDescriptorStore.getObjectMap().get(TestOverloadDerivedClass.class);
+        assertNotNull(classDescriptor);
+        OverloadResolutionCache overloadResolutionCache =
+                classDescriptor.getOverloadResolutionCache(classDescriptor.getMethodsMap().get("test"));
+        assertEquals(0, overloadResolutionCache.size(), "The value dependent overloads must not be cached.");
+        v8Runtime.getGlobalObject().delete("o");
+    }
+
     @Test
     public void testPath() throws JavetException {
         Path path = new File("/tmp/i-am-not-accessible").toPath();
@@ -1839,6 +1872,35 @@ public class TestJavetProxyConverter extends BaseTestJavetRuntime {
         }
     }
 
+    @Test
+    public void testProxyMethodCache() throws JavetException {
+        javetProxyConverter.getConfig().setProxyMethodCacheEnabled(true);
+        try {
+            StringBuilder a = new StringBuilder("a");
+            StringBuilder b = new StringBuilder("b");
+            v8Runtime.getGlobalObject().set("a", a);
+            v8Runtime.getGlobalObject().set("b", b);
+            assertTrue(v8Runtime.getExecutor("a.append === b.append").executeBoolean());
+            v8Runtime.getExecutor("a.append('0'); b.append('0');").executeVoid();
+            final int callbackContextCount = v8Runtime.getCallbackContextCount();
+            v8Runtime.getExecutor("for (let i = 0; i < 100; ++i) { a.append(i % 10); }").executeVoid();
+            assertEquals(callbackContextCount, v8Runtime.getCallbackContextCount());
+            assertEquals(102, a.length());
+            assertEquals("b0", b.toString());
+            assertThrows(
+                    JavetExecutionException.class,
+                    () -> v8Runtime.getExecutor("const f = a.append; f('x');").executeVoid());
+            v8Runtime.getGlobalObject().delete("a");
+            v8Runtime.getGlobalObject().delete("b");
+            v8Runtime.resetContext();
+            v8Runtime.getGlobalObject().set("a", a);
+            assertEquals(103, v8Runtime.getExecutor("a.append('x').length()").executeInteger());
+            v8Runtime.getGlobalObject().delete("a");
+        } finally {
+            javetProxyConverter.getConfig().setProxyMethodCacheEnabled(false);
+        }
+    }
+
     @Test
     public void testSet() throws JavetException {
         try {
@@ -2451,6 +2513,32 @@ public class TestJavetProxyConverter extends BaseTestJavetRuntime {
         }
     }
 
+    public static class TestOverloadBaseClass {
+        public String test(String value, long count) {
+            return "String:" + value + count;
+        }
+    }
+
+    public static class TestOverloadClass {
+        public String test(int value) {
+            return "int:" + value;
+        }
+
+        public String test(String value) {
+            return "String:" + value;
+        }
+
+        public String test(double value) {
+            return "double:" + value;
+        }
+    }
+
+    public static class TestOverloadDerivedClass extends TestOverloadBaseClass {
+        public String test(char value, int count) {
+            return "char:" + value + count;
+        }
+    }
+
     public static class TestPojo {
         public String name;
 
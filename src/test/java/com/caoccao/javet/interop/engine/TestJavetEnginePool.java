@@ -19,6 +19,7 @@ package com.caoccao.javet.interop.engine;
 import com.caoccao.javet.BaseTestJavet;
 import com.caoccao.javet.annotations.V8Function;
 import com.caoccao.javet.enums.V8AllocationSpace;
+import com.caoccao.javet.exceptions.JavetError;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.exceptions.JavetExecutionException;
 import com.caoccao.javet.exceptions.JavetTerminatedException;
@@ -26,8 +27,11 @@ import com.caoccao.javet.interfaces.IJavetAnonymous;
 import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.interop.V8Guard;
 import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.engine.listeners.JavetEnginePoolMetricsListener;
+import com.caoccao.javet.interop.engine.listeners.JavetLatencyHistogram;
 import com.caoccao.javet.interop.engine.observers.IV8RuntimeObserver;
 import com.caoccao.javet.interop.executors.IV8Executor;
+import com.caoccao.javet.interop.executors.V8MemoryCodeCacheStore;
 import com.caoccao.javet.interop.monitoring.V8HeapSpaceStatistics;
 import com.caoccao.javet.interop.monitoring.V8HeapStatistics;
 import com.caoccao.javet.utils.JavetDateTimeUtils;
@@ -167,6 +171,245 @@ public class TestJavetEnginePool extends BaseTestJavet {
         javetLogger.logInfo("Completed.");
     }
 
+    @Test
+    public void testExecuteAsync() throws Exception {
+        final int taskCount = javetEngineConfig.getPoolMaxSize() * 4;
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < taskCount; ++i) {
+            final int value = i;
+            futures.add(javetEnginePool.executeAsync(
+                    v8Runtime -> v8Runtime.getExecutor(value + " + 1").executeInteger()));
+        }
+        for (int i = 0; i < taskCount; ++i) {
+            assertEquals(i + 1, futures.get(i).get(10, TimeUnit.SECONDS));
+        }
+        CompletableFuture<Integer> failedFuture = javetEnginePool.executeAsync(
+                v8Runtime -> v8Runtime.getExecutor("a b c").executeInteger());
+        ExecutionException executionException = assertThrows(
+                ExecutionException.class,
+                () -> failedFuture.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(JavetException.class, executionException.getCause());
+        runAndWait(TEST_MAX_TIMEOUT, () -> 0 == javetEnginePool.getActiveEngineCount());
+    }
+
+    @Test
+    public void testGetEngineAsync() throws Exception {
+        List<IJavetEngine<?>> engines = new ArrayList<>();
+        for (int i = 0; i < javetEngineConfig.getPoolMaxSize(); ++i) {
+            engines.add(javetEnginePool.getEngineAsync().get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(javetEngineConfig.getPoolMaxSize(), javetEnginePool.getActiveEngineCount());
+        CompletableFuture<? extends IJavetEngine<?>> pendingFuture = javetEnginePool.getEngineAsync();
+        assertFalse(pendingFuture.isDone());
+        engines.remove(0).close();
+        try (IJavetEngine<?> engine = pendingFuture.get(10, TimeUnit.SECONDS)) {
+            assertEquals(2, engine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+        }
+        javetEngineConfig.setWaitForEngineTimeoutMillis(1);
+        final int remainingEngineCount = javetEngineConfig.getPoolMaxSize() - engines.size();
+        for (int i = 0; i < remainingEngineCount; ++i) {
+            engines.add(javetEnginePool.getEngineAsync().get(10, TimeUnit.SECONDS));
+        }
+        CompletableFuture<? extends IJavetEngine<?>> expiredFuture = javetEnginePool.getEngineAsync();
+        ExecutionException executionException = assertThrows(
+                ExecutionException.class,
+                () -> expiredFuture.get(10, TimeUnit.SECONDS));
+        assertEquals(
+                JavetError.EngineNotAvailable,
+                ((JavetException) executionException.getCause()).getError());
+        JavetResourceUtils.safeClose(engines);
+    }
+
+    @Test
+    public void testFairModeHandOver() throws Exception {
+        javetEngineConfig.setWaitForEngineFair(true);
+        final int poolMaxSize = javetEngineConfig.getPoolMaxSize();
+        List<IJavetEngine<?>> engines = new ArrayList<>();
+        for (int i = 0; i < poolMaxSize; ++i) {
+            engines.add(javetEnginePool.getEngine());
+        }
+        assertEquals(poolMaxSize, javetEnginePool.getActiveEngineCount());
+        final int threadCount = 3;
+        final List<Integer> sequence = new ArrayList<>();
+        final AtomicInteger failureCount = new AtomicInteger(0);
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; ++i) {
+            final int threadIndex = i;
+            threads[i] = new Thread(() -> {
+                try (IJavetEngine<?> engine = javetEnginePool.getEngine(Duration.ofSeconds(10))) {
+                    synchronized (sequence) {
+                        sequence.add(threadIndex);
+                    }
+                    assertEquals(2, engine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                    logger.logError(e, "Failed to execute. Error: {0}.", e.getMessage());
+                }
+            });
+            threads[i].start();
+            final int expectedQueueLength = i + 1;
+            runAndWait(TEST_MAX_TIMEOUT, () -> javetEnginePool.semaphore.getQueueLength() == expectedQueueLength);
+        }
+        // Release the engines one by one to verify the FIFO order.
+        for (int i = 0; i < threadCount; ++i) {
+            final int expectedSize = i + 1;
+            engines.remove(0).close();
+            runAndWait(TEST_MAX_TIMEOUT, () -> {
+                synchronized (sequence) {
+                    return sequence.size() >= expectedSize;
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        JavetResourceUtils.safeClose(engines);
+        assertEquals(0, failureCount.get());
+        assertEquals(IntStream.range(0, threadCount).boxed().collect(Collectors.toList()), sequence);
+    }
+
+    @Test
+    public void testFairModeMixedWaiters() throws Exception {
+        javetEngineConfig.setWaitForEngineFair(true);
+        final int poolMaxSize = javetEngineConfig.getPoolMaxSize();
+        List<IJavetEngine<?>> engines = new ArrayList<>();
+        for (int i = 0; i < poolMaxSize; ++i) {
+            engines.add(javetEnginePool.getEngine());
+        }
+        final CountDownLatch engineAcquiredLatch = new CountDownLatch(1);
+        final CountDownLatch engineReleaseLatch = new CountDownLatch(1);
+        final AtomicInteger failureCount = new AtomicInteger(0);
+        Thread thread = new Thread(() -> {
+            try (IJavetEngine<?> engine = javetEnginePool.getEngine(Duration.ofSeconds(10))) {
+                engineAcquiredLatch.countDown();
+                assertEquals(2, engine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+                assertTrue(engineReleaseLatch.await(10, TimeUnit.SECONDS));
+            } catch (Throwable t) {
+                failureCount.incrementAndGet();
+                logger.logError(t, "Failed to execute. Error: {0}.", t.getMessage());
+            }
+        });
+        thread.start();
+        runAndWait(TEST_MAX_TIMEOUT, () -> javetEnginePool.semaphore.getQueueLength() == 1);
+        CompletableFuture<? extends IJavetEngine<?>> pendingFuture = javetEnginePool.getEngineAsync();
+        assertFalse(pendingFuture.isDone());
+        // The engine is handed over to the waiting thread that comes first, not the pending future.
+        engines.remove(0).close();
+        assertTrue(engineAcquiredLatch.await(10, TimeUnit.SECONDS));
+        assertFalse(pendingFuture.isDone());
+        // The pending future is completed as soon as the waiting thread releases the engine.
+        engineReleaseLatch.countDown();
+        thread.join();
+        try (IJavetEngine<?> engine = pendingFuture.get(10, TimeUnit.SECONDS)) {
+            assertEquals(2, engine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+        }
+        JavetResourceUtils.safeClose(engines);
+        assertEquals(0, failureCount.get());
+    }
+
+    @Test
+    public void testFairModeTimeout() throws Exception {
+        javetEngineConfig.setWaitForEngineFair(true);
+        List<IJavetEngine<?>> engines = new ArrayList<>();
+        for (int i = 0; i < javetEngineConfig.getPoolMaxSize(); ++i) {
+            engines.add(javetEnginePool.getEngine());
+        }
+        try {
+            JavetException exception = assertThrows(
+                    JavetException.class,
+                    () -> javetEnginePool.getEngine(Duration.ofMillis(10)));
+            assertEquals(JavetError.EngineNotAvailable, exception.getError());
+        } finally {
+            JavetResourceUtils.safeClose(engines);
+        }
+        try (IJavetEngine<?> engine = javetEnginePool.getEngine(Duration.ofMillis(10))) {
+            assertEquals(2, engine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+        }
+    }
+
+    @Test
+    public void testHealthReset() throws Exception {
+        javetEngineConfig.setEngineMaxReferenceCount(1);
+        V8Runtime v8Runtime;
+        try (IJavetEngine<?> engine = javetEnginePool.getEngine()) {
+            v8Runtime = engine.getV8Runtime();
+            // The V8 value object is leaked on purpose.
+            assertNotNull(v8Runtime.createV8ValueObject());
+            assertEquals(1, v8Runtime.getReferenceCount());
+        }
+        javetEnginePool.wakeUpDaemon();
+        runAndWait(TEST_MAX_TIMEOUT, () -> v8Runtime.getReferenceCount() == 0);
+        runAndWait(TEST_MAX_TIMEOUT, () -> javetEnginePool.getIdleEngineCount() == 1);
+        assertFalse(v8Runtime.isClosed());
+    }
+
+    @Test
+    public void testHealthRecycle() throws Exception {
+        javetEngineConfig.setEngineMaxUsedCount(2);
+        JavetEngine<?> firstEngine;
+        try (IJavetEngine<?> engine = javetEnginePool.getEngine()) {
+            firstEngine = (JavetEngine<?>) engine;
+            assertEquals(1, firstEngine.getUsage().getEngineUsedCount());
+        }
+        try (IJavetEngine<?> engine = javetEnginePool.getEngine()) {
+            assertSame(firstEngine, engine);
+            assertEquals(2, firstEngine.getUsage().getEngineUsedCount());
+            // The used count survives the context reset so that the engine can still be recycled.
+            engine.resetContext();
+            assertEquals(2, firstEngine.getUsage().getEngineUsedCount());
+            assertTrue(firstEngine.getUsage().getHealthScore(javetEngineConfig) >= 1D);
+        }
+        javetEnginePool.wakeUpDaemon();
+        runAndWait(TEST_MAX_TIMEOUT, firstEngine::isClosed);
+        runAndWait(TEST_MAX_TIMEOUT, () -> javetEnginePool.getIdleEngineCount() == 0);
+        assertEquals(javetEngineConfig.getPoolMaxSize(), javetEnginePool.getReleasedEngineCount());
+        try (IJavetEngine<?> engine = javetEnginePool.getEngine()) {
+            assertNotSame(firstEngine, engine);
+            assertEquals(1, ((JavetEngine<?>) engine).getUsage().getEngineUsedCount());
+        }
+    }
+
+    @Test
+    public void testMetricsListener() throws Exception {
+        javetEngineConfig.setWaitForEngineFair(true);
+        JavetEnginePoolMetricsListener listener = new JavetEnginePoolMetricsListener(javetEnginePool);
+        javetEnginePool.addListener(listener);
+        List<IJavetEngine<?>> engines = new ArrayList<>();
+        try {
+            for (int i = 0; i < javetEngineConfig.getPoolMaxSize(); ++i) {
+                engines.add(javetEnginePool.getEngine());
+            }
+            assertEquals(javetEngineConfig.getPoolMaxSize(), listener.getActiveEngineCount());
+            assertEquals(0, listener.getIdleEngineCount());
+            assertEquals(0, listener.getReleasedEngineCount());
+            assertThrows(JavetException.class, () -> javetEnginePool.getEngine(Duration.ofMillis(10)));
+        } finally {
+            JavetResourceUtils.safeClose(engines);
+        }
+        final long engineCount = javetEngineConfig.getPoolMaxSize();
+        assertEquals(engineCount, listener.getAcquiredCount());
+        assertEquals(engineCount, listener.getCreatedCount());
+        assertEquals(engineCount, listener.getReleasedCount());
+        assertEquals(1L, listener.getNotAvailableCount());
+        assertEquals(0L, listener.getClosedCount());
+        assertEquals(0L, listener.getResetCount());
+        JavetLatencyHistogram acquisitionLatencyHistogram = listener.getAcquisitionLatencyHistogram();
+        assertEquals(engineCount + 1, acquisitionLatencyHistogram.getCount());
+        assertTrue(acquisitionLatencyHistogram.getMaxNanoTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(
+                acquisitionLatencyHistogram.getMaxNanoTime(),
+                acquisitionLatencyHistogram.getPercentileNanoTime(100D));
+        assertEquals(engineCount, listener.getCheckoutDurationHistogram().getCount());
+        listener.reset();
+        assertEquals(0L, listener.getAcquiredCount());
+        assertEquals(0L, acquisitionLatencyHistogram.getCount());
+        assertEquals(0L, acquisitionLatencyHistogram.getPercentileNanoTime(50D));
+        javetEnginePool.removeListener(listener);
+        try (IJavetEngine<?> ignored = javetEnginePool.getEngine()) {
+            assertEquals(0L, listener.getAcquiredCount());
+        }
+    }
+
     @Test
     public void testMultiThreadedExecutionBelowMaxSize() throws Exception {
         final int threadCount = javetEngineConfig.getPoolMaxSize() - javetEngineConfig.getPoolMinSize();
@@ -261,6 +504,44 @@ public class TestJavetEnginePool extends BaseTestJavet {
         assertStatistics();
     }
 
+    @Test
+    public void testSharedCodeCache() throws Exception {
+        assertNull(javetEnginePool.getCodeCacheStore());
+        javetEnginePool.close();
+        javetEngineConfig = new JavetEngineConfig()
+                .setCodeCacheStore(new V8MemoryCodeCacheStore())
+                .setJSRuntimeType(v8Host.getJSRuntimeType())
+                .setPoolDaemonCheckIntervalMillis(TEST_POOL_DAEMON_CHECK_INTERVAL_MILLIS)
+                .setPoolMinSize(2)
+                .setPoolMaxSize(2);
+        javetEnginePool = new JavetEnginePool<>(javetEngineConfig);
+        JavetEngineCodeCacheStore codeCacheStore = javetEnginePool.getCodeCacheStore();
+        assertNotNull(codeCacheStore);
+        assertSame(javetEngineConfig.getCodeCacheStore(), codeCacheStore.getCodeCacheStore());
+        final String codeString = "const a = [1, 2, 3]; a.map(x => x * 2).reduce((x, y) => x + y, 0);";
+        try (IJavetEngine<?> engine1 = javetEnginePool.getEngine();
+             IJavetEngine<?> engine2 = javetEnginePool.getEngine()) {
+            assertNotSame(engine1.getV8Runtime(), engine2.getV8Runtime());
+            assertEquals(12, engine1.getV8Runtime().getExecutor(codeString).executeInteger());
+            assertEquals(0, codeCacheStore.getHitCount());
+            assertEquals(1, codeCacheStore.getMissCount());
+            assertEquals(1, codeCacheStore.size());
+            assertEquals(12, engine2.getV8Runtime().getExecutor(codeString).executeInteger());
+            assertEquals(1, codeCacheStore.getHitCount());
+            assertEquals(1, codeCacheStore.getMissCount());
+            assertEquals(0, codeCacheStore.getRejectedCount());
+            assertEquals(1, codeCacheStore.size());
+        }
+        // Only the code cache rejected by V8 is counted, not the one removed explicitly.
+        assertFalse(codeCacheStore.remove("unknown"));
+        assertEquals(0, codeCacheStore.getRejectedCount());
+        codeCacheStore.onRejected("unknown");
+        assertEquals(1, codeCacheStore.getRejectedCount());
+        codeCacheStore.resetCounters();
+        assertEquals(0, codeCacheStore.getHitCount());
+        assertEquals(0, codeCacheStore.getRejectedCount());
+    }
+
     @Test
     public void testSingleThreadedExecution() throws Exception {
         final List<CompletableFuture<V8HeapStatistics>> v8HeapStatisticsFutureList = new ArrayList<>();
@@ -378,6 +659,52 @@ public class TestJavetEnginePool extends BaseTestJavet {
         assertEquals(expectedSequence, newSequence);
     }
 
+    @Test
+    public void testWarmUp() throws Exception {
+        final int poolWarmSize = 2;
+        final AtomicInteger warmUpCount = new AtomicInteger(0);
+        final AtomicInteger daemonWarmUpCount = new AtomicInteger(0);
+        final CountDownLatch daemonWarmUpLatch = new CountDownLatch(1);
+        javetEnginePool.close();
+        javetEngineConfig = new JavetEngineConfig()
+                .setJSRuntimeType(v8Host.getJSRuntimeType())
+                .setPoolDaemonCheckIntervalMillis(TEST_POOL_DAEMON_CHECK_INTERVAL_MILLIS)
+                .setPoolMaxSize(poolWarmSize + 1)
+                .setPoolWarmSize(poolWarmSize)
+                .setWarmUpCallback(v8Runtime -> {
+                    v8Runtime.getExecutor("globalThis.warm = 1;").executeVoid();
+                    if (JavetEnginePool.JAVET_DAEMON_THREAD_NAME.equals(Thread.currentThread().getName())) {
+                        daemonWarmUpCount.incrementAndGet();
+                        try {
+                            assertTrue(daemonWarmUpLatch.await(10, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            fail(e);
+                        }
+                    }
+                    warmUpCount.incrementAndGet();
+                });
+        javetEnginePool = new JavetEnginePool<>(javetEngineConfig);
+        runAndWait(TEST_MAX_TIMEOUT, () -> daemonWarmUpCount.get() == 1);
+        // The requests are not blocked by the engine that is being warmed up in the daemon.
+        try (IJavetEngine<?> engine = javetEnginePool.getEngine()) {
+            assertEquals(1, engine.getV8Runtime().getExecutor("warm").executeInteger());
+        }
+        assertEquals(1, warmUpCount.get());
+        daemonWarmUpLatch.countDown();
+        runAndWait(TEST_MAX_TIMEOUT, () -> javetEnginePool.getIdleEngineCount() == poolWarmSize);
+        assertEquals(poolWarmSize, warmUpCount.get());
+        assertEquals(0, javetEnginePool.getActiveEngineCount());
+        try (IJavetEngine<?> engine = javetEnginePool.getEngine()) {
+            V8Runtime v8Runtime = engine.getV8Runtime();
+            assertEquals(poolWarmSize, warmUpCount.get(), "The engine should not be created on the request path.");
+            assertEquals(1, v8Runtime.getExecutor("warm").executeInteger());
+            engine.resetContext();
+            assertEquals(poolWarmSize + 1, warmUpCount.get());
+            assertEquals(1, v8Runtime.getExecutor("warm").executeInteger());
+        }
+    }
+
     @Test
     public void testWithoutTermination() throws JavetException {
         final long timeoutMillis = 10000;
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021-2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLongObjectMap {
+    @Test
+    public void testBasicOperations() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(0L, "zero"));
+        assertNull(map.put(-1L, "minus one"));
+        assertNull(map.put(Long.MAX_VALUE, "max"));
+        assertEquals("zero", map.put(0L, "0"));
+        assertEquals(3, map.size());
+        assertEquals("0", map.get(0L));
+        assertEquals("minus one", map.get(-1L));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertNull(map.get(1L));
+        assertTrue(map.containsKey(-1L));
+        assertFalse(map.containsKey(1L));
+        assertEquals("minus one", map.remove(-1L));
+        assertNull(map.remove(-1L));
+        assertEquals(2, map.size());
+        assertEquals(2, map.values().size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0L));
+        assertThrows(NullPointerException.class, () -> map.put(1L, null));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectMap<String>(-1));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        LongObjectMap<Long> map = new LongObjectMap<>(4);
+        Map<Long, Long> expectedMap = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; ++i) {
+            // Aligned keys in a narrow range mimic the native handles and produce many collisions.
+            long key = (long) random.nextInt(4096) << 4;
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expectedMap.put(key, (long) i), map.put(key, (long) i));
+                    break;
+                case 1:
+                    assertEquals(expectedMap.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expectedMap.get(key), map.get(key));
+                    break;
+            }
+            assertEquals(expectedMap.size(), map.size());
+        }
+        for (Map.Entry<Long, Long> entry : expectedMap.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertEquals(expectedMap.size(), map.values().size());
+    }
+}
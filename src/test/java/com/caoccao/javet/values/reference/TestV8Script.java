@@ -19,9 +19,28 @@ package com.caoccao.javet.values.reference;
 import com.caoccao.javet.BaseTestJavetRuntime;
 import com.caoccao.javet.exceptions.JavetCompilationException;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8ScriptOrigin;
 import com.caoccao.javet.interop.executors.IV8Executor;
+import com.caoccao.javet.interop.executors.V8DirectoryCodeCacheStore;
+import com.caoccao.javet.interop.executors.V8FileExecutor;
+import com.caoccao.javet.interop.executors.V8MemoryCodeCacheStore;
+import com.caoccao.javet.interop.executors.V8PathExecutor;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestV8Script extends BaseTestJavetRuntime {
@@ -51,6 +70,97 @@ public class TestV8Script extends BaseTestJavetRuntime {
         assertEquals(2, iV8Executor.executeInteger());
     }
 
+    @Test
+    public void testCodeCacheStore() throws JavetException, IOException {
+        String codeString = "1 + 1";
+        V8MemoryCodeCacheStore memoryCodeCacheStore = new V8MemoryCodeCacheStore(2);
+        IV8Executor iV8Executor = v8Runtime.getExecutor(codeString).setCodeCacheStore(memoryCodeCacheStore);
+        assertEquals(2, iV8Executor.executeInteger());
+        assertEquals(1, memoryCodeCacheStore.size());
+        assertEquals(2, iV8Executor.executeInteger());
+        assertFalse(v8Runtime.isCodeCacheRejected());
+        try (V8Script v8Script = iV8Executor.compileV8Script()) {
+            assertEquals(2, v8Script.executeInteger());
+        }
+        assertEquals(1, memoryCodeCacheStore.size());
+        // The rejected code cache is replaced.
+        List<String> keys = new ArrayList<>();
+        memoryCodeCacheStore = new V8MemoryCodeCacheStore() {
+            @Override
+            public synchronized void put(String key, byte[] cachedData) {
+                keys.add(key);
+                super.put(key, cachedData);
+            }
+        };
+        v8Runtime.setCodeCacheStore(memoryCodeCacheStore);
+        iV8Executor = v8Runtime.getExecutor(codeString);
+        assertSame(memoryCodeCacheStore, iV8Executor.getCodeCacheStore());
+        assertEquals(2, iV8Executor.executeInteger());
+        assertEquals(1, keys.size());
+        String key = keys.get(0);
+        byte[] validCodeCache = memoryCodeCacheStore.get(key);
+        assertNotNull(validCodeCache);
+        memoryCodeCacheStore.put(key, new byte[]{1, 2, 3});
+        assertEquals(2, iV8Executor.executeInteger());
+        assertTrue(v8Runtime.isCodeCacheRejected());
+        assertEquals(2, keys.size());
+        assertNotNull(memoryCodeCacheStore.get(key));
+        v8Runtime.setCodeCacheStore(null);
+        // The directory code cache store survives the store instance.
+        Path directory = Files.createTempDirectory("javet-code-cache");
+        try {
+            V8DirectoryCodeCacheStore directoryCodeCacheStore = new V8DirectoryCodeCacheStore(directory);
+            assertEquals(2, v8Runtime.getExecutor(codeString).setCodeCacheStore(directoryCodeCacheStore).executeInteger());
+            assertEquals(1, directoryCodeCacheStore.size());
+            directoryCodeCacheStore = new V8DirectoryCodeCacheStore(directory);
+            assertEquals(2, v8Runtime.getExecutor(codeString).setCodeCacheStore(directoryCodeCacheStore).executeInteger());
+            assertFalse(v8Runtime.isCodeCacheRejected());
+            directoryCodeCacheStore.clear();
+            assertEquals(0, directoryCodeCacheStore.size());
+        } finally {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testCompileV8ScriptAsync() throws Exception {
+        String resourceName = "./test.js";
+        try (V8Script v8Script = v8Runtime.compileV8ScriptAsync(
+                "const a = 1; a + 1;", new V8ScriptOrigin(resourceName)).get(10, TimeUnit.SECONDS)) {
+            assertEquals(resourceName, v8Script.getResourceName());
+            assertEquals(2, v8Script.executeInteger());
+        }
+        byte[] bytes = "[1, 2, 3].length".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuffer.put(bytes);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<V8Script>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(v8Runtime.compileV8ScriptAsync(byteBuffer, new V8ScriptOrigin(), executorService));
+            }
+            for (CompletableFuture<V8Script> future : futures) {
+                try (V8Script v8Script = future.get(10, TimeUnit.SECONDS)) {
+                    assertEquals(3, v8Script.executeInteger());
+                }
+            }
+            // The compilation error is surfaced by the future.
+            ExecutionException executionException = assertThrows(
+                    ExecutionException.class,
+                    () -> v8Runtime.compileV8ScriptAsync("const a = ;", new V8ScriptOrigin(), executorService)
+                            .get(10, TimeUnit.SECONDS));
+            assertInstanceOf(JavetCompilationException.class, executionException.getCause());
+        } finally {
+            executorService.shutdown();
+        }
+        // The rejection of the executor is surfaced by the future.
+        ExecutionException executionException = assertThrows(
+                ExecutionException.class,
+                () -> v8Runtime.compileV8ScriptAsync("1 + 1", new V8ScriptOrigin(), executorService)
+                        .get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, executionException.getCause());
+    }
+
     @Test
     public void testExecute() throws JavetException {
         String resourceName = "./test.js";
@@ -63,6 +173,72 @@ public class TestV8Script extends BaseTestJavetRuntime {
         }
     }
 
+    @Test
+    public void testExecuteByteBuffer() throws JavetException {
+        byte[] bytes = "const a = 1; a + 1;".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuffer.put(bytes);
+        assertEquals(2, v8Runtime.execute(byteBuffer, null, new V8ScriptOrigin(), true).asInt());
+        try (V8Script v8Script = v8Runtime.compileV8Script(byteBuffer, null, new V8ScriptOrigin(), true)) {
+            assertEquals(2, v8Script.executeInteger());
+        }
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> v8Runtime.execute(ByteBuffer.wrap(bytes), null, new V8ScriptOrigin(), true));
+        // Only the bytes between the position and the limit are executed.
+        byte[] paddedBytes = "[0]; 1 + 2; [0];".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer paddedByteBuffer = ByteBuffer.allocateDirect(paddedBytes.length);
+        paddedByteBuffer.put(paddedBytes);
+        paddedByteBuffer.position(5);
+        paddedByteBuffer.limit(11);
+        assertEquals(3, v8Runtime.execute(paddedByteBuffer, null, new V8ScriptOrigin(), true).asInt());
+        assertEquals(5, paddedByteBuffer.position());
+        assertEquals(11, paddedByteBuffer.limit());
+    }
+
+    @Test
+    public void testExecuteMappedFile() throws JavetException, IOException {
+        StringBuilder sb = new StringBuilder("let a = 0;\n");
+        while (sb.length() < 32 * 1024) {
+            sb.append("a += 1;\n");
+        }
+        sb.append("a;");
+        int count = (sb.length() - "let a = 0;\na;".length()) / "a += 1;\n".length();
+        Path asciiPath = Files.createTempFile("javet-ascii", ".js");
+        // The mapped file cannot be deleted on Windows until the byte buffer is garbage collected.
+        asciiPath.toFile().deleteOnExit();
+        Path unicodePath = Files.createTempFile("javet-unicode", ".js");
+        try {
+            Files.write(asciiPath, sb.toString().getBytes(StandardCharsets.UTF_8));
+            // The script buffer mapping is disabled by default.
+            V8PathExecutor v8PathExecutor = (V8PathExecutor) v8Runtime.getExecutor(asciiPath);
+            assertFalse(v8PathExecutor.isScriptBufferMappingEnabled());
+            assertEquals(count, v8PathExecutor.executeInteger());
+            V8FileExecutor v8FileExecutor = (V8FileExecutor) v8Runtime.getExecutor(asciiPath.toFile());
+            assertFalse(v8FileExecutor.isScriptBufferMappingEnabled());
+            assertEquals(count, v8FileExecutor.executeInteger());
+            assertEquals(count, ((V8PathExecutor) v8Runtime.getExecutor(asciiPath))
+                    .setScriptBufferMappingEnabled(true).executeInteger());
+            assertEquals(count, ((V8FileExecutor) v8Runtime.getExecutor(asciiPath.toFile()))
+                    .setScriptBufferMappingEnabled(true).executeInteger());
+            IV8Executor iV8Executor = ((V8PathExecutor) v8Runtime.getExecutor(asciiPath))
+                    .setScriptBufferMappingEnabled(true);
+            assertEquals(sb.toString(), iV8Executor.getScriptString());
+            try (V8Script v8Script = iV8Executor.compileV8Script()) {
+                assertEquals(count, v8Script.executeInteger());
+            }
+            // The non-ASCII script falls back to the UTF-8 string.
+            sb.append(" '\u00e9\u4e2d'.length + a;");
+            Files.write(unicodePath, sb.toString().getBytes(StandardCharsets.UTF_8));
+            assertEquals(count + 2, ((V8PathExecutor) v8Runtime.getExecutor(unicodePath))
+                    .setScriptBufferMappingEnabled(true).executeInteger());
+            assertEquals(count + 2, ((V8FileExecutor) v8Runtime.getExecutor(unicodePath.toFile()))
+                    .setScriptBufferMappingEnabled(true).executeInteger());
+        } finally {
+            Files.deleteIfExists(unicodePath);
+        }
+    }
+
     @Test
     public void testUnexpectedIdentifier() throws JavetException {
         try (V8Script v8Script = v8Runtime.getExecutor("a b c").compileV8Script()) {
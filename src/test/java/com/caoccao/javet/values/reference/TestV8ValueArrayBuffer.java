@@ -18,12 +18,22 @@ package com.caoccao.javet.values.reference;
 
 import com.caoccao.javet.BaseTestJavetRuntime;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interop.V8Runtime;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestV8ValueArrayBuffer extends BaseTestJavetRuntime {
@@ -48,6 +58,68 @@ public class TestV8ValueArrayBuffer extends BaseTestJavetRuntime {
         }
     }
 
+    @Test
+    public void testCallerOwnedByteBufferToV8() throws IOException, JavetException {
+        final int byteLength = 1024;
+        File file = File.createTempFile("javet-", ".bin");
+        try {
+            byte[] bytes = new byte[byteLength];
+            IntStream.range(0, byteLength).forEach(i -> bytes[i] = (byte) (i % 100));
+            Files.write(file.toPath(), bytes);
+            List<ByteBuffer> releasedByteBuffers = new ArrayList<>();
+            try (FileChannel fileChannel = FileChannel.open(
+                    file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, byteLength);
+                ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(byteLength);
+                directByteBuffer.put(bytes);
+                try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+                    // V8 may write to the backing store, so the read-only byte buffers are rejected.
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> v8Runtime.createV8ValueArrayBuffer(
+                                    directByteBuffer.asReadOnlyBuffer(), releasedByteBuffers::add));
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> v8Runtime.createV8ValueSharedArrayBuffer(
+                                    directByteBuffer.asReadOnlyBuffer(), releasedByteBuffers::add));
+                    // The exception thrown by the release callback is logged instead of being propagated.
+                    try (V8ValueArrayBuffer v8ValueArrayBuffer = v8Runtime.createV8ValueArrayBuffer(
+                            ByteBuffer.allocateDirect(16),
+                            byteBuffer -> {
+                                throw new IllegalStateException("Release callback failed.");
+                            })) {
+                        assertEquals(16, v8ValueArrayBuffer.getByteLength());
+                    }
+                    try (V8ValueArrayBuffer v8ValueArrayBuffer =
+                                 v8Runtime.createV8ValueArrayBuffer(mappedByteBuffer, releasedByteBuffers::add)) {
+                        assertEquals("[object ArrayBuffer]", v8ValueArrayBuffer.toString());
+                        assertEquals(byteLength, v8ValueArrayBuffer.getByteLength());
+                        v8Runtime.getGlobalObject().set("a", v8ValueArrayBuffer);
+                    }
+                    try (V8ValueSharedArrayBuffer v8ValueSharedArrayBuffer =
+                                 v8Runtime.createV8ValueSharedArrayBuffer(directByteBuffer, releasedByteBuffers::add)) {
+                        assertEquals("[object SharedArrayBuffer]", v8ValueSharedArrayBuffer.toString());
+                        assertEquals(byteLength, v8ValueSharedArrayBuffer.getByteLength());
+                        v8Runtime.getGlobalObject().set("b", v8ValueSharedArrayBuffer);
+                    }
+                    int expectedSum = IntStream.range(0, byteLength).map(i -> i % 100).sum();
+                    assertEquals(expectedSum, v8Runtime.getExecutor(
+                            "new Uint8Array(a).reduce((x, y) => x + y, 0)").executeInteger());
+                    assertEquals(expectedSum, v8Runtime.getExecutor(
+                            "new Uint8Array(b).reduce((x, y) => x + y, 0)").executeInteger());
+                }
+                assertEquals(2, releasedByteBuffers.size());
+                assertTrue(releasedByteBuffers.stream().anyMatch(byteBuffer -> byteBuffer == mappedByteBuffer));
+                assertTrue(releasedByteBuffers.stream().anyMatch(byteBuffer -> byteBuffer == directByteBuffer));
+            }
+        } finally {
+            // The mapped file cannot be deleted on Windows until the mapped byte buffer is garbage collected.
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
     @Test
     public void testLengthFromV8() throws JavetException {
         final int byteLength = 16;
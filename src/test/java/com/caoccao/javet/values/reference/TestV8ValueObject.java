@@ -176,6 +176,53 @@ public class TestV8ValueObject extends BaseTestJavetRuntime {
         }
     }
 
+    @Test
+    public void testCreateFromEntries() throws JavetException {
+        String[] keys = new String[]{"a", "b", "c", "d", "e", "f", "g", "h"};
+        try (V8ValueObject v8ValueObjectChild = v8Runtime.createV8ValueObject()) {
+            v8ValueObjectChild.set("x", 1);
+            V8Value[] values = new V8Value[]{
+                    v8Runtime.createV8ValueInteger(1),
+                    v8Runtime.createV8ValueBoolean(true),
+                    v8Runtime.createV8ValueDouble(1.23D),
+                    v8Runtime.createV8ValueLong(2L),
+                    v8Runtime.createV8ValueString("abc"),
+                    v8Runtime.createV8ValueNull(),
+                    v8Runtime.createV8ValueUndefined(),
+                    v8ValueObjectChild,
+            };
+            try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject(keys, values)) {
+                v8Runtime.getGlobalObject().set("o", v8ValueObject);
+                assertEquals(1, v8ValueObject.getInteger("a"));
+                assertTrue(v8ValueObject.getBoolean("b"));
+                assertEquals(1.23D, v8ValueObject.getDouble("c"), 0.001D);
+                assertEquals(2L, v8ValueObject.getLong("d"));
+                assertEquals("abc", v8ValueObject.getString("e"));
+                assertTrue(v8Runtime.getExecutor("o.f === null").executeBoolean());
+                assertTrue(v8Runtime.getExecutor("'g' in o && o.g === undefined").executeBoolean());
+                assertEquals(1, v8Runtime.getExecutor("o.h.x").executeInteger());
+                v8Runtime.getGlobalObject().delete("o");
+            }
+        }
+        try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject(new String[0], new V8Value[0])) {
+            assertEquals("{}", v8ValueObject.toJsonString());
+        }
+        try (V8ValueObject v8ValueObjectPrototype = v8Runtime.createV8ValueObject();
+             V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject(
+                     new String[]{"__proto__", "a"},
+                     new V8Value[]{v8ValueObjectPrototype, v8Runtime.createV8ValueInteger(1)})) {
+            // __proto__ sets the prototype instead of defining an own property.
+            v8ValueObjectPrototype.set("x", 2);
+            v8Runtime.getGlobalObject().set("o", v8ValueObject);
+            assertEquals("[\"a\"]", v8Runtime.getExecutor("JSON.stringify(Object.keys(o))").executeString());
+            assertEquals(2, v8Runtime.getExecutor("o.x").executeInteger());
+            v8Runtime.getGlobalObject().delete("o");
+        }
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> v8Runtime.createV8ValueObject(keys, new V8Value[0]));
+    }
+
     @Test
     public void testEquals() throws JavetException {
         try (V8ValueObject v8ValueObject1 = v8Runtime.getExecutor(
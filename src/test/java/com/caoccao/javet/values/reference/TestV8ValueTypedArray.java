@@ -22,11 +22,13 @@ import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.utils.Float16;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.stream.IntStream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestV8ValueTypedArray extends BaseTestJavetRuntime {
 
@@ -75,6 +77,41 @@ public class TestV8ValueTypedArray extends BaseTestJavetRuntime {
         }
     }
 
+    @Test
+    public void testCopyFromAndCopyTo() throws JavetException {
+        final int length = 8;
+        try (V8ValueTypedArray v8ValueTypedArray = v8Runtime.getExecutor(
+                "const a = new Int32Array(16); a.subarray(4, 4 + " + length + ");").execute()) {
+            assertEquals(length, v8ValueTypedArray.getLength());
+            assertEquals(16, v8ValueTypedArray.getByteOffset());
+            assertTrue(v8ValueTypedArray.copyFrom(new int[]{0, 1, 2, 3, 4, 5}, 2, 3, 4));
+            assertEquals(
+                    "[0,0,0,0,0,0,0,2,3,4,5,0,0,0,0,0]",
+                    v8Runtime.getExecutor("JSON.stringify(Array.from(a));").executeString());
+            int[] integers = new int[]{-1, -1, -1, -1};
+            assertTrue(v8ValueTypedArray.copyTo(integers, 1, 3, 3));
+            assertArrayEquals(new int[]{-1, 2, 3, 4}, integers);
+            assertFalse(v8ValueTypedArray.copyTo(new long[length], 0, 0, length));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> v8ValueTypedArray.copyTo(integers, 0, 6, 3));
+            ByteBuffer byteBuffer = ByteBuffer.allocateDirect(length * 4).order(ByteOrder.nativeOrder());
+            assertTrue(v8ValueTypedArray.copyTo(byteBuffer));
+            assertEquals(0, byteBuffer.remaining());
+            byteBuffer.flip();
+            assertEquals(2, byteBuffer.getInt(12));
+            byteBuffer.putInt(0, 100);
+            assertTrue(v8ValueTypedArray.copyFrom(byteBuffer, 0, 1));
+            assertEquals(4, byteBuffer.position());
+            assertEquals(100, v8Runtime.getExecutor("a[4];").executeInteger());
+        }
+        try (V8ValueTypedArray v8ValueTypedArray = v8Runtime.createV8ValueTypedArray(V8ValueType.Float16Array, 4)) {
+            assertTrue(v8ValueTypedArray.copyFrom(new float[]{1.5f, -2f}, 0, 1, 2));
+            float[] floats = new float[4];
+            assertTrue(v8ValueTypedArray.copyTo(floats, 0, 0, 4));
+            assertArrayEquals(new float[]{0f, 1.5f, -2f, 0f}, floats, 0.001F);
+        }
+    }
+
     @Test
     public void testDouble() throws JavetException {
         final int length = 16;
@@ -185,6 +222,9 @@ public class TestV8ValueTypedArray extends BaseTestJavetRuntime {
                         v8Runtime.getExecutor("b[" + j + "];").executeDouble(),
                         0.001F);
             }
+            assertArrayEquals(floats, Arrays.copyOf(v8ValueTypedArray.toFloats(), floats.length), 0.01F);
+            assertTrue(v8ValueTypedArray.fromFloats(new float[]{1f, 2f, 3f, 4f, 5f, 6f, 7f}));
+            assertEquals(7.0, v8Runtime.getExecutor("b[6];").executeDouble(), 0.001F);
         }
         resetContext();
     }